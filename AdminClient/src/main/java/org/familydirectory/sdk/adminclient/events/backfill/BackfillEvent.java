@@ -6,22 +6,27 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Predicate;
 import org.familydirectory.assets.ddb.enums.DdbTable;
+import org.familydirectory.assets.ddb.enums.email.EmailTableParameter;
 import org.familydirectory.assets.ddb.member.Member;
 import org.familydirectory.assets.ddb.models.member.MemberRecord;
+import org.familydirectory.assets.ddb.utils.DdbUtils;
 import org.familydirectory.sdk.adminclient.events.model.MemberEventHelper;
 import org.familydirectory.sdk.adminclient.utility.SdkClientProvider;
 import org.familydirectory.sdk.adminclient.utility.pickers.MemberPicker;
 import org.familydirectory.sdk.adminclient.utility.pickers.model.PickerModel;
 import org.jetbrains.annotations.NotNull;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.PutRequest;
 import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
 
 public final
@@ -58,25 +63,55 @@ class BackfillEvent implements MemberEventHelper {
                                                          .getSdkClient(DynamoDbClient.class);
 
         final List<MemberRecord> entries = this.memberPicker.getEntries();
-        final Deque<List<WriteRequest>> pending = new ArrayDeque<>();
-        List<WriteRequest> writeRequests = new ArrayList<>();
-        for (int i = 0; i < entries.size(); ++i) {
-            if (i > 0 && i % 25 == 0) {
-                pending.push(Collections.unmodifiableList(writeRequests));
-                writeRequests = new ArrayList<>();
+        final Map<String, String> emailMembers = new HashMap<>();
+        for (final MemberRecord entry : entries) {
+            final String email = entry.member()
+                                      .getEmail();
+            if (nonNull(email)) {
+                final String claimingMemberId = emailMembers.putIfAbsent(email, entry.id()
+                                                                                    .toString());
+                if (nonNull(claimingMemberId)) {
+                    throw new IllegalStateException("EMAIL %s claimed by both <MEMBER,`%s`> and <MEMBER,`%s`>".formatted(email, claimingMemberId, entry.id()));
+                }
             }
-            entries.get(i).member().setLastModifiedNow();
-            writeRequests.add(WriteRequest.builder()
-                                          .putRequest(PutRequest.builder()
-                                                                .item(Member.retrieveDdbMap(entries.get(i)))
-                                                                .build())
-                                          .build());
         }
-        pending.push(Collections.unmodifiableList(writeRequests));
+
+        final List<WriteRequest> memberWriteRequests = new ArrayList<>();
+        for (final MemberRecord entry : entries) {
+            entry.member()
+                 .setLastModifiedNow();
+            memberWriteRequests.add(WriteRequest.builder()
+                                                .putRequest(PutRequest.builder()
+                                                                      .item(Member.retrieveDdbMap(entry))
+                                                                      .build())
+                                                .build());
+        }
+        batchWriteItems(dbClient, DdbTable.MEMBER, memberWriteRequests);
+
+//      Seed the EMAIL sentinels that Member writes claim and release
+        final List<WriteRequest> emailWriteRequests = new ArrayList<>();
+        emailMembers.forEach((email, memberId) -> emailWriteRequests.add(WriteRequest.builder()
+                                                                                     .putRequest(PutRequest.builder()
+                                                                                                           .item(Map.of(EmailTableParameter.ID.jsonFieldName(), AttributeValue.fromS(email),
+                                                                                                                        EmailTableParameter.MEMBER.jsonFieldName(), AttributeValue.fromS(memberId)))
+                                                                                                           .build())
+                                                                                     .build()));
+        batchWriteItems(dbClient, DdbTable.EMAIL, emailWriteRequests);
+    }
+
+    private static
+    void batchWriteItems (final @NotNull DynamoDbClient dbClient, final @NotNull DdbTable ddbTable, final @NotNull List<WriteRequest> writeRequests) {
+        if (writeRequests.isEmpty()) {
+            return;
+        }
+        final Deque<List<WriteRequest>> pending = new ArrayDeque<>();
+        for (int i = 0; i < writeRequests.size(); i += DdbUtils.DDB_BATCH_WRITE_MAX_ITEMS) {
+            pending.push(Collections.unmodifiableList(writeRequests.subList(i, Math.min(i + DdbUtils.DDB_BATCH_WRITE_MAX_ITEMS, writeRequests.size()))));
+        }
 
         while(!pending.isEmpty()) {
             dbClient.batchWriteItem(BatchWriteItemRequest.builder()
-                                                         .requestItems(Map.of(DdbTable.MEMBER.name(), pending.pop()))
+                                                         .requestItems(Map.of(ddbTable.name(), pending.pop()))
                                                          .build())
                     .unprocessedItems()
                     .values()
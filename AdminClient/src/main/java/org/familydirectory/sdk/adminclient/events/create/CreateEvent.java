@@ -10,15 +10,14 @@ import org.familydirectory.assets.ddb.enums.DdbTable;
 import org.familydirectory.assets.ddb.enums.family.FamilyTableParameter;
 import org.familydirectory.assets.ddb.member.Member;
 import org.familydirectory.assets.ddb.models.member.MemberRecord;
+import org.familydirectory.assets.ddb.utils.DdbUtils;
 import org.familydirectory.sdk.adminclient.enums.create.CreateOptions;
 import org.familydirectory.sdk.adminclient.events.model.MemberEventHelper;
-import org.familydirectory.sdk.adminclient.utility.SdkClientProvider;
 import org.familydirectory.sdk.adminclient.utility.pickers.MemberPicker;
 import org.familydirectory.sdk.adminclient.utility.pickers.SpousePicker;
 import org.familydirectory.sdk.adminclient.utility.pickers.model.PickerModel;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
-import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.Put;
 import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
@@ -103,12 +102,7 @@ class CreateEvent implements MemberEventHelper {
             default -> throw new IllegalStateException("Unhandled CreateOption: %s".formatted(this.createOption.name()));
         }
 
-        MemberEventHelper.validateMemberEmailIsUnique(memberRecord.member()
-                                                                  .getEmail());
-
-        SdkClientProvider.getSdkClientProvider()
-                         .getSdkClient(DynamoDbClient.class)
-                         .transactWriteItems(this.buildCreateTransaction(memberRecord, id));
+        MemberEventHelper.transactWriteMemberItems(this.buildCreateTransaction(memberRecord, id));
 
         this.memberPicker.addEntry(memberRecord);
         if (!this.createOption.equals(CreateOptions.SPOUSE)) {
@@ -174,6 +168,9 @@ class CreateEvent implements MemberEventHelper {
                                                       .item(Member.retrieveDdbMap(memberRecord))
                                                       .build())
                                               .build());
+        ofNullable(memberRecord.member()
+                               .getEmail()).ifPresent(email -> transactionItems.add(DdbUtils.claimEmail(email, memberRecord.id()
+                                                                                                                          .toString())));
         return TransactWriteItemsRequest.builder()
                                         .transactItems(transactionItems)
                                         .build();
@@ -1,6 +1,7 @@
 package org.familydirectory.sdk.adminclient.events.delete;
 
 import com.googlecode.lanterna.gui2.WindowBasedTextGUI;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -11,6 +12,7 @@ import org.familydirectory.assets.ddb.enums.cognito.CognitoTableParameter;
 import org.familydirectory.assets.ddb.enums.family.FamilyTableParameter;
 import org.familydirectory.assets.ddb.enums.member.MemberTableParameter;
 import org.familydirectory.assets.ddb.models.member.MemberRecord;
+import org.familydirectory.assets.ddb.utils.DdbUtils;
 import org.familydirectory.sdk.adminclient.enums.Commands;
 import org.familydirectory.sdk.adminclient.events.model.MemberEventHelper;
 import org.familydirectory.sdk.adminclient.utility.SdkClientProvider;
@@ -132,10 +134,14 @@ class DeleteEvent implements MemberEventHelper {
                                                                                    .build());
         }
 
+        final List<TransactWriteItem> releasingTransactionItems = new ArrayList<>(transactionItems);
+        ofNullable(memberRecord.member()
+                               .getEmail()).ifPresent(email -> releasingTransactionItems.add(DdbUtils.releaseEmail(email, memberRecord.id()
+                                                                                                                                     .toString())));
         SdkClientProvider.getSdkClientProvider()
                          .getSdkClient(DynamoDbClient.class)
                          .transactWriteItems(TransactWriteItemsRequest.builder()
-                                                                      .transactItems(transactionItems)
+                                                                      .transactItems(releasingTransactionItems)
                                                                       .build());
         this.memberPicker.removeEntry(memberRecord);
         for (final PickerModel pickerModel : this.pickerModels) {
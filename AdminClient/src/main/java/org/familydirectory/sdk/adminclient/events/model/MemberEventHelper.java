@@ -43,8 +43,8 @@ import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
-import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
-import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
 import software.amazon.awssdk.services.sesv2.SesV2Client;
 import software.amazon.awssdk.services.sesv2.model.Body;
 import software.amazon.awssdk.services.sesv2.model.Content;
@@ -152,26 +152,20 @@ interface MemberEventHelper extends EventHelper {
                                                         .orElseThrow();
     }
 
+    /**
+     * Executes a transaction that may claim a Member EMAIL, reporting an address already held by another Member as {@link IllegalStateException}
+     */
     static
-    void validateMemberEmailIsUnique (final @Nullable String memberEmail) {
-        if (nonNull(memberEmail) && !memberEmail.isBlank()) {
-            final QueryRequest emailRequest = QueryRequest.builder()
-                                                          .tableName(DdbTable.MEMBER.name())
-                                                          .indexName(requireNonNull(MemberTableParameter.EMAIL.gsiProps()).getIndexName())
-                                                          .keyConditionExpression("%s = :email".formatted(MemberTableParameter.EMAIL.gsiProps()
-                                                                                                                                    .getPartitionKey()
-                                                                                                                                    .getName()))
-                                                          .expressionAttributeValues(singletonMap(":email", AttributeValue.fromS(memberEmail)))
-                                                          .limit(1)
-                                                          .build();
-            final QueryResponse emailResponse = SdkClientProvider.getSdkClientProvider()
-                                                                 .getSdkClient(DynamoDbClient.class)
-                                                                 .query(emailRequest);
-            if (!emailResponse.items()
-                              .isEmpty())
-            {
-                throw new IllegalStateException("EMAIL %s already claimed by Existing Member".formatted(memberEmail));
+    void transactWriteMemberItems (final @NotNull TransactWriteItemsRequest transaction) {
+        try {
+            SdkClientProvider.getSdkClientProvider()
+                             .getSdkClient(DynamoDbClient.class)
+                             .transactWriteItems(transaction);
+        } catch (final TransactionCanceledException e) {
+            if (DdbUtils.isEmailClaimConflict(transaction, e)) {
+                throw new IllegalStateException("EMAIL already claimed by Existing Member", e);
             }
+            throw e;
         }
     }
 
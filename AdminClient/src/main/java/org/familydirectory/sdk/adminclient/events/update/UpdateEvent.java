@@ -1,6 +1,7 @@
 package org.familydirectory.sdk.adminclient.events.update;
 
 import com.googlecode.lanterna.gui2.WindowBasedTextGUI;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
@@ -8,6 +9,7 @@ import org.familydirectory.assets.amplify.utility.AmplifyUtils;
 import org.familydirectory.assets.ddb.enums.DdbTable;
 import org.familydirectory.assets.ddb.member.Member;
 import org.familydirectory.assets.ddb.models.member.MemberRecord;
+import org.familydirectory.assets.ddb.utils.DdbUtils;
 import org.familydirectory.sdk.adminclient.enums.Commands;
 import org.familydirectory.sdk.adminclient.events.model.MemberEventHelper;
 import org.familydirectory.sdk.adminclient.utility.SdkClientProvider;
@@ -16,7 +18,10 @@ import org.familydirectory.sdk.adminclient.utility.pickers.model.PickerModel;
 import org.jetbrains.annotations.NotNull;
 import software.amazon.awssdk.services.amplify.AmplifyClient;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.Put;
 import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
 import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
 
@@ -44,21 +49,37 @@ class UpdateEvent implements MemberEventHelper {
         }
         final MemberRecord ddbMemberRecord = this.getExistingMember(Commands.UPDATE.name(), "Please Select an Existing Member:", "Retrieving Members from AWS, Please Wait");
         final MemberRecord memberRecord = this.buildMemberRecord(ddbMemberRecord.id(), ddbMemberRecord.familyId());
-        {
-            final String updateMemberEmail = memberRecord.member()
-                                                         .getEmail();
-            if (nonNull(updateMemberEmail) && !updateMemberEmail.equals(ddbMemberRecord.member()
-                                                                                       .getEmail()))
-            {
-                MemberEventHelper.validateMemberEmailIsUnique(updateMemberEmail);
+        final String updateMemberEmail = memberRecord.member()
+                                                     .getEmail();
+        final String ddbMemberEmail = ddbMemberRecord.member()
+                                                     .getEmail();
+        if (Objects.equals(updateMemberEmail, ddbMemberEmail)) {
+            SdkClientProvider.getSdkClientProvider()
+                             .getSdkClient(DynamoDbClient.class)
+                             .putItem(PutItemRequest.builder()
+                                                    .tableName(DdbTable.MEMBER.name())
+                                                    .item(Member.retrieveDdbMap(memberRecord))
+                                                    .build());
+        } else {
+            final List<TransactWriteItem> transactionItems = new ArrayList<>();
+            transactionItems.add(TransactWriteItem.builder()
+                                                  .put(Put.builder()
+                                                          .tableName(DdbTable.MEMBER.name())
+                                                          .item(Member.retrieveDdbMap(memberRecord))
+                                                          .build())
+                                                  .build());
+            if (nonNull(updateMemberEmail)) {
+                transactionItems.add(DdbUtils.claimEmail(updateMemberEmail, memberRecord.id()
+                                                                                        .toString()));
+            }
+            if (nonNull(ddbMemberEmail)) {
+                transactionItems.add(DdbUtils.releaseEmail(ddbMemberEmail, memberRecord.id()
+                                                                                       .toString()));
             }
+            MemberEventHelper.transactWriteMemberItems(TransactWriteItemsRequest.builder()
+                                                                                .transactItems(transactionItems)
+                                                                                .build());
         }
-        SdkClientProvider.getSdkClientProvider()
-                         .getSdkClient(DynamoDbClient.class)
-                         .putItem(PutItemRequest.builder()
-                                                .tableName(DdbTable.MEMBER.name())
-                                                .item(Member.retrieveDdbMap(memberRecord))
-                                                .build());
         this.memberPicker.addEntry(memberRecord);
         for (final PickerModel pickerModel : this.pickerModels) {
             pickerModel.addEntry(memberRecord);
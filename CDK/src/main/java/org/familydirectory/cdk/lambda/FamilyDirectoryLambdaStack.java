@@ -86,7 +86,7 @@ class FamilyDirectoryLambdaStack extends Stack {
         LambdaFunctionConstructUtility.constructFunctionPermissions(this, List.of(TriggerFunction.values()), userPool, null);
 
 //  Stream Functions
-        final Map<StreamFunction, Function> streamFunctionMap = LambdaFunctionConstructUtility.constructFunctionMap(this, List.of(StreamFunction.values()), null, null, pdfBucket, null);
+        final Map<StreamFunction, Function> streamFunctionMap = LambdaFunctionConstructUtility.constructFunctionMap(this, List.of(StreamFunction.values()), hostedZone, userPool, pdfBucket, spaApp);
 
         for (final Map.Entry<StreamFunction, Function> entry : streamFunctionMap.entrySet()) {
             final StreamFunction streamFunction = entry.getKey();
@@ -123,6 +123,6 @@ class FamilyDirectoryLambdaStack extends Stack {
             new Trigger(this, streamFunction.functionName() + "Trigger", TriggerProps.builder().handler(lambda).invocationType(InvocationType.EVENT).timeout(lambda.getTimeout()).build());
         }
 
-        LambdaFunctionConstructUtility.constructFunctionPermissions(streamFunctionMap, null, pdfBucket);
+        LambdaFunctionConstructUtility.constructFunctionPermissions(streamFunctionMap, userPool, pdfBucket);
     }
 }
@@ -82,6 +82,8 @@ class LambdaFunctionConstructUtility {
                                                                                 .ifPresent(id -> function.addEnvironment(env.name(), id));
                                        case AMPLIFY_BRANCH_NAME -> function.addEnvironment(env.name(), FamilyDirectoryAmplifyStack.AMPLIFY_ROOT_BRANCH_NAME);
                                        case SYNC_TOKEN_DURATION_DAYS -> function.addEnvironment(env.name(), String.valueOf(DdbUtils.SYNC_TOKEN_DURATION_DAYS));
+                                       case DDB_SCAN_TOTAL_SEGMENTS -> function.addEnvironment(env.name(), String.valueOf(DdbUtils.DDB_SCAN_TOTAL_SEGMENTS));
+                                       case PDF_MAX_MAIN_MEMORY_MEGABYTES -> ofNullable(f.pdfMaxMainMemoryMegabytes()).ifPresent(megabytes -> function.addEnvironment(env.name(), String.valueOf(megabytes)));
                                        default -> throw new IllegalStateException("Unexpected value: " + env);
                                    }
                                });
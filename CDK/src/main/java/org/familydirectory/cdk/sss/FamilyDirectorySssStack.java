@@ -1,14 +1,17 @@
 package org.familydirectory.cdk.sss;
 
 import java.util.List;
+import org.familydirectory.assets.lambda.function.utility.LambdaUtils;
 import software.amazon.awscdk.CfnOutput;
 import software.amazon.awscdk.CfnOutputProps;
+import software.amazon.awscdk.Duration;
 import software.amazon.awscdk.Stack;
 import software.amazon.awscdk.StackProps;
 import software.amazon.awscdk.services.s3.Bucket;
 import software.amazon.awscdk.services.s3.BucketProps;
 import software.amazon.awscdk.services.s3.CorsRule;
 import software.amazon.awscdk.services.s3.HttpMethods;
+import software.amazon.awscdk.services.s3.LifecycleRule;
 import software.constructs.Construct;
 import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
@@ -29,6 +32,8 @@ class FamilyDirectorySssStack extends Stack {
     public static final List<String> S3_PDF_BUCKET_CORS_ALLOWED_HEADERS = singletonList("authorization");
     public static final List<String> S3_PDF_BUCKET_CORS_ALLOWED_ORIGINS = singletonList("*");
     public static final List<HttpMethods> S3_PDF_BUCKET_CORS_ALLOWED_METHODS = singletonList(GET);
+    public static final Number S3_PDF_BUCKET_ABORT_INCOMPLETE_MULTIPART_UPLOAD_DAYS = 1;
+    public static final Number S3_PDF_BUCKET_SECTION_EXPIRATION_DAYS = 30;
 
     public
     FamilyDirectorySssStack (final Construct scope, final String id, final StackProps stackProps) {
@@ -45,6 +50,13 @@ class FamilyDirectorySssStack extends Stack {
                                                                                   .build()))
                                                       .encryption(S3_MANAGED)
                                                       .enforceSsl(TRUE)
+                                                      .lifecycleRules(List.of(LifecycleRule.builder()
+                                                                                           .abortIncompleteMultipartUploadAfter(
+                                                                                                   Duration.days(S3_PDF_BUCKET_ABORT_INCOMPLETE_MULTIPART_UPLOAD_DAYS))
+                                                                                           .build(), LifecycleRule.builder()
+                                                                                                                  .prefix(LambdaUtils.S3_PDF_SECTION_KEY_PREFIX)
+                                                                                                                  .expiration(Duration.days(S3_PDF_BUCKET_SECTION_EXPIRATION_DAYS))
+                                                                                                                  .build()))
                                                       .minimumTlsVersion(S3_MINIMUM_TLS_VERSION)
                                                       .objectOwnership(BUCKET_OWNER_ENFORCED)
                                                       .publicReadAccess(FALSE)
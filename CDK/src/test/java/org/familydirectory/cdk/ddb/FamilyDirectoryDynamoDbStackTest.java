@@ -2,6 +2,7 @@ package org.familydirectory.cdk.ddb;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import org.familydirectory.assets.ddb.enums.DdbTable;
@@ -12,7 +13,9 @@ import org.junit.jupiter.api.Test;
 import software.amazon.awscdk.App;
 import software.amazon.awscdk.StackProps;
 import software.amazon.awscdk.assertions.Template;
+import software.amazon.awscdk.services.dynamodb.Attribute;
 import software.amazon.awscdk.services.dynamodb.AttributeType;
+import software.amazon.awscdk.services.dynamodb.GlobalSecondaryIndexProps;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static java.util.Objects.requireNonNull;
@@ -40,12 +43,21 @@ class FamilyDirectoryDynamoDbStackTest {
             final List<Map<String, Object>> globalSecondaryIndexes = new ArrayList<>();
             for (final DdbTableParameter param : ddbTable.parameters()) {
                 ofNullable(param.gsiProps()).ifPresent(gsi -> {
-                    attributeDefinitions.add(Map.of("AttributeName", gsi.getPartitionKey()
-                                                                        .getName(), "AttributeType", getAttributeType(gsi.getPartitionKey()
-                                                                                                                         .getType())));
-                    globalSecondaryIndexes.add(Map.of("IndexName", gsi.getIndexName(), "KeySchema", singletonList(Map.of("AttributeName", gsi.getPartitionKey()
-                                                                                                                                             .getName(), "KeyType", "HASH")), "Projection",
-                                                      singletonMap("ProjectionType", requireNonNull(gsi.getProjectionType()).name())));
+                    final List<Map<String, String>> keySchema = new ArrayList<>();
+                    for (final Map.Entry<Attribute, String> key : gsiKeys(gsi).entrySet()) {
+                        final Map<String, String> attributeDefinition = Map.of("AttributeName", key.getKey()
+                                                                                                   .getName(), "AttributeType", getAttributeType(key.getKey()
+                                                                                                                                                     .getType()));
+                        if (!attributeDefinitions.contains(attributeDefinition)) {
+                            attributeDefinitions.add(attributeDefinition);
+                        }
+                        keySchema.add(Map.of("AttributeName", key.getKey()
+                                                                 .getName(), "KeyType", key.getValue()));
+                    }
+                    final Map<String, Object> projection = new HashMap<>();
+                    projection.put("ProjectionType", requireNonNull(gsi.getProjectionType()).name());
+                    ofNullable(gsi.getNonKeyAttributes()).ifPresent(nonKeyAttributes -> projection.put("NonKeyAttributes", nonKeyAttributes));
+                    globalSecondaryIndexes.add(Map.of("IndexName", gsi.getIndexName(), "KeySchema", keySchema, "Projection", projection));
                 });
             }
             final Map<String, Object> tableMapProperties = new HashMap<>();
@@ -77,6 +89,15 @@ class FamilyDirectoryDynamoDbStackTest {
         }
     }
 
+    @NotNull
+    private static
+    Map<Attribute, String> gsiKeys (final @NotNull GlobalSecondaryIndexProps gsi) {
+        final Map<Attribute, String> keys = new LinkedHashMap<>();
+        keys.put(gsi.getPartitionKey(), "HASH");
+        ofNullable(gsi.getSortKey()).ifPresent(sortKey -> keys.put(sortKey, "RANGE"));
+        return keys;
+    }
+
     @NotNull
     private static
     String getAttributeType (final @NotNull AttributeType attr) {
@@ -147,6 +147,9 @@ class FamilyDirectoryLambdaStackTest {
             )));
             assertEquals(1, functionMap.size());
             assertTrue(functionMap.containsKey(functionIdCapture.asString()));
+            template.hasResourceProperties("AWS::Lambda::Function", objectLike(Map.of("Handler", function.handler(), "Environment", singletonMap("Variables", singletonMap(
+                    LambdaUtils.EnvVar.PDF_MAX_MAIN_MEMORY_MEGABYTES.name(), ofNullable(function.pdfMaxMainMemoryMegabytes()).<Object>map(String::valueOf)
+                                                                                                                        .orElseGet(() -> absent()))))));
 
             final List<Object> policyResources = policyResourcesCapture.asArray()
                                                                        .stream()
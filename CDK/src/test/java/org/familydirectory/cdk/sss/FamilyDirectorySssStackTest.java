@@ -2,6 +2,7 @@ package org.familydirectory.cdk.sss;
 
 import java.util.List;
 import java.util.Map;
+import org.familydirectory.assets.lambda.function.utility.LambdaUtils;
 import org.familydirectory.cdk.FamilyDirectoryCdkApp;
 import org.junit.jupiter.api.Test;
 import software.amazon.awscdk.App;
@@ -43,6 +44,14 @@ class FamilyDirectorySssStackTest {
                                                                                                                                                                                                                                                              .toList(),
                                                                                                                                                                                                    "AllowedOrigins",
                                                                                                                                                                                                    FamilyDirectorySssStack.S3_PDF_BUCKET_CORS_ALLOWED_ORIGINS))),
+                                                                                                                                                  "LifecycleConfiguration", singletonMap("Rules", List.of(Map.of("AbortIncompleteMultipartUpload",
+                                                                                                                                                                                                                 singletonMap("DaysAfterInitiation",
+                                                                                                                                                                                                                              FamilyDirectorySssStack.S3_PDF_BUCKET_ABORT_INCOMPLETE_MULTIPART_UPLOAD_DAYS),
+                                                                                                                                                                                                                 "Status", "Enabled"),
+                                                                                                                                                                                                          Map.of("ExpirationInDays",
+                                                                                                                                                                                                                 FamilyDirectorySssStack.S3_PDF_BUCKET_SECTION_EXPIRATION_DAYS,
+                                                                                                                                                                                                                 "Prefix", LambdaUtils.S3_PDF_SECTION_KEY_PREFIX,
+                                                                                                                                                                                                                 "Status", "Enabled"))),
                                                                                                                                                   "OwnershipControls", singletonMap("Rules",
                                                                                                                                                                                     singletonList(
                                                                                                                                                                                             singletonMap(
@@ -0,0 +1,44 @@
+package org.familydirectory.assets.lambda.function.api;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import java.util.List;
+import org.familydirectory.assets.lambda.function.api.helper.ApiHelper;
+import org.familydirectory.assets.lambda.function.api.helper.BulkHelper;
+import org.familydirectory.assets.lambda.function.utility.LambdaUtils;
+import org.jetbrains.annotations.NotNull;
+import static com.amazonaws.services.lambda.runtime.logging.LogLevel.FATAL;
+import static org.apache.http.HttpStatus.SC_INTERNAL_SERVER_ERROR;
+import static org.apache.http.HttpStatus.SC_MULTI_STATUS;
+
+public
+class FamilyDirectoryBulkMemberLambda implements RequestHandler<APIGatewayProxyRequestEvent, APIGatewayProxyResponseEvent> {
+
+    @Override
+    public final @NotNull
+    APIGatewayProxyResponseEvent handleRequest (final @NotNull APIGatewayProxyRequestEvent event, final @NotNull Context context)
+    {
+        try (final BulkHelper bulkHelper = new BulkHelper(context.getLogger(), event)) {
+
+//      Get Caller
+            final ApiHelper.Caller caller = bulkHelper.getCaller();
+
+//      Get Operations
+            final List<BulkHelper.Operation> operations = bulkHelper.getBulkOperations(caller);
+
+//      Execute Transactions
+            bulkHelper.executeBulkOperations(caller, operations);
+
+            return new APIGatewayProxyResponseEvent().withStatusCode(SC_MULTI_STATUS)
+                                                     .withBody(bulkHelper.getResponseBody(operations));
+
+        } catch (final ApiHelper.ResponseException e) {
+            return e.getResponseEvent();
+        } catch (final Throwable e) {
+            LambdaUtils.logTrace(context.getLogger(), e, FATAL);
+            return new APIGatewayProxyResponseEvent().withStatusCode(SC_INTERNAL_SERVER_ERROR);
+        }
+    }
+}
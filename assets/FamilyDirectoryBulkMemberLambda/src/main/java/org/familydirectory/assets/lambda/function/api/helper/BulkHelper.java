@@ -0,0 +1,696 @@
+package org.familydirectory.assets.lambda.function.api.helper;
+
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Predicate;
+import org.familydirectory.assets.ddb.enums.DdbTable;
+import org.familydirectory.assets.ddb.enums.family.FamilyTableParameter;
+import org.familydirectory.assets.ddb.enums.member.MemberTableParameter;
+import org.familydirectory.assets.ddb.member.Member;
+import org.familydirectory.assets.ddb.models.member.MemberRecord;
+import org.familydirectory.assets.ddb.utils.DdbUtils;
+import org.familydirectory.assets.lambda.function.api.models.BulkOperation;
+import org.familydirectory.assets.lambda.function.api.models.BulkResult;
+import org.familydirectory.assets.lambda.function.utility.LambdaUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.CancellationReason;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+import software.amazon.awssdk.services.dynamodb.model.Put;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+import software.amazon.awssdk.services.dynamodb.model.Update;
+import static com.amazonaws.services.lambda.runtime.logging.LogLevel.ERROR;
+import static com.amazonaws.services.lambda.runtime.logging.LogLevel.INFO;
+import static com.amazonaws.services.lambda.runtime.logging.LogLevel.WARN;
+import static java.lang.System.getenv;
+import static java.util.Collections.singletonMap;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNull;
+import static org.apache.http.HttpStatus.SC_BAD_REQUEST;
+import static org.apache.http.HttpStatus.SC_CONFLICT;
+import static org.apache.http.HttpStatus.SC_CREATED;
+import static org.apache.http.HttpStatus.SC_FAILED_DEPENDENCY;
+import static org.apache.http.HttpStatus.SC_FORBIDDEN;
+import static org.apache.http.HttpStatus.SC_INTERNAL_SERVER_ERROR;
+import static org.apache.http.HttpStatus.SC_NOT_FOUND;
+import static org.apache.http.HttpStatus.SC_OK;
+import static org.apache.http.HttpStatus.SC_REQUEST_TOO_LONG;
+
+/**
+ * Creates and updates many Members per request, for ADMIN callers only
+ * <p>
+ * Operations are parsed in parallel and validated against one batched read of every FAMILY and Member they name. They are then ordered so each CREATE follows
+ * the CREATE its {@code ancestor} refers to, and packed in that order into TransactWriteItems of up to {@link #MAX_TRANSACTION_ITEMS} items; writes to the
+ * same FAMILY within a transaction are merged into one item. A transaction canceled by failed conditions settles only the operations those conditions belong
+ * to, and the rest of it is retried; one canceled by contention or throttling is retried whole a few times before its operations fail with {@code 500}. Every
+ * operation gets a {@link BulkResult}; operations depending on one that failed are settled with {@code 424}
+ */
+public final
+class BulkHelper extends ApiHelper {
+    // https://docs.aws.amazon.com/amazondynamodb/latest/APIReference/API_TransactWriteItems.html
+    public static final int MAX_TRANSACTION_ITEMS = 100;
+    public static final int MAX_OPERATIONS = 500;
+    /**
+     * Cancellation reasons that say nothing about the operations themselves; the transaction is retried as is, with exponential backoff
+     */
+    private static final Set<String> TRANSIENT_CANCELLATION_CODES = Set.of("TransactionConflict", "ThrottlingError", "ProvisionedThroughputExceeded", "RequestLimitExceeded");
+    private static final String CONDITIONAL_CHECK_FAILED = "ConditionalCheckFailed";
+    private static final int MAX_TRANSIENT_RETRIES = 3;
+    private static final long TRANSIENT_RETRY_BASE_MILLIS = 50L;
+    private final @NotNull ObjectMapper objectMapper = new ObjectMapper();
+
+    public
+    BulkHelper (final @NotNull LambdaLogger logger, final @NotNull APIGatewayProxyRequestEvent requestEvent) {
+        super(logger, requestEvent);
+    }
+
+    public @NotNull
+    List<Operation> getBulkOperations (final @NotNull Caller caller) throws ResponseException {
+        if (!caller.isAdmin()) {
+            this.logger.log("<MEMBER,`%s`> Denied Bulk Request".formatted(caller.caller().id().toString()), WARN);
+            throw new ResponseException(new APIGatewayProxyResponseEvent().withStatusCode(SC_FORBIDDEN));
+        }
+
+        final JsonNode operationsNode;
+        try {
+            operationsNode = this.objectMapper.readTree(this.requestEvent.getBody())
+                                              .get("operations");
+        } catch (final JsonProcessingException | IllegalArgumentException e) {
+            this.logger.log("<MEMBER,`%s`> submitted invalid Bulk request".formatted(caller.caller().id().toString()), WARN);
+            LambdaUtils.logTrace(this.logger, e, WARN);
+            throw new ResponseException(new APIGatewayProxyResponseEvent().withStatusCode(SC_BAD_REQUEST));
+        }
+        if (isNull(operationsNode) || !operationsNode.isArray() || operationsNode.isEmpty()) {
+            this.logger.log("<MEMBER,`%s`> submitted Bulk request without operations".formatted(caller.caller().id().toString()), WARN);
+            throw new ResponseException(new APIGatewayProxyResponseEvent().withStatusCode(SC_BAD_REQUEST));
+        }
+        if (operationsNode.size() > MAX_OPERATIONS) {
+            this.logger.log("<MEMBER,`%s`> submitted Bulk request with <OPERATIONS,%d>".formatted(caller.caller().id().toString(), operationsNode.size()), WARN);
+            throw new ResponseException(new APIGatewayProxyResponseEvent().withStatusCode(SC_REQUEST_TOO_LONG)
+                                                                          .withBody("At Most %d Operations Per Request".formatted(MAX_OPERATIONS)));
+        }
+
+        final List<Operation> operations = new ArrayList<>(operationsNode.size());
+        try (final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final List<Future<Operation>> futures = new ArrayList<>(operationsNode.size());
+            for (int i = 0; i < operationsNode.size(); ++i) {
+                final int index = i;
+                final JsonNode operationNode = operationsNode.get(i);
+                futures.add(executor.submit(() -> this.parseOperation(index, operationNode)));
+            }
+            for (final Future<Operation> future : futures) {
+                operations.add(future.get());
+            }
+        } catch (final ExecutionException e) {
+            throw (e.getCause() instanceof RuntimeException cause)
+                    ? cause
+                    : new IllegalStateException(e.getCause());
+        } catch (final InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw new IllegalStateException(e);
+        }
+
+        this.validateOperations(operations);
+
+        return Collections.unmodifiableList(operations);
+    }
+
+    @NotNull
+    private
+    Operation parseOperation (final int index, final @NotNull JsonNode operationNode) {
+        final BulkOperation bulkOperation;
+        try {
+            bulkOperation = this.objectMapper.treeToValue(operationNode, BulkOperation.class);
+        } catch (final JsonProcessingException | IllegalArgumentException e) {
+            return Operation.rejected(index, SC_BAD_REQUEST, "Invalid Operation");
+        }
+        final Operation operation = new Operation(index, bulkOperation);
+        if (isNull(bulkOperation.type()) || isNull(bulkOperation.member())) {
+            operation.settle(SC_BAD_REQUEST, "type and member Are Required");
+        } else if (nonNull(bulkOperation.ref()) && bulkOperation.ref()
+                                                               .isBlank())
+        {
+            operation.settle(SC_BAD_REQUEST, "ref Must Not Be Blank");
+        } else {
+            switch (bulkOperation.type()) {
+                case CREATE -> {
+                    if (isNull(bulkOperation.isSpouse()) || isNull(bulkOperation.ancestor()) || bulkOperation.ancestor()
+                                                                                                          .isBlank())
+                    {
+                        operation.settle(SC_BAD_REQUEST, "CREATE Requires isSpouse and ancestor");
+                    } else if (nonNull(bulkOperation.id())) {
+                        operation.settle(SC_BAD_REQUEST, "CREATE Must Not Specify %s".formatted(DdbUtils.PK));
+                    } else {
+                        operation.memberId = UUID.randomUUID();
+                    }
+                }
+                case UPDATE -> {
+                    try {
+                        operation.memberId = UUID.fromString(requireNonNull(bulkOperation.id()));
+                    } catch (final NullPointerException | IllegalArgumentException e) {
+                        operation.settle(SC_BAD_REQUEST, "UPDATE Requires a Valid %s".formatted(DdbUtils.PK));
+                    }
+                }
+                default -> throw new IllegalStateException("Unhandled Type: %s".formatted(bulkOperation.type()
+                                                                                                        .name()));
+            }
+        }
+        return operation;
+    }
+
+    private
+    void validateOperations (final @NotNull List<Operation> operations) {
+        final Map<String, Operation> refs = new HashMap<>();
+        final Set<UUID> updateIds = new HashSet<>();
+        final Set<String> familyKeys = new HashSet<>();
+        final Set<String> memberKeys = new HashSet<>();
+        final Set<String> emailKeys = new HashSet<>();
+        for (final Operation operation : operations) {
+            if (operation.isSettled()) {
+                continue;
+            }
+            final BulkOperation bulkOperation = requireNonNull(operation.bulkOperation);
+            if (nonNull(bulkOperation.ref()) && nonNull(refs.putIfAbsent(bulkOperation.ref(), operation))) {
+                operation.settle(SC_BAD_REQUEST, "Duplicate ref `%s`".formatted(bulkOperation.ref()));
+                continue;
+            }
+            switch (bulkOperation.type()) {
+                case CREATE -> {
+                    familyKeys.add(bulkOperation.ancestor());
+                    Optional.ofNullable(bulkOperation.member()
+                                                     .getEmail())
+                            .ifPresent(emailKeys::add);
+                }
+                case UPDATE -> {
+                    if (!updateIds.add(operation.memberId)) {
+                        operation.settle(SC_BAD_REQUEST, "Duplicate UPDATE for %s `%s`".formatted(DdbUtils.PK, operation.memberId.toString()));
+                    } else {
+                        memberKeys.add(operation.memberId.toString());
+                    }
+                }
+                default -> throw new IllegalStateException("Unhandled Type: %s".formatted(bulkOperation.type()
+                                                                                                        .name()));
+            }
+        }
+        familyKeys.removeAll(refs.keySet());
+
+        final Map<DdbTable, Map<String, Map<String, AttributeValue>>> items = this.batchGetDdbItems(Map.of(DdbTable.FAMILY, familyKeys, DdbTable.MEMBER, memberKeys, DdbTable.EMAIL, emailKeys));
+        final Map<String, Map<String, AttributeValue>> families = items.get(DdbTable.FAMILY);
+        final Map<String, Map<String, AttributeValue>> members = items.get(DdbTable.MEMBER);
+        final Map<String, Map<String, AttributeValue>> emails = items.get(DdbTable.EMAIL);
+
+        final Set<String> spousedFamilies = new HashSet<>();
+        final Set<String> touchedEmails = new HashSet<>();
+        for (final Operation operation : operations) {
+            if (operation.isSettled()) {
+                continue;
+            }
+            final BulkOperation bulkOperation = requireNonNull(operation.bulkOperation);
+            final Member member = bulkOperation.member();
+            switch (bulkOperation.type()) {
+                case CREATE -> {
+                    final String ancestor = requireNonNull(bulkOperation.ancestor());
+                    final Operation dependency = refs.get(ancestor);
+                    if (nonNull(dependency)) {
+                        final BulkOperation dependencyOperation = requireNonNull(dependency.bulkOperation);
+                        if (dependency == operation || !BulkOperation.Type.CREATE.equals(dependencyOperation.type()) || Boolean.TRUE.equals(dependencyOperation.isSpouse())) {
+                            operation.settle(SC_BAD_REQUEST, "ancestor `%s` Must Be the ref of Another Descendant CREATE".formatted(ancestor));
+                            continue;
+                        }
+                        operation.dependency = dependency;
+                    } else {
+                        final Map<String, AttributeValue> family = families.get(ancestor);
+                        if (isNull(family)) {
+                            operation.settle(SC_NOT_FOUND, "FAMILY `%s` Not Found".formatted(ancestor));
+                            continue;
+                        }
+                        if (bulkOperation.isSpouse() && Optional.ofNullable(family.get(FamilyTableParameter.SPOUSE.jsonFieldName()))
+                                                                .map(AttributeValue::s)
+                                                                .filter(Predicate.not(String::isBlank))
+                                                                .isPresent())
+                        {
+                            operation.settle(SC_CONFLICT, "FAMILY `%s` Already Has a SPOUSE".formatted(ancestor));
+                            continue;
+                        }
+                    }
+                    if (bulkOperation.isSpouse() && !spousedFamilies.add(ancestor)) {
+                        operation.settle(SC_CONFLICT, "FAMILY `%s` Given a SPOUSE by Another Operation".formatted(ancestor));
+                        continue;
+                    }
+                    if (nonNull(member.getEmail()) && !touchedEmails.add(member.getEmail())) {
+                        operation.settle(SC_CONFLICT, "EMAIL Used by Another Operation");
+                        continue;
+                    }
+                    // settled here rather than canceling the whole transaction; a claim made since the read still fails its attribute_not_exists
+                    if (nonNull(member.getEmail()) && emails.containsKey(member.getEmail())) {
+                        operation.settle(SC_CONFLICT, "EMAIL Already Registered With Another Member");
+                        continue;
+                    }
+                }
+                case UPDATE -> {
+                    final Map<String, AttributeValue> ddbMemberMap = members.get(operation.memberId.toString());
+                    if (isNull(ddbMemberMap)) {
+                        operation.settle(SC_NOT_FOUND, "Member Not Found");
+                        continue;
+                    }
+                    if (operation.memberId.toString()
+                                          .equals(getenv(LambdaUtils.EnvVar.ROOT_ID.name())))
+                    {
+                        operation.settle(SC_BAD_REQUEST, "ROOT Member Must Be Updated Individually");
+                        continue;
+                    }
+                    final MemberRecord ddbMemberRecord = MemberRecord.convertDdbMap(ddbMemberMap);
+                    if (ddbMemberRecord.member()
+                                       .getEtag()
+                                       .equals(member.getEtag()))
+                    {
+                        operation.settle(SC_OK, "No Modifications");
+                        continue;
+                    }
+                    final String ddbMemberEmail = ddbMemberRecord.member()
+                                                                 .getEmail();
+                    // a new EMAIL invalidates the Member's Cognito account, which only the UPDATE endpoint cleans up
+                    if (nonNull(member.getEmail()) && !member.getEmail()
+                                                             .equals(ddbMemberEmail))
+                    {
+                        operation.settle(SC_BAD_REQUEST, "EMAIL Changes Must Be Made Individually");
+                        continue;
+                    }
+                    if (isNull(member.getEmail()) && nonNull(ddbMemberEmail)) {
+                        if (!touchedEmails.add(ddbMemberEmail)) {
+                            operation.settle(SC_CONFLICT, "EMAIL Used by Another Operation");
+                            continue;
+                        }
+                        operation.releasedEmail = ddbMemberEmail;
+                    }
+                    operation.familyId = ddbMemberRecord.familyId();
+                    operation.ddbMemberEtag = Optional.ofNullable(ddbMemberMap.get(MemberTableParameter.ETAG.jsonFieldName()))
+                                                      .map(AttributeValue::s)
+                                                      .orElse(null);
+                }
+                default -> throw new IllegalStateException("Unhandled Type: %s".formatted(bulkOperation.type()
+                                                                                                        .name()));
+            }
+            member.setLastModifiedNow();
+        }
+    }
+
+    /**
+     * Executes every unsettled operation, settling each of them
+     */
+    public
+    void executeBulkOperations (final @NotNull Caller caller, final @NotNull List<Operation> operations) {
+        final List<Operation> transactionOperations = new ArrayList<>();
+        for (final Operation operation : order(operations)) {
+            if (operation.isSettled() || operation.settleIfDependencyFailed()) {
+                continue;
+            }
+            final List<Operation> candidate = new ArrayList<>(transactionOperations);
+            candidate.add(operation);
+            if (Transaction.of(candidate)
+                           .items()
+                           .size() > MAX_TRANSACTION_ITEMS)
+            {
+                this.executeTransaction(caller, transactionOperations);
+                transactionOperations.clear();
+                if (operation.settleIfDependencyFailed()) {
+                    continue;
+                }
+            }
+            transactionOperations.add(operation);
+        }
+        if (!transactionOperations.isEmpty()) {
+            this.executeTransaction(caller, transactionOperations);
+        }
+    }
+
+    /**
+     * @return unsettled operations, each after the operation it depends on; operations on a circular chain of refs are settled instead
+     */
+    @NotNull
+    private static
+    List<Operation> order (final @NotNull List<Operation> operations) {
+        final List<Operation> ordered = new ArrayList<>(operations.size());
+        final Set<Operation> visited = new HashSet<>();
+        for (final Operation operation : operations) {
+            final Deque<Operation> path = new ArrayDeque<>();
+            final Set<Operation> onPath = new HashSet<>();
+            Operation next = operation;
+            while (nonNull(next) && !next.isSettled() && !visited.contains(next) && onPath.add(next)) {
+                path.push(next);
+                next = next.dependency;
+            }
+            if (nonNull(next) && onPath.contains(next)) {
+                Operation cyclic = next;
+                do {
+                    cyclic.settle(SC_BAD_REQUEST, "Circular ancestor ref");
+                    cyclic = requireNonNull(cyclic.dependency);
+                } while (cyclic != next);
+            }
+            while (!path.isEmpty()) {
+                final Operation pathOperation = path.pop();
+                visited.add(pathOperation);
+                ordered.add(pathOperation);
+            }
+        }
+        return ordered;
+    }
+
+    /**
+     * Commits {@code transactionOperations} as one TransactWriteItems, settling the operations a cancellation points at and retrying the rest until every
+     * operation is settled
+     */
+    private
+    void executeTransaction (final @NotNull Caller caller, final @NotNull List<Operation> transactionOperations) {
+        final List<Operation> remaining = new ArrayList<>(transactionOperations);
+        int transientAttempts = 0;
+        while (true) {
+            remaining.removeIf(operation -> operation.isSettled() || operation.settleIfDependencyFailed());
+            if (remaining.isEmpty()) {
+                return;
+            }
+            final Transaction transaction = Transaction.of(remaining);
+            final TransactWriteItemsRequest request = TransactWriteItemsRequest.builder()
+                                                                               .transactItems(transaction.items()
+                                                                                                         .stream()
+                                                                                                         .map(TransactionItem::item)
+                                                                                                         .toList())
+                                                                               .build();
+            try {
+                this.dynamoDbClient.transactWriteItems(request);
+            } catch (final TransactionCanceledException e) {
+                final List<CancellationReason> cancellationReasons = e.hasCancellationReasons()
+                        ? e.cancellationReasons()
+                        : List.of();
+                boolean settled = false;
+                boolean retryable = false;
+                boolean failed = cancellationReasons.isEmpty();
+                for (int i = 0; i < cancellationReasons.size() && i < transaction.items()
+                                                                                .size(); ++i)
+                {
+                    final String code = cancellationReasons.get(i)
+                                                           .code();
+                    if (isNull(code) || "None".equals(code)) {
+                        continue;
+                    }
+                    if (CONDITIONAL_CHECK_FAILED.equals(code)) {
+                        final TransactionItem transactionItem = transaction.items()
+                                                                           .get(i);
+                        for (final Operation owner : transactionItem.owners()) {
+                            if (!owner.isSettled()) {
+                                owner.settle(SC_CONFLICT, transactionItem.conflictMessage());
+                                settled = true;
+                            }
+                        }
+                    } else if (TRANSIENT_CANCELLATION_CODES.contains(code)) {
+                        retryable = true;
+                    } else {
+                        failed = true;
+                    }
+                }
+                if (settled) {
+                    this.logger.log("ADMIN <MEMBER,`%s`> Bulk Transaction Canceled, Retrying Without Conflicting Operations".formatted(caller.caller().id().toString()), WARN);
+                    continue;
+                }
+                if (!failed && retryable && transientAttempts < MAX_TRANSIENT_RETRIES) {
+                    ++transientAttempts;
+                    this.logger.log("ADMIN <MEMBER,`%s`> Bulk Transaction Canceled By Contention, Retrying <ATTEMPT,%d>".formatted(caller.caller().id().toString(), transientAttempts), WARN);
+                    try {
+                        Thread.sleep(TRANSIENT_RETRY_BASE_MILLIS << transientAttempts);
+                    } catch (final InterruptedException x) {
+                        Thread.currentThread()
+                              .interrupt();
+                        remaining.forEach(operation -> operation.settle(SC_INTERNAL_SERVER_ERROR, "Transaction Canceled"));
+                        return;
+                    }
+                    continue;
+                }
+                LambdaUtils.logTrace(this.logger, e, ERROR);
+                remaining.forEach(operation -> operation.settle(SC_INTERNAL_SERVER_ERROR, "Transaction Canceled"));
+                return;
+            } catch (final DynamoDbException e) {
+                LambdaUtils.logTrace(this.logger, e, ERROR);
+                remaining.forEach(operation -> operation.settle(SC_INTERNAL_SERVER_ERROR, "Transaction Failed"));
+                return;
+            }
+            for (final Operation operation : remaining) {
+                operation.settle(BulkOperation.Type.CREATE.equals(requireNonNull(operation.bulkOperation).type())
+                                         ? SC_CREATED
+                                         : SC_OK, null);
+            }
+            this.logger.log("ADMIN <MEMBER,`%s`> Bulk Transaction Committed <OPERATIONS,%d> <ITEMS,%d>".formatted(caller.caller().id().toString(), remaining.size(), transaction.items()
+                                                                                                                                                                  .size()), INFO);
+            return;
+        }
+    }
+
+    @NotNull
+    public
+    String getResponseBody (final @NotNull List<Operation> operations) throws JsonProcessingException {
+        return this.objectMapper.writeValueAsString(singletonMap("results", operations.stream()
+                                                                                      .map(operation -> requireNonNull(operation.result))
+                                                                                      .toList()));
+    }
+
+    public static final
+    class Operation {
+        private final int index;
+        private final @Nullable BulkOperation bulkOperation;
+        private UUID memberId = null;
+        private UUID familyId = null;
+        private Operation dependency = null;
+        private String ddbMemberEtag = null;
+        private String releasedEmail = null;
+        private BulkResult result = null;
+
+        private
+        Operation (final int index, final @Nullable BulkOperation bulkOperation) {
+            super();
+            this.index = index;
+            this.bulkOperation = bulkOperation;
+        }
+
+        @NotNull
+        private static
+        Operation rejected (final int index, final int status, final @Nullable String message) {
+            final Operation operation = new Operation(index, null);
+            operation.settle(status, message);
+            return operation;
+        }
+
+        private
+        boolean isSettled () {
+            return nonNull(this.result);
+        }
+
+        private
+        boolean isFailed () {
+            return this.isSettled() && this.result.status() >= SC_BAD_REQUEST;
+        }
+
+        private
+        void settle (final int status, final @Nullable String message) {
+            this.result = new BulkResult(this.index, Optional.ofNullable(this.bulkOperation)
+                                                             .map(BulkOperation::ref)
+                                                             .orElse(null), Optional.ofNullable(this.memberId)
+                                                                                    .map(UUID::toString)
+                                                                                    .orElse(null), status, message);
+        }
+
+        private
+        boolean settleIfDependencyFailed () {
+            if (nonNull(this.dependency) && this.dependency.isFailed()) {
+                this.settle(SC_FAILED_DEPENDENCY, "ancestor ref `%s` Failed".formatted(requireNonNull(this.bulkOperation).ancestor()));
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * @return ID of the FAMILY a CREATE joins, as a SPOUSE, or descends from
+         */
+        @NotNull
+        private
+        String getAncestorFamilyId () {
+            return isNull(this.dependency)
+                    ? requireNonNull(requireNonNull(this.bulkOperation).ancestor())
+                    : this.dependency.memberId.toString();
+        }
+    }
+
+    private
+    record TransactionItem(@NotNull TransactWriteItem item, @NotNull Set<Operation> owners, @NotNull String conflictMessage) {
+    }
+
+    private
+    record Transaction(@NotNull List<TransactionItem> items) {
+        @NotNull
+        static
+        Transaction of (final @NotNull List<Operation> operations) {
+            final Map<String, FamilyWrite> families = new LinkedHashMap<>();
+            final List<TransactionItem> items = new ArrayList<>();
+            for (final Operation operation : operations) {
+                final BulkOperation bulkOperation = requireNonNull(operation.bulkOperation);
+                final String memberId = operation.memberId.toString();
+                switch (bulkOperation.type()) {
+                    case CREATE -> {
+                        final String ancestorFamilyId = operation.getAncestorFamilyId();
+                        final FamilyWrite ancestorFamily = families.computeIfAbsent(ancestorFamilyId, FamilyWrite::new);
+                        ancestorFamily.owners.add(operation);
+                        final String familyId;
+                        if (requireNonNull(bulkOperation.isSpouse())) {
+                            ancestorFamily.spouse = memberId;
+                            familyId = ancestorFamilyId;
+                        } else {
+                            ancestorFamily.descendants.add(memberId);
+                            final FamilyWrite family = new FamilyWrite(memberId);
+                            family.ancestor = ancestorFamilyId;
+                            family.owners.add(operation);
+                            families.put(memberId, family);
+                            familyId = memberId;
+                        }
+                        items.add(new TransactionItem(TransactWriteItem.builder()
+                                                                       .put(Put.builder()
+                                                                               .tableName(DdbTable.MEMBER.name())
+                                                                               .item(Member.retrieveDdbMap(new MemberRecord(operation.memberId, bulkOperation.member(), UUID.fromString(familyId))))
+                                                                               .build())
+                                                                       .build(), Set.of(operation), "Member Already Exists"));
+                        Optional.ofNullable(bulkOperation.member()
+                                                         .getEmail())
+                                .ifPresent(email -> items.add(new TransactionItem(DdbUtils.claimEmail(email, memberId), Set.of(operation), "EMAIL Already Registered With Another Member")));
+                    }
+                    case UPDATE -> {
+                        final Map<String, String> expressionAttributeNames = new HashMap<>();
+                        final Map<String, AttributeValue> expressionAttributeValues = new HashMap<>();
+                        final String etagName = MemberTableParameter.ETAG.jsonFieldName();
+                        expressionAttributeNames.put("#etag", etagName);
+                        final String conditionExpression;
+                        if (isNull(operation.ddbMemberEtag)) {
+                            expressionAttributeNames.put("#id", MemberTableParameter.ID.jsonFieldName());
+                            conditionExpression = "attribute_exists(#id) AND attribute_not_exists(#etag)";
+                        } else {
+                            expressionAttributeValues.put(":ddbEtag", AttributeValue.fromS(operation.ddbMemberEtag));
+                            conditionExpression = "#etag = :ddbEtag";
+                        }
+                        final Put.Builder putBuilder = Put.builder()
+                                                          .tableName(DdbTable.MEMBER.name())
+                                                          .item(Member.retrieveDdbMap(new MemberRecord(operation.memberId, bulkOperation.member(), operation.familyId)))
+                                                          .conditionExpression(conditionExpression)
+                                                          .expressionAttributeNames(expressionAttributeNames);
+                        if (!expressionAttributeValues.isEmpty()) {
+                            putBuilder.expressionAttributeValues(expressionAttributeValues);
+                        }
+                        items.add(new TransactionItem(TransactWriteItem.builder()
+                                                                       .put(putBuilder.build())
+                                                                       .build(), Set.of(operation), "Member Was Modified Concurrently"));
+                        Optional.ofNullable(operation.releasedEmail)
+                                .ifPresent(email -> items.add(new TransactionItem(DdbUtils.releaseEmail(email, memberId), Set.of(operation), "EMAIL Registered With Another Member")));
+                    }
+                    default -> throw new IllegalStateException("Unhandled Type: %s".formatted(bulkOperation.type()
+                                                                                                            .name()));
+                }
+            }
+            final List<TransactionItem> transactionItems = new ArrayList<>(families.size() + items.size());
+            families.values()
+                    .forEach(family -> transactionItems.add(family.toTransactionItem()));
+            transactionItems.addAll(items);
+            return new Transaction(Collections.unmodifiableList(transactionItems));
+        }
+    }
+
+    /**
+     * Every write one transaction makes to a single FAMILY; a FAMILY created in the transaction is written whole, an existing one is updated
+     */
+    private static final
+    class FamilyWrite {
+        private final @NotNull String id;
+        private final @NotNull Set<String> descendants = new TreeSet<>();
+        private final @NotNull Set<Operation> owners = new LinkedHashSet<>();
+        private String ancestor = null;
+        private String spouse = null;
+
+        private
+        FamilyWrite (final @NotNull String id) {
+            super();
+            this.id = requireNonNull(id);
+        }
+
+        @NotNull
+        TransactionItem toTransactionItem () {
+            final Map<String, String> expressionAttributeNames = new HashMap<>();
+            expressionAttributeNames.put("#id", FamilyTableParameter.ID.jsonFieldName());
+            if (nonNull(this.ancestor)) {
+                final Map<String, AttributeValue> item = new HashMap<>();
+                item.put(FamilyTableParameter.ID.jsonFieldName(), AttributeValue.fromS(this.id));
+                item.put(FamilyTableParameter.ANCESTOR.jsonFieldName(), AttributeValue.fromS(this.ancestor));
+                Optional.ofNullable(this.spouse)
+                        .ifPresent(s -> item.put(FamilyTableParameter.SPOUSE.jsonFieldName(), AttributeValue.fromS(s)));
+                if (!this.descendants.isEmpty()) {
+                    item.put(FamilyTableParameter.DESCENDANTS.jsonFieldName(), AttributeValue.fromSs(List.copyOf(this.descendants)));
+                }
+                return new TransactionItem(TransactWriteItem.builder()
+                                                            .put(Put.builder()
+                                                                    .tableName(DdbTable.FAMILY.name())
+                                                                    .item(item)
+                                                                    .conditionExpression("attribute_not_exists(#id)")
+                                                                    .expressionAttributeNames(expressionAttributeNames)
+                                                                    .build())
+                                                            .build(), Collections.unmodifiableSet(this.owners), "FAMILY Already Exists");
+            }
+
+            final Map<String, AttributeValue> expressionAttributeValues = new HashMap<>();
+            final List<String> actions = new ArrayList<>();
+            String conditionExpression = "attribute_exists(#id)";
+            if (nonNull(this.spouse)) {
+                expressionAttributeNames.put("#spouse", FamilyTableParameter.SPOUSE.jsonFieldName());
+                expressionAttributeValues.put(":spouse", AttributeValue.fromS(this.spouse));
+                actions.add("SET #spouse = :spouse");
+                conditionExpression = "%s AND attribute_not_exists(#spouse)".formatted(conditionExpression);
+            }
+            if (!this.descendants.isEmpty()) {
+                expressionAttributeNames.put("#descendants", FamilyTableParameter.DESCENDANTS.jsonFieldName());
+                expressionAttributeValues.put(":descendants", AttributeValue.fromSs(List.copyOf(this.descendants)));
+                actions.add("ADD #descendants :descendants");
+            }
+            return new TransactionItem(TransactWriteItem.builder()
+                                                        .update(Update.builder()
+                                                                      .tableName(DdbTable.FAMILY.name())
+                                                                      .key(singletonMap(FamilyTableParameter.ID.jsonFieldName(), AttributeValue.fromS(this.id)))
+                                                                      .updateExpression(String.join(" ", actions))
+                                                                      .conditionExpression(conditionExpression)
+                                                                      .expressionAttributeNames(expressionAttributeNames)
+                                                                      .expressionAttributeValues(expressionAttributeValues)
+                                                                      .build())
+                                                        .build(), Collections.unmodifiableSet(this.owners), nonNull(this.spouse)
+                    ? "FAMILY Not Found or Already Has a SPOUSE"
+                    : "FAMILY Not Found");
+        }
+    }
+}
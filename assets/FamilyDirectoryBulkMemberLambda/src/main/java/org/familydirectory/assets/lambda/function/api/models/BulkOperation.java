@@ -0,0 +1,25 @@
+package org.familydirectory.assets.lambda.function.api.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import org.familydirectory.assets.ddb.member.Member;
+import org.familydirectory.assets.ddb.utils.DdbUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * One entry of a bulk request
+ * <p>
+ * A {@link Type#CREATE} takes {@code isSpouse} and an {@code ancestor}, which is either the ID of an existing FAMILY or the {@code ref} of a descendant
+ * {@link Type#CREATE} in the same request; an {@link Type#UPDATE} takes the {@code id} of an existing Member
+ */
+@SuppressFBWarnings("EI_EXPOSE_REP")
+public
+record BulkOperation(@JsonProperty("type") @NotNull Type type, @JsonProperty("ref") @Nullable String ref, @JsonProperty(DdbUtils.PK) @Nullable String id, @JsonProperty("member") @NotNull Member member,
+                     @JsonProperty("isSpouse") @Nullable Boolean isSpouse, @JsonProperty("ancestor") @Nullable String ancestor) {
+    public
+    enum Type {
+        CREATE,
+        UPDATE
+    }
+}
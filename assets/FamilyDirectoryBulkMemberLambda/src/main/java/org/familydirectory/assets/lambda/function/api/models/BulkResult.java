@@ -0,0 +1,13 @@
+package org.familydirectory.assets.lambda.function.api.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.familydirectory.assets.ddb.utils.DdbUtils;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Outcome of the {@link BulkOperation} at {@code index} of the request, with the HTTP status its single-Member endpoint would have answered
+ */
+public
+record BulkResult(@JsonProperty("index") int index, @JsonProperty("ref") @Nullable String ref, @JsonProperty(DdbUtils.PK) @Nullable String id, @JsonProperty("status") int status,
+                  @JsonProperty("message") @Nullable String message) {
+}
@@ -0,0 +1,93 @@
+package org.familydirectory.assets.lambda.function.api.carddav.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.milton.http.Response;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.familydirectory.assets.lambda.function.api.carddav.utils.CarddavXmlUtils.DavResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.emptyMap;
+import static org.familydirectory.assets.lambda.function.api.CarddavLambdaHelper.OBJECT_MAPPER;
+import static org.familydirectory.assets.lambda.function.api.carddav.utils.CarddavXmlUtils.cProp;
+import static org.familydirectory.assets.lambda.function.api.carddav.utils.CarddavXmlUtils.dProp;
+import static org.familydirectory.assets.lambda.function.api.carddav.utils.CarddavXmlUtils.okPropstat;
+import static org.familydirectory.assets.lambda.function.api.carddav.utils.CarddavXmlUtils.renderMultistatus;
+
+/**
+ * Allocation of a multistatus response from rendered XML to the lambda's JSON envelope, run with {@code ./gradlew :carddav-lambda:jmh}; compare
+ * {@code gc.alloc.rate.norm} (bytes per response)
+ * <p>
+ * {@link #bufferEnvelope()} is the current path: XML streamed into a {@link CarddavResponseBody} whose bytes the JsonGenerator escapes straight into the
+ * envelope. {@link #stringEnvelope()} is the path it replaced: the XML decoded to a String, then serialized with the rest of the envelope by the ObjectMapper
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public
+class CarddavResponseBenchmark {
+    private static final String VCARD = """
+                                        BEGIN:VCARD\r
+                                        VERSION:3.0\r
+                                        N:Member;Test;;;\r
+                                        FN:Test Member\r
+                                        BDAY:1970-01-01\r
+                                        EMAIL;TYPE=INTERNET:test.member@example.com\r
+                                        TEL;TYPE=CELL:+15555550123\r
+                                        ADR;TYPE=HOME:;;123 Main St;Springfield;IL;62701;USA\r
+                                        END:VCARD\r
+                                        """;
+
+    @Param({"10", "100", "1000"})
+    public int responses;
+
+    private List<DavResponse> davResponses;
+
+    @Setup
+    public
+    void setup () {
+        this.davResponses = new ArrayList<>(this.responses);
+        for (int i = 0; i < this.responses; ++i) {
+            this.davResponses.add(new DavResponse("/addressbooks/family/%08d.vcf".formatted(i),
+                                                  List.of(okPropstat(List.of(dProp("getetag", "\"%032x\"".formatted(i)),
+                                                                             cProp("address-data", VCARD, emptyMap()))))));
+        }
+    }
+
+    @Benchmark
+    public
+    String bufferEnvelope () {
+        return CarddavResponse.builder()
+                              .status(Response.Status.SC_MULTI_STATUS)
+                              .header(Response.Header.CONTENT_TYPE, Response.APPLICATION_XML)
+                              .body(renderMultistatus(this.davResponses))
+                              .build()
+                              .toString();
+    }
+
+    @Benchmark
+    public
+    String stringEnvelope () throws JsonProcessingException {
+        final String body = renderMultistatus(this.davResponses).toString(UTF_8);
+        final Map<String, String> headers = Map.of(Response.Header.CONTENT_TYPE.code.toLowerCase(Locale.ROOT), Response.APPLICATION_XML,
+                                                   Response.Header.CONTENT_LENGTH.code.toLowerCase(Locale.ROOT),
+                                                   String.valueOf(body.getBytes(UTF_8).length));
+        return OBJECT_MAPPER.writeValueAsString(Map.of("status", Response.Status.SC_MULTI_STATUS.code, "headers", headers, "body", body));
+    }
+}
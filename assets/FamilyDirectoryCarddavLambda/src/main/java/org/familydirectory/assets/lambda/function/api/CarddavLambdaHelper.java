@@ -11,7 +11,9 @@ import io.milton.http.exceptions.MiltonException;
 import io.milton.http.exceptions.NotAuthorizedException;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -28,6 +30,7 @@ import org.familydirectory.assets.ddb.enums.cognito.CognitoTableParameter;
 import org.familydirectory.assets.ddb.enums.sync.SyncTableParameter;
 import org.familydirectory.assets.ddb.models.family.FamilyRecord;
 import org.familydirectory.assets.ddb.models.member.MemberRecord;
+import org.familydirectory.assets.ddb.utils.DdbUtils;
 import org.familydirectory.assets.lambda.function.api.carddav.request.CarddavRequest;
 import org.familydirectory.assets.lambda.function.api.carddav.resource.AbstractResourceObject;
 import org.familydirectory.assets.lambda.function.api.carddav.resource.DeletedMemberResource;
@@ -43,15 +46,17 @@ import org.familydirectory.assets.lambda.function.api.carddav.response.CarddavRe
 import org.familydirectory.assets.lambda.function.api.carddav.utils.CarddavXmlUtils;
 import org.familydirectory.assets.lambda.function.api.carddav.utils.CarddavXmlUtils.DavProperty;
 import org.familydirectory.assets.lambda.function.api.carddav.utils.CarddavXmlUtils.DavResponse;
+import org.familydirectory.assets.lambda.function.api.carddav.utils.CarddavXmlUtils.ReportRequest;
 import org.familydirectory.assets.lambda.function.api.graph.FamilyTree;
 import org.familydirectory.assets.lambda.function.api.helper.ApiHelper;
+import org.familydirectory.assets.lambda.function.api.snapshot.DirectorySnapshot;
 import org.familydirectory.assets.lambda.function.utility.LambdaUtils;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.UnmodifiableView;
-import org.jgrapht.graph.DefaultEdge;
-import org.jgrapht.graph.DirectedAcyclicGraph;
+import software.amazon.awscdk.services.dynamodb.GlobalSecondaryIndexProps;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
-import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
 import static com.amazonaws.services.lambda.runtime.logging.LogLevel.INFO;
 import static io.milton.http.ResponseStatus.SC_UNAUTHORIZED;
 import static java.util.Collections.emptyList;
@@ -77,6 +82,7 @@ import static org.familydirectory.assets.lambda.function.api.CarddavResponseUtil
 import static org.familydirectory.assets.lambda.function.api.CarddavResponseUtils.options;
 import static org.familydirectory.assets.lambda.function.api.carddav.utils.CarddavConstants.ADDRESS_BOOK_PATH;
 import static org.familydirectory.assets.lambda.function.api.carddav.utils.CarddavConstants.CURRENT_USER_PRIVILEGE_SET;
+import static org.familydirectory.assets.lambda.function.api.carddav.utils.CarddavConstants.DIRECTORY_SNAPSHOT_MAX_INCREMENTAL_MEMBERS;
 import static org.familydirectory.assets.lambda.function.api.carddav.utils.CarddavConstants.INITIAL_RESOURCE_CONTAINER_SIZE;
 import static org.familydirectory.assets.lambda.function.api.carddav.utils.CarddavConstants.SUPPORTED_REPORTS;
 import static org.familydirectory.assets.lambda.function.api.carddav.utils.CarddavXmlUtils.CARDDAV_NS;
@@ -87,11 +93,8 @@ import static org.familydirectory.assets.lambda.function.api.carddav.utils.Cardd
 import static org.familydirectory.assets.lambda.function.api.carddav.utils.CarddavXmlUtils.dParent;
 import static org.familydirectory.assets.lambda.function.api.carddav.utils.CarddavXmlUtils.dProp;
 import static org.familydirectory.assets.lambda.function.api.carddav.utils.CarddavXmlUtils.okPropstat;
-import static org.familydirectory.assets.lambda.function.api.carddav.utils.CarddavXmlUtils.parseMultigetHrefs;
 import static org.familydirectory.assets.lambda.function.api.carddav.utils.CarddavXmlUtils.parsePropFind;
-import static org.familydirectory.assets.lambda.function.api.carddav.utils.CarddavXmlUtils.parseReportProps;
-import static org.familydirectory.assets.lambda.function.api.carddav.utils.CarddavXmlUtils.parseReportRoot;
-import static org.familydirectory.assets.lambda.function.api.carddav.utils.CarddavXmlUtils.parseSyncToken;
+import static org.familydirectory.assets.lambda.function.api.carddav.utils.CarddavXmlUtils.parseReport;
 import static org.familydirectory.assets.lambda.function.api.carddav.utils.CarddavXmlUtils.renderMultistatus;
 import static org.familydirectory.assets.lambda.function.api.carddav.utils.CarddavXmlUtils.renderValidSyncTokenError;
 
@@ -100,10 +103,7 @@ class CarddavLambdaHelper extends ApiHelper {
     public static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
     private FDResourceFactory resourceFactory = null;
-    @NotNull
-    private final Set<MemberRecord> memberRecords = new HashSet<>(INITIAL_RESOURCE_CONTAINER_SIZE);
-    @NotNull
-    private final Map<UUID, FamilyRecord> familyRecords = new HashMap<>(INITIAL_RESOURCE_CONTAINER_SIZE);
+    private DirectorySnapshot directorySnapshot = null;
     private FamilyTree familyTree = null;
     private final CarddavRequest request;
 
@@ -138,6 +138,12 @@ class CarddavLambdaHelper extends ApiHelper {
         try {
             @SuppressWarnings("unchecked")
             final var sub = (String) ((Map<String, Object>) this.getRequestEvent().getRequestContext().getAuthorizer().get("lambda")).get("sub");
+            final Caller cachedCaller = this.getCachedCaller(requireNonNull(sub));
+            if (cachedCaller != null) {
+                this.getLogger()
+                    .log("<MEMBER,`%s`,`%s`> Authenticated (cached)".formatted(cachedCaller.caller().id(), cachedCaller.caller().member().getFullName()), INFO);
+                return this.caller = cachedCaller;
+            }
             final UUID memberId = Optional.ofNullable(this.getDdbItem(requireNonNull(sub), DdbTable.COGNITO))
                                           .map(ddb -> ddb.get(CognitoTableParameter.MEMBER.jsonFieldName()))
                                           .map(AttributeValue::s)
@@ -147,7 +153,9 @@ class CarddavLambdaHelper extends ApiHelper {
             this.getLogger()
                 .log("<MEMBER,`%s`,`%s`> Authenticated".formatted(memberRecord.id(), memberRecord.member().getFullName()), INFO);
             // TODO: actually fetch isAdmin if needed later
-            return this.caller = new Caller(memberRecord, false);
+            this.caller = new Caller(memberRecord, false);
+            this.cacheCaller(sub, this.caller);
+            return this.caller;
         } catch (Exception e) {
             throw (ResponseException) new ResponseException(new APIGatewayProxyResponseEvent().withStatusCode(SC_UNAUTHORIZED)).initCause(e);
         }
@@ -197,16 +205,15 @@ class CarddavLambdaHelper extends ApiHelper {
             case OPTIONS -> options(addressbook);
             case PROPFIND -> handleAddressBookPropFind(addressbook);
             case REPORT -> {
-                final var reportRoot = parseReportRoot(this.request::getInputStream);
-                final var ns = reportRoot.getNamespaceURI();
-                if (!ns.startsWith("DAV") && !ns.contains(CARDDAV_NS)) {
+                final var report = parseReport(this.request::getInputStream);
+                final var ns = report.root().getNamespaceURI();
+                if ((!ns.startsWith("DAV") && !ns.contains(CARDDAV_NS)) || report.kind() == null) {
                     yield FORBIDDEN;
                 }
-                yield switch (reportRoot.getLocalPart()) {
-                    case "addressbook-multiget" -> handleAddressbookMultigetReport(addressbook);
-                    case "addressbook-query" -> handleAddressbookQueryReport(addressbook);
-                    case "sync-collection" -> handleAddressbookSyncReport(addressbook);
-                    default -> FORBIDDEN;
+                yield switch (report.kind()) {
+                    case ADDRESSBOOK_MULTIGET -> handleAddressbookMultigetReport(addressbook, report);
+                    case ADDRESSBOOK_QUERY -> handleAddressbookQueryReport(addressbook);
+                    case SYNC_COLLECTION -> handleAddressbookSyncReport(addressbook, report);
                 };
             }
             default -> getDefaultMethodResponse(this.request.getMethod(), addressbook);
@@ -229,9 +236,12 @@ class CarddavLambdaHelper extends ApiHelper {
     }
 
     private
-    CarddavResponse handleAddressbookMultigetReport(FamilyDirectoryResource addressbook) throws BadRequestException {
-        final var hrefs = parseMultigetHrefs(this.request::getInputStream);
-        final var requestProps = parseReportProps(this.request::getInputStream);
+    CarddavResponse handleAddressbookMultigetReport(FamilyDirectoryResource addressbook, ReportRequest report) throws BadRequestException {
+        final var hrefs = report.hrefs();
+        final var requestProps = report.properties();
+        if (hrefs.isEmpty()) {
+            throw new BadRequestException(addressbook, "addressbook-multiget REPORT missing DAV:href");
+        }
 
         final List<DavResponse> responses = new ArrayList<>(hrefs.size());
         for (final var href : hrefs) {
@@ -261,16 +271,16 @@ class CarddavLambdaHelper extends ApiHelper {
     }
 
     private
-    CarddavResponse handleAddressbookSyncReport(FamilyDirectoryResource addressbook) throws BadRequestException {
+    CarddavResponse handleAddressbookSyncReport(FamilyDirectoryResource addressbook, ReportRequest report) throws BadRequestException {
         final URI syncTokenUri;
         final Set<IMemberResource> changesSinceLastSync;
-        final List<QName> requestProps;
+        final List<QName> requestProps = report.properties();
         try {
-            syncTokenUri = parseSyncToken(this.request::getInputStream).map(UUID::fromString)
-                                                                       .map(UUID::toString)
-                                                                       .map(URI::create)
-                                                                       .orElse(null);
-            requestProps = parseReportProps(this.request::getInputStream);
+            syncTokenUri = Optional.ofNullable(report.syncToken())
+                                   .map(UUID::fromString)
+                                   .map(UUID::toString)
+                                   .map(URI::create)
+                                   .orElse(null);
             final var stream = syncTokenUri == null
                 ? addressbook.getChildren()
                              .stream()
@@ -373,40 +383,116 @@ class CarddavLambdaHelper extends ApiHelper {
                               .build();
     }
 
-    private void scanDdb(DdbTable table, Consumer<Map<String, AttributeValue>> itemConsumer) {
-        Map<String, AttributeValue> lastEvaluatedKey = emptyMap();
-        do {
-            final var scanRequestBuilder = ScanRequest.builder().tableName(table.name());
-            if (!lastEvaluatedKey.isEmpty()) {
-                scanRequestBuilder.exclusiveStartKey(lastEvaluatedKey);
+    @NotNull
+    private
+    DirectorySnapshot getDirectorySnapshot () {
+        if (this.directorySnapshot != null) {
+            return this.directorySnapshot;
+        }
+        final UUID latestToken = this.getLatestSyncToken();
+        DirectorySnapshot snapshot = DirectorySnapshot.getWarmSnapshot();
+        if (snapshot == null) {
+            snapshot = this.loadDirectorySnapshot(latestToken);
+        } else if (!snapshot.token().equals(latestToken)) {
+            try {
+                snapshot = this.refreshDirectorySnapshot(snapshot, latestToken);
+            } catch (final NoSuchTokenException e) {
+                this.getLogger()
+                    .log("<SYNC,`%s`> Expired, Reloading Directory Snapshot".formatted(snapshot.token()), INFO);
+                snapshot = this.loadDirectorySnapshot(latestToken);
             }
-            final var scanResponse = this.getDynamoDbClient().scan(scanRequestBuilder.build());
-            scanResponse.items().forEach(itemConsumer);
-            lastEvaluatedKey = scanResponse.lastEvaluatedKey();
-        } while (!lastEvaluatedKey.isEmpty());
+        }
+        DirectorySnapshot.setWarmSnapshot(snapshot);
+        return this.directorySnapshot = snapshot;
+    }
+
+    @NotNull
+    private
+    DirectorySnapshot loadDirectorySnapshot (final @NotNull UUID token) {
+        final var items = this.scanDdb(EnumSet.of(DdbTable.MEMBER, DdbTable.FAMILY));
+        final Map<UUID, MemberRecord> members = new HashMap<>(INITIAL_RESOURCE_CONTAINER_SIZE);
+        items.get(DdbTable.MEMBER)
+             .stream()
+             .map(MemberRecord::convertDdbMap)
+             .forEach(memberRecord -> members.put(memberRecord.id(), memberRecord));
+        final Map<UUID, FamilyRecord> families = new HashMap<>(INITIAL_RESOURCE_CONTAINER_SIZE);
+        items.get(DdbTable.FAMILY)
+             .stream()
+             .map(FamilyRecord::convertDdbMap)
+             .forEach(familyRecord -> families.put(familyRecord.id(), familyRecord));
+        return new DirectorySnapshot(token, members, families);
+    }
+
+    /**
+     * Re-reads only the members changed since {@code stale} was taken, along with every family those members could have touched:
+     * their own family, the family they belong to, and the ancestor family whose descendants they are listed in
+     *
+     * @throws NoSuchTokenException when {@code stale}'s token has been ttl'd
+     */
+    @NotNull
+    private
+    DirectorySnapshot refreshDirectorySnapshot (final @NotNull DirectorySnapshot stale, final @NotNull UUID latestToken) throws NoSuchTokenException {
+        final Set<UUID> changedMemberIds = this.traverseSyncDdb(stale.token());
+        if (changedMemberIds.size() > DIRECTORY_SNAPSHOT_MAX_INCREMENTAL_MEMBERS) {
+            return this.loadDirectorySnapshot(latestToken);
+        }
+        final Map<UUID, MemberRecord> members = new HashMap<>(stale.members());
+        final Map<UUID, FamilyRecord> families = new HashMap<>(stale.families());
+        final Set<UUID> changedFamilyIds = new HashSet<>();
+        for (final UUID memberId : changedMemberIds) {
+            changedFamilyIds.add(memberId);
+            Optional.ofNullable(members.remove(memberId))
+                    .map(MemberRecord::familyId)
+                    .ifPresent(changedFamilyIds::add);
+            Optional.ofNullable(this.getDdbItem(memberId.toString(), DdbTable.MEMBER))
+                    .map(MemberRecord::convertDdbMap)
+                    .ifPresent(memberRecord -> {
+                        members.put(memberId, memberRecord);
+                        changedFamilyIds.add(memberRecord.familyId());
+                    });
+        }
+        final Set<UUID> ancestorFamilyIds = new HashSet<>();
+        final Consumer<UUID> refreshFamily = familyId -> {
+            Optional.ofNullable(families.remove(familyId))
+                    .map(FamilyRecord::ancestor)
+                    .ifPresent(ancestorFamilyIds::add);
+            Optional.ofNullable(this.getDdbItem(familyId.toString(), DdbTable.FAMILY))
+                    .map(FamilyRecord::convertDdbMap)
+                    .ifPresent(familyRecord -> {
+                        families.put(familyId, familyRecord);
+                        ancestorFamilyIds.add(familyRecord.ancestor());
+                    });
+        };
+        changedFamilyIds.forEach(refreshFamily);
+        ancestorFamilyIds.removeAll(changedFamilyIds);
+        Set.copyOf(ancestorFamilyIds)
+           .forEach(refreshFamily);
+        return new DirectorySnapshot(latestToken, members, families);
     }
 
     @NotNull
     @UnmodifiableView
     public
-    Set<MemberRecord> scanMemberDdb () {
-        if (this.memberRecords.isEmpty()) {
-            this.scanDdb(DdbTable.MEMBER, ddbMap -> this.memberRecords.add(MemberRecord.convertDdbMap(ddbMap)));
-        }
-        return Collections.unmodifiableSet(this.memberRecords);
+    Collection<MemberRecord> scanMemberDdb () {
+        return Collections.unmodifiableCollection(this.getDirectorySnapshot()
+                                                      .members()
+                                                      .values());
+    }
+
+    @Nullable
+    public
+    MemberRecord getMemberRecord (final @NotNull UUID memberId) {
+        return this.getDirectorySnapshot()
+                   .members()
+                   .get(memberId);
     }
 
     @NotNull
     @UnmodifiableView
     private
     Map<UUID, FamilyRecord> scanFamilyDdb () {
-        if (this.familyRecords.isEmpty()) {
-            this.scanDdb(DdbTable.FAMILY, ddbMap -> {
-                final var familyRecord = FamilyRecord.convertDdbMap(ddbMap);
-                this.familyRecords.put(familyRecord.id(), familyRecord);
-            });
-        }
-        return Collections.unmodifiableMap(this.familyRecords);
+        return this.getDirectorySnapshot()
+                   .families();
     }
 
     @NotNull
@@ -415,46 +501,94 @@ class CarddavLambdaHelper extends ApiHelper {
         if (this.familyTree != null) {
             return this.familyTree;
         }
-        final var familyRecordMap = this.scanFamilyDdb();
-        final var familyRecords = familyRecordMap.values();
-        final var graph = new DirectedAcyclicGraph<FamilyRecord, DefaultEdge>(DefaultEdge.class);
-        familyRecords.forEach(graph::addVertex);
-        familyRecords.stream()
-                     .filter(familyRecord -> !familyRecord.id().equals(familyRecord.ancestor()))
-                     .forEach(familyRecord -> graph.addEdge(familyRecordMap.get(familyRecord.ancestor()), familyRecord));
         try {
-            return this.familyTree = new FamilyTree(graph, this.getCaller().caller());
+            return this.familyTree = new FamilyTree(this.scanFamilyDdb().values(), this.getCaller().caller());
         } catch (ResponseException e) {
             throw asRuntimeException(e);
         }
     }
 
+    /**
+     * Member ids changed by every token after {@code fromToken}
+     * <p>
+     * Tokens written with {@link SyncTableParameter#LOG} are read from the SyncLog index with a single paginated Query, consumed only while each token is the NEXT of
+     * the one before it; NEXT pointers are then followed from the last consumed token, which covers tokens written before the index existed and any the
+     * eventually consistent index has not caught up to yet
+     */
     @NotNull
     @UnmodifiableView
     public
     Set<UUID> traverseSyncDdb (UUID fromToken) throws NoSuchTokenException {
         final var changedMemberIds = new HashSet<UUID>();
-        Optional<UUID> nextToken = Optional.of(fromToken);
+        final var fromAttrMap = this.getSyncDdbItem(fromToken.toString());
+        String cursor = fromToken.toString();
+        Optional<UUID> nextToken = getNextToken(fromAttrMap);
+        boolean isNextTokenConfirmed = true;
+        if (nextToken.isPresent() && fromAttrMap.containsKey(SyncTableParameter.LOG.jsonFieldName())) {
+            final GlobalSecondaryIndexProps syncLogGsiProps = requireNonNull(SyncTableParameter.LOG.gsiProps());
+            final QueryRequest syncLogQueryRequest = QueryRequest.builder()
+                                                                 .tableName(DdbTable.SYNC.name())
+                                                                 .indexName(syncLogGsiProps.getIndexName())
+                                                                 .keyConditionExpression("#log = :log AND #id > :token")
+                                                                 .expressionAttributeNames(Map.of(
+                                                                     "#log", requireNonNull(syncLogGsiProps.getPartitionKey()).getName(),
+                                                                     "#id", requireNonNull(syncLogGsiProps.getSortKey()).getName()
+                                                                 ))
+                                                                 .expressionAttributeValues(Map.of(
+                                                                     ":log", AttributeValue.fromS(DdbUtils.SYNC_LOG_PARTITION),
+                                                                     ":token", AttributeValue.fromS(cursor)
+                                                                 ))
+                                                                 .build();
+            for (final var tokenAttrMap : this.getDynamoDbClient().queryPaginator(syncLogQueryRequest).items()) {
+                final String token = tokenAttrMap.get(SyncTableParameter.ID.jsonFieldName()).s();
+                if (nextToken.filter(next -> next.toString().equals(token)).isEmpty()) {
+                    break;
+                }
+                changedMemberIds.addAll(getMembers(tokenAttrMap));
+                cursor = token;
+                nextToken = getNextToken(tokenAttrMap);
+                isNextTokenConfirmed = false;
+            }
+        }
+        if (!isNextTokenConfirmed && nextToken.isEmpty()) {
+            // NEXT is set exactly once, so only an absent NEXT can be stale in the index
+            nextToken = getNextToken(this.getSyncDdbItem(cursor));
+        }
         while (nextToken.isPresent()) {
-            final String token = nextToken.get().toString();
-            final boolean isFromToken = fromToken.equals(nextToken.get());
-            final var tokenAttrMap = Optional.ofNullable(this.getDdbItem(token, DdbTable.SYNC))
-                                             .orElseThrow(() -> new NoSuchTokenException(token));
-            nextToken = Optional.ofNullable(tokenAttrMap.get(SyncTableParameter.NEXT.jsonFieldName()))
-                                .map(AttributeValue::s)
-                                .filter(Predicate.not(String::isBlank))
-                                .map(UUID::fromString);
-            if (isFromToken) continue;
-            changedMemberIds.addAll(Optional.ofNullable(tokenAttrMap.get(SyncTableParameter.MEMBERS.jsonFieldName()))
-                                            .map(AttributeValue::ss)
-                                            .stream()
-                                            .flatMap(List::stream)
-                                            .map(UUID::fromString)
-                                            .toList());
+            final var tokenAttrMap = this.getSyncDdbItem(nextToken.get().toString());
+            nextToken = getNextToken(tokenAttrMap);
+            changedMemberIds.addAll(getMembers(tokenAttrMap));
         }
         return Collections.unmodifiableSet(changedMemberIds);
     }
 
+    @NotNull
+    private
+    Map<String, AttributeValue> getSyncDdbItem (@NotNull String token) throws NoSuchTokenException {
+        return Optional.ofNullable(this.getDdbItem(token, DdbTable.SYNC))
+                       .orElseThrow(() -> new NoSuchTokenException(token));
+    }
+
+    @NotNull
+    private static
+    Optional<UUID> getNextToken (@NotNull Map<String, AttributeValue> tokenAttrMap) {
+        return Optional.ofNullable(tokenAttrMap.get(SyncTableParameter.NEXT.jsonFieldName()))
+                       .map(AttributeValue::s)
+                       .filter(Predicate.not(String::isBlank))
+                       .map(UUID::fromString);
+    }
+
+    @NotNull
+    private static
+    List<UUID> getMembers (@NotNull Map<String, AttributeValue> tokenAttrMap) {
+        return Optional.ofNullable(tokenAttrMap.get(SyncTableParameter.MEMBERS.jsonFieldName()))
+                       .map(AttributeValue::ss)
+                       .stream()
+                       .flatMap(List::stream)
+                       .map(UUID::fromString)
+                       .toList();
+    }
+
     public
     void registerResourceFactory(@NotNull FDResourceFactory resourceFactory) {
         if (this.resourceFactory != null) {
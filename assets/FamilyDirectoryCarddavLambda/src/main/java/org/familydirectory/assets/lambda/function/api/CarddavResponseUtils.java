@@ -32,7 +32,6 @@ import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.unmodifiableList;
-import static java.util.Collections.unmodifiableMap;
 import static java.util.stream.Collectors.joining;
 import static org.familydirectory.assets.lambda.function.api.carddav.utils.CarddavConstants.CURRENT_USER_PRIVILEGE_SET;
 import static org.familydirectory.assets.lambda.function.api.carddav.utils.CarddavConstants.PRINCIPALS_COLLECTION_PATH;
@@ -115,30 +114,30 @@ enum CarddavResponseUtils {
     }
 
     static
-    Map<QName, DavProperty> getVcardResourceSupportedProps (AbstractVcardResource resource, boolean isPropFind) {
-        final var supported = new HashMap<>(Map.of(
+    Map<QName, DavProperty> getVcardResourceSupportedProps (AbstractVcardResource resource) {
+        return Map.of(
             new QName(DAV_NS, "getetag"), dProp("getetag", '"' + resource.getEtag() + '"'),
             new QName(DAV_NS, "getlastmodified"), dProp("getlastmodified", formatForWebDavModifiedDate(resource.getModifiedDate())),
             new QName(DAV_NS, "getcontenttype"), dProp("getcontenttype", resource.getContentType(null)),
             new QName(DAV_NS, "resourcetype"), dEmpty("resourcetype"),
             new QName(DAV_NS, "current-user-privilege-set"), CURRENT_USER_PRIVILEGE_SET
-        ));
-
-        if (!isPropFind) {
-            supported.put(new QName(CARDDAV_NS, "address-data"), cProp("address-data", resource.getAddressData(), emptyMap()));
-        }
-
-        return unmodifiableMap(supported);
+        );
     }
 
     static
     List<DavProperty> getVcardResourceProps (AbstractVcardResource resource, Collection<QName> requested, boolean isPropFind) {
         Predicate<QName> wants = qn -> requested.isEmpty() || requested.contains(qn);
-        return getVcardResourceSupportedProps(resource, isPropFind).entrySet()
-                                                                   .stream()
-                                                                   .filter(e -> wants.test(e.getKey()))
-                                                                   .map(Map.Entry::getValue)
-                                                                   .toList();
+        final var props = new ArrayList<DavProperty>();
+        getVcardResourceSupportedProps(resource).entrySet()
+                                                .stream()
+                                                .filter(e -> wants.test(e.getKey()))
+                                                .map(Map.Entry::getValue)
+                                                .forEach(props::add);
+        // address-data is the only prop that renders the vCard, so only build it when asked for
+        if (!isPropFind && wants.test(new QName(CARDDAV_NS, "address-data"))) {
+            props.add(cProp("address-data", resource.getAddressData(), emptyMap()));
+        }
+        return unmodifiableList(props);
     }
 
     static
@@ -288,7 +287,7 @@ enum CarddavResponseUtils {
             }
             case PROPFIND -> {
                 final var pf = parsePropFind(request::getInputStream);
-                final var supported = getVcardResourceSupportedProps(resource, true);
+                final var supported = getVcardResourceSupportedProps(resource);
                 final var propStats = buildPropStatsForFixedProps(pf, supported);
                 final var davResponse = new DavResponse(resource.getHref(), propStats);
                 yield CarddavResponse.builder()
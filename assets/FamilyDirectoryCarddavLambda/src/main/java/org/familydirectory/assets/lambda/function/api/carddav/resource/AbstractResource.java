@@ -38,12 +38,9 @@ class AbstractResource extends AbstractResourceObject implements PropFindableRes
     @Override
     public final
     Map<Principal, List<Priviledge>> getAccessControlList () {
-        return this.resourceFactory.getResources()
+        return this.resourceFactory.getPrincipalCollectionResource()
+                                   .getChildren()
                                    .stream()
-                                   .filter(PrincipalCollectionResource.class::isInstance)
-                                   .map(PrincipalCollectionResource.class::cast)
-                                   .map(PrincipalCollectionResource::getChildren)
-                                   .flatMap(List::stream)
                                    .collect(toUnmodifiableMap(identity(), p -> p.getPriviledges(null)));
     }
 
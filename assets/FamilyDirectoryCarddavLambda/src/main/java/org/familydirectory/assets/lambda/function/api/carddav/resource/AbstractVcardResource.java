@@ -7,40 +7,57 @@ import io.milton.resource.GetableResource;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.Map;
-import java.util.function.Supplier;
 import org.familydirectory.assets.lambda.function.api.CarddavLambdaHelper;
 import org.jetbrains.annotations.NotNull;
+import static java.util.Objects.requireNonNull;
 import static org.apache.commons.codec.binary.StringUtils.newStringUtf8;
-import static org.apache.commons.codec.digest.DigestUtils.sha256Hex;
 import static org.familydirectory.assets.lambda.function.api.carddav.utils.CarddavConstants.VCARD_CONTENT_TYPE;
 
 public sealed abstract
 class AbstractVcardResource extends AbstractResource implements IMemberResource, GetableResource, AddressResource
     permits PresentMemberResource, KindResource
 {
-    protected final byte[] vcard;
+    private byte[] vcard = null;
+    private String etag = null;
 
     /**
      * @see FDResourceFactory
      */
-    AbstractVcardResource (@NotNull CarddavLambdaHelper carddavLambdaHelper, @NotNull String name, @NotNull Supplier<byte[]> vcardSupplier) {
+    AbstractVcardResource (@NotNull CarddavLambdaHelper carddavLambdaHelper, @NotNull String name) {
         super(carddavLambdaHelper, name);
-        this.vcard = vcardSupplier.get();
+    }
+
+    /**
+     * Only called once the vCard body is actually needed (GET or address-data), see {@link #getVcard()}
+     */
+    @NotNull
+    protected abstract
+    byte[] renderVcard ();
+
+    /**
+     * Must change whenever {@link #renderVcard()} would render different content, without rendering it
+     */
+    @NotNull
+    protected abstract
+    String getFingerprint ();
+
+    @NotNull
+    private
+    byte[] getVcard () {
+        if (this.vcard == null) {
+            this.vcard = requireNonNull(this.renderVcard());
+        }
+        return this.vcard;
     }
 
     protected static FamilyDirectoryResource getParent(CarddavLambdaHelper carddavLambdaHelper) {
-        return carddavLambdaHelper.getResourceFactory().getResources()
-                                  .stream()
-                                  .filter(FamilyDirectoryResource.class::isInstance)
-                                  .map(FamilyDirectoryResource.class::cast)
-                                  .findAny()
-                                  .orElseThrow();
+        return carddavLambdaHelper.getResourceFactory().getFamilyDirectoryResource();
     }
 
     @Override
     public final
     void sendContent (@NotNull OutputStream out, Range range, Map<String, String> params, String contentType) throws IOException {
-        out.write(vcard);
+        out.write(this.getVcard());
     }
 
     @Override
@@ -58,18 +75,21 @@ class AbstractVcardResource extends AbstractResource implements IMemberResource,
     @Override
     public final
     Long getContentLength () {
-        return (long) this.vcard.length;
+        return (long) this.getVcard().length;
     }
 
     @Override
     public final
     String getEtag () {
-        return sha256Hex(this.vcard);
+        if (this.etag == null) {
+            this.etag = this.getFingerprint();
+        }
+        return this.etag;
     }
 
     @Override
     public final
     String getAddressData () {
-        return newStringUtf8(this.vcard);
+        return newStringUtf8(this.getVcard());
     }
 }
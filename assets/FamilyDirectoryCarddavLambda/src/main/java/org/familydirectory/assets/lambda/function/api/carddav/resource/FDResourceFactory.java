@@ -6,20 +6,34 @@ import io.milton.http.exceptions.BadRequestException;
 import io.milton.http.exceptions.NotAuthorizedException;
 import io.milton.resource.CollectionResource;
 import io.milton.resource.Resource;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import org.familydirectory.assets.lambda.function.api.CarddavLambdaHelper;
 import org.familydirectory.assets.lambda.function.api.helper.ApiHelper;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.UnmodifiableView;
 import static java.util.Objects.requireNonNull;
 import static org.familydirectory.assets.lambda.function.api.carddav.utils.CarddavConstants.INITIAL_RESOURCE_CONTAINER_SIZE;
 
+/**
+ * Every {@link AbstractResourceObject} registers itself here on construction; besides the set of all resources, the factory keeps indexes by href name, member id and
+ * resource type, so lookups never have to walk every registered resource
+ */
 public final
 class FDResourceFactory implements ResourceFactory {
     private final Set<AbstractResourceObject> resources = new HashSet<>(INITIAL_RESOURCE_CONTAINER_SIZE);
+    private final Map<String, IMemberResource> memberResourcesByName = new HashMap<>(INITIAL_RESOURCE_CONTAINER_SIZE);
+    private final Map<UUID, PresentMemberResource> presentMemberResourcesById = new HashMap<>(INITIAL_RESOURCE_CONTAINER_SIZE);
+    private PrincipalCollectionResource principalCollectionResource = null;
+    private UserPrincipal userPrincipal = null;
+    private FamilyDirectoryResource familyDirectoryResource = null;
     private final RootCollectionResource rootCollectionResource;
 
     public
@@ -46,17 +60,59 @@ class FDResourceFactory implements ResourceFactory {
         throw new BadRequestException(parent, "Unknown Resource: " + path.getName());
     }
 
+    /**
+     * Called from {@link AbstractResourceObject}'s constructor, so only {@link AbstractResourceObject#getName()} may be relied upon here
+     */
     void registerNewResource (AbstractResourceObject resource) {
         if (this.resources.contains(resource)) {
             throw new IllegalStateException("Resource `%s` already exists".formatted(resource.getName()));
         }
         this.resources.add(resource);
+        switch (resource) {
+            case PresentMemberResource present -> {
+                this.memberResourcesByName.put(present.getName(), present);
+                this.presentMemberResourcesById.put(UUID.fromString(present.getName()), present);
+            }
+            case KindResource kind -> this.memberResourcesByName.put(kind.getName(), kind);
+            case DeletedMemberResource deleted -> this.memberResourcesByName.put(deleted.getName(), deleted);
+            case PrincipalCollectionResource principals -> this.principalCollectionResource = principals;
+            case UserPrincipal user -> this.userPrincipal = user;
+            case FamilyDirectoryResource addressbook -> this.familyDirectoryResource = addressbook;
+            case RootCollectionResource ignored -> {
+            }
+            case SystemPrincipal ignored -> {
+            }
+        }
+    }
+
+    @Nullable
+    IMemberResource getMemberResource (@NotNull String name) {
+        return this.memberResourcesByName.get(name);
     }
 
     @Contract(pure = true)
     @NotNull
     @UnmodifiableView
-    Set<AbstractResourceObject> getResources () {
-        return Collections.unmodifiableSet(this.resources);
+    Collection<IMemberResource> getMemberResources () {
+        return Collections.unmodifiableCollection(this.memberResourcesByName.values());
+    }
+
+    boolean hasPresentMemberResource (@NotNull UUID memberId) {
+        return this.presentMemberResourcesById.containsKey(memberId);
+    }
+
+    @NotNull
+    PrincipalCollectionResource getPrincipalCollectionResource () {
+        return requireNonNull(this.principalCollectionResource);
+    }
+
+    @NotNull
+    UserPrincipal getUserPrincipal () {
+        return requireNonNull(this.userPrincipal);
+    }
+
+    @NotNull
+    FamilyDirectoryResource getFamilyDirectoryResource () {
+        return requireNonNull(this.familyDirectoryResource);
     }
 }
@@ -19,24 +19,17 @@ import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
-import org.familydirectory.assets.ddb.enums.DdbTable;
-import org.familydirectory.assets.ddb.enums.sync.SyncTableParameter;
-import org.familydirectory.assets.ddb.models.member.MemberRecord;
-import org.familydirectory.assets.ddb.utils.DdbUtils;
 import org.familydirectory.assets.lambda.function.api.CarddavLambdaHelper;
 import org.familydirectory.assets.lambda.function.api.graph.Relationship;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Unmodifiable;
-import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
-import static com.fasterxml.uuid.UUIDType.TIME_BASED_EPOCH;
 import static java.util.Arrays.stream;
 import static java.util.Collections.emptyMap;
 import static java.util.Locale.ENGLISH;
 import static java.util.Objects.requireNonNullElseGet;
 import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.toUnmodifiableMap;
-import static java.util.stream.Collectors.toUnmodifiableSet;
 import static org.familydirectory.assets.lambda.function.api.carddav.utils.CarddavConstants.ADDRESS_BOOK;
 import static org.familydirectory.assets.lambda.function.api.carddav.utils.CarddavConstants.SUPPORTED_ADDRESS_DATA;
 
@@ -65,14 +58,9 @@ class FamilyDirectoryResource extends AbstractResource implements AddressBookRes
     @NotNull
     public
     IMemberResource child (String childName) {
-        final var prefetch = this.resourceFactory.getResources()
-                                                 .stream()
-                                                 .filter(IMemberResource.class::isInstance)
-                                                 .map(IMemberResource.class::cast)
-                                                 .filter(memberResource -> memberResource.getName().equals(childName))
-                                                 .findAny();
-        if (prefetch.isPresent()) {
-            return prefetch.get();
+        final var prefetch = this.resourceFactory.getMemberResource(childName);
+        if (prefetch != null) {
+            return prefetch;
         }
         final Supplier<DeletedMemberResource> deleted = () -> new DeletedMemberResource(this.carddavLambdaHelper, childName, this.getModifiedDate());
         final var relationship = stream(Relationship.values()).filter(i -> i.name().equals(childName))
@@ -83,8 +71,13 @@ class FamilyDirectoryResource extends AbstractResource implements AddressBookRes
         if (this.isMemberResourcesComplete) {
             return deleted.get();
         }
-        return Optional.ofNullable(this.carddavLambdaHelper.getDdbItem(childName, DdbTable.MEMBER))
-                       .map(MemberRecord::convertDdbMap)
+        final UUID memberId;
+        try {
+            memberId = UUID.fromString(childName);
+        } catch (final IllegalArgumentException e) {
+            return deleted.get();
+        }
+        return Optional.ofNullable(this.carddavLambdaHelper.getMemberRecord(memberId))
                        .map(memberRecord -> (IMemberResource) new PresentMemberResource(this.carddavLambdaHelper, memberRecord))
                        .orElseGet(deleted);
     }
@@ -95,24 +88,15 @@ class FamilyDirectoryResource extends AbstractResource implements AddressBookRes
     public
     List<IMemberResource> getChildren () {
         if (!this.isMemberResourcesComplete) {
-            final var existingResources = this.resourceFactory.getResources()
-                                                              .stream()
-                                                              .filter(AbstractVcardResource.class::isInstance)
-                                                              .map(AbstractVcardResource.class::cast)
-                                                              .map(AbstractVcardResource::getName)
-                                                              .collect(toUnmodifiableSet());
             this.carddavLambdaHelper.scanMemberDdb()
                                     .stream()
-                                    .filter(memberRecord -> !existingResources.contains(memberRecord.id().toString()))
+                                    .filter(memberRecord -> !this.resourceFactory.hasPresentMemberResource(memberRecord.id()))
                                     .forEach(memberRecord -> new PresentMemberResource(this.carddavLambdaHelper, memberRecord));
-            stream(Relationship.values()).forEach(relationship -> KindResource.create(this.carddavLambdaHelper, relationship));
+            stream(Relationship.values()).filter(relationship -> this.resourceFactory.getMemberResource(relationship.name()) == null)
+                                         .forEach(relationship -> KindResource.create(this.carddavLambdaHelper, relationship));
             this.isMemberResourcesComplete = true;
         }
-        return this.resourceFactory.getResources()
-                                   .stream()
-                                   .filter(IMemberResource.class::isInstance)
-                                   .map(IMemberResource.class::cast)
-                                   .toList();
+        return List.copyOf(this.resourceFactory.getMemberResources());
     }
 
     @Override
@@ -120,12 +104,7 @@ class FamilyDirectoryResource extends AbstractResource implements AddressBookRes
     public
     String getCTag () {
         if (this.ctag != null) return this.ctag.toString();
-        this.ctag = Optional.ofNullable(this.carddavLambdaHelper.getDdbItem(DdbUtils.SYNC_TOKEN_LATEST.toString(), DdbTable.SYNC))
-                            .map(map -> map.get(SyncTableParameter.NEXT.jsonFieldName()))
-                            .map(AttributeValue::s)
-                            .map(UUID::fromString)
-                            .filter(ctag -> TIME_BASED_EPOCH.equals(UUIDUtil.typeOf(ctag)))
-                            .orElseThrow();
+        this.ctag = this.carddavLambdaHelper.getLatestSyncToken();
         return this.ctag.toString();
     }
 
@@ -228,12 +207,6 @@ class FamilyDirectoryResource extends AbstractResource implements AddressBookRes
 
     public
     String getMeCard() {
-        return this.resourceFactory.getResources()
-                                   .stream()
-                                   .filter(UserPrincipal.class::isInstance)
-                                   .map(UserPrincipal.class::cast)
-                                   .findAny()
-                                   .orElseThrow()
-                                   .getAddress();
+        return this.resourceFactory.getUserPrincipal().getAddress();
     }
 }
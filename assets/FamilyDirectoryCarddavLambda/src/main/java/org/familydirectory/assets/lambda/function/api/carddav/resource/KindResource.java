@@ -3,6 +3,7 @@ package org.familydirectory.assets.lambda.function.api.carddav.resource;
 import java.time.Instant;
 import java.util.Date;
 import java.util.Set;
+import java.util.UUID;
 import org.familydirectory.assets.ddb.models.member.IMemberRecord;
 import org.familydirectory.assets.lambda.function.api.CarddavLambdaHelper;
 import org.familydirectory.assets.lambda.function.api.carddav.utils.vcf.GroupVCF;
@@ -10,10 +11,16 @@ import org.familydirectory.assets.lambda.function.api.graph.Relationship;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import static java.time.Clock.systemUTC;
+import static java.util.stream.Collectors.joining;
 import static org.apache.commons.codec.binary.StringUtils.getBytesUtf8;
+import static org.apache.commons.codec.digest.DigestUtils.sha256Hex;
 
 public final
 class KindResource extends AbstractVcardResource {
+    @NotNull
+    private final Relationship relationship;
+    @NotNull
+    private final Set<IMemberRecord> relatives;
 
     static @Nullable
     KindResource create(final @NotNull CarddavLambdaHelper carddavLambdaHelper, final @NotNull Relationship relationship) {
@@ -32,10 +39,31 @@ class KindResource extends AbstractVcardResource {
         final @NotNull Relationship relationship,
         final @NotNull Set<IMemberRecord> relatives
     ) {
-        super(carddavLambdaHelper, relationship.name(), () -> {
-            final var vcard = new GroupVCF(relationship.name(), relationship.getDisplayLabel(), relatives);
-            return getBytesUtf8(vcard.toString());
-        });
+        super(carddavLambdaHelper, relationship.name());
+        this.relationship = relationship;
+        this.relatives = Set.copyOf(relatives);
+    }
+
+    @Override
+    @NotNull
+    protected
+    byte[] renderVcard () {
+        final var vcard = new GroupVCF(this.relationship.name(), this.relationship.getDisplayLabel(), this.relatives);
+        return getBytesUtf8(vcard.toString());
+    }
+
+    /**
+     * The group vCard only varies by its members; REV is the render time and is deliberately left out
+     */
+    @Override
+    @NotNull
+    protected
+    String getFingerprint () {
+        return sha256Hex(this.relatives.stream()
+                                       .map(IMemberRecord::id)
+                                       .map(UUID::toString)
+                                       .sorted()
+                                       .collect(joining(",", this.relationship.name() + ':', "")));
     }
 
     @Override
@@ -1,42 +1,68 @@
 package org.familydirectory.assets.lambda.function.api.carddav.resource;
 
 import java.util.Date;
-import java.util.HashSet;
 import java.util.Set;
+import java.util.TreeSet;
 import org.familydirectory.assets.lambda.function.api.carddav.utils.vcf.ContactVCF;
 import org.familydirectory.assets.ddb.models.member.MemberRecord;
 import org.familydirectory.assets.lambda.function.api.CarddavLambdaHelper;
 import org.familydirectory.assets.lambda.function.api.graph.Relationship;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
 import static java.time.ZoneOffset.UTC;
 import static java.util.Collections.unmodifiableSet;
 import static org.apache.commons.codec.binary.StringUtils.getBytesUtf8;
+import static org.apache.commons.codec.digest.DigestUtils.sha256Hex;
 
 public final
 class PresentMemberResource extends AbstractVcardResource {
     @NotNull
     private final MemberRecord member;
+    private Set<String> categories = null;
 
     /**
      * @see FDResourceFactory
      */
     PresentMemberResource (final @NotNull CarddavLambdaHelper carddavLambdaHelper, final @NotNull MemberRecord member) {
-        super(carddavLambdaHelper, member.id().toString(), () -> {
-            final var parent = getParent(carddavLambdaHelper);
-            final var categories = new HashSet<String>();
-            categories.add(parent.getDescription()
-                                 .getValue());
-            carddavLambdaHelper.getFamilyTree()
-                               .getRelationships(member)
-                               .stream()
-                               .map(Relationship::getDisplayLabel)
-                               .forEach(categories::add);
-            final var vcard = new ContactVCF(member, unmodifiableSet(categories));
-            return getBytesUtf8(vcard.toString());
-        });
+        super(carddavLambdaHelper, member.id().toString());
         this.member = member;
     }
 
+    @NotNull
+    @Unmodifiable
+    private
+    Set<String> getCategories () {
+        if (this.categories != null) {
+            return this.categories;
+        }
+        final var categories = new TreeSet<String>();
+        categories.add(getParent(this.carddavLambdaHelper).getDescription()
+                                                          .getValue());
+        this.getRelationships()
+            .stream()
+            .map(Relationship::getDisplayLabel)
+            .forEach(categories::add);
+        return this.categories = unmodifiableSet(categories);
+    }
+
+    @Override
+    @NotNull
+    protected
+    byte[] renderVcard () {
+        final var vcard = new ContactVCF(this.member, this.getCategories());
+        return getBytesUtf8(vcard.toString());
+    }
+
+    /**
+     * The vCard is a function of the Member (covered by its etag) and its categories
+     */
+    @Override
+    @NotNull
+    protected
+    String getFingerprint () {
+        return sha256Hex(this.member.member().getEtag() + String.join(",", this.getCategories()));
+    }
+
     @Override
     @NotNull
     public
@@ -1,62 +1,85 @@
 package org.familydirectory.assets.lambda.function.api.carddav.response;
 
-import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonEncoding;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.milton.http.Response;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Optional;
 import lombok.Builder;
 import lombok.NonNull;
 import lombok.Singular;
-import lombok.Value;
-import org.apache.commons.codec.binary.StringUtils;
-import static java.util.stream.Collectors.toUnmodifiableMap;
-import static org.apache.commons.codec.binary.StringUtils.newStringUtf8;
+import org.jetbrains.annotations.Nullable;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.familydirectory.assets.lambda.function.api.CarddavLambdaHelper.OBJECT_MAPPER;
 
 /**
+ * Immutable apart from its body: a {@link CarddavResponseBody} handed to the builder is owned by the response from then on, is not copied, and is only read
+ * back out through {@link #toString()}
+ *
  * @see Response
  */
-@Value
+@SuppressFBWarnings("EI_EXPOSE_REP2")
 @Builder
-public
+public final
 class CarddavResponse {
-    @NonNull Response.Status status;
-    @Singular Map<Response.Header, String> headers;
-    String body;
+    private static final int ENVELOPE_SIZE_HINT = 512;
 
-    private record Json(
-        @JsonProperty("status") Integer status,
-        @JsonProperty("headers") Map<String, String> headers,
-        @JsonProperty("body") String body
-    ) {}
+    private final @NonNull Response.Status status;
+    @Singular
+    private final Map<Response.Header, String> headers;
+    private final CarddavResponseBody body;
 
+    public static
+    class CarddavResponseBuilder {
+        public
+        CarddavResponseBuilder body (final @Nullable String body) {
+            this.body = body == null ? null : CarddavResponseBody.of(body);
+            return this;
+        }
+
+        public
+        CarddavResponseBuilder body (final @Nullable CarddavResponseBody body) {
+            this.body = body;
+            return this;
+        }
+    }
+
+    /**
+     * JSON envelope of status, headers and body; the UTF-8 body bytes are escaped straight into the envelope by the JsonGenerator
+     */
     @Override
     public String toString() {
-        final byte[] bodyBytes = Optional.ofNullable(this.body)
-                                         .map(StringUtils::getBytesUtf8)
-                                         .orElse(new byte[0]);
+        final int bodyLength = this.body == null ? 0 : this.body.size();
         final var headers = new HashMap<>(this.headers);
-        if (bodyBytes.length > 0 && !this.headers.containsKey(Response.Header.CONTENT_TYPE)) {
+        if (bodyLength > 0 && !this.headers.containsKey(Response.Header.CONTENT_TYPE)) {
             throw new IllegalStateException("Missing " + Response.Header.CONTENT_TYPE.code);
         }
-        if (bodyBytes.length > 0 || !this.headers.containsKey(Response.Header.CONTENT_LENGTH)) {
-            headers.put(Response.Header.CONTENT_LENGTH, String.valueOf(bodyBytes.length));
+        if (bodyLength > 0 || !this.headers.containsKey(Response.Header.CONTENT_LENGTH)) {
+            headers.put(Response.Header.CONTENT_LENGTH, String.valueOf(bodyLength));
         }
-        try {
-            return OBJECT_MAPPER.writeValueAsString(new Json(
-                this.status.code,
-                headers.entrySet().stream()
-                       .map(entry ->
-                            Map.entry(entry.getKey().code.toLowerCase(Locale.ROOT), entry.getValue())
-                       ).collect(toUnmodifiableMap(Map.Entry::getKey, Map.Entry::getValue)),
-                newStringUtf8(bodyBytes)
-            ));
+        final var out = new ByteArrayOutputStream(bodyLength + ENVELOPE_SIZE_HINT);
+        try (final var generator = OBJECT_MAPPER.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+            generator.writeNumberField("status", this.status.code);
+            generator.writeObjectFieldStart("headers");
+            for (final var header : headers.entrySet()) {
+                generator.writeStringField(header.getKey().code.toLowerCase(Locale.ROOT), header.getValue());
+            }
+            generator.writeEndObject();
+            generator.writeFieldName("body");
+            if (this.body == null) {
+                generator.writeString("");
+            } else {
+                this.body.writeTo(generator);
+            }
+            generator.writeEndObject();
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
+        return out.toString(UTF_8);
     }
 }
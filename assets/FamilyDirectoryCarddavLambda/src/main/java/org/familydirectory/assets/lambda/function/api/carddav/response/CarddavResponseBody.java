@@ -0,0 +1,35 @@
+package org.familydirectory.assets.lambda.function.api.carddav.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import org.jetbrains.annotations.NotNull;
+import static org.apache.commons.codec.binary.StringUtils.getBytesUtf8;
+
+/**
+ * UTF-8 encoded response body
+ * <p>
+ * Renderers write into it directly, and {@link CarddavResponse} hands its backing array to the JSON envelope without copying it first
+ */
+public final
+class CarddavResponseBody extends ByteArrayOutputStream {
+    public
+    CarddavResponseBody (final int initialCapacity) {
+        super(initialCapacity);
+    }
+
+    @NotNull
+    static
+    CarddavResponseBody of (final @NotNull String body) {
+        final var bytes = getBytesUtf8(body);
+        final var responseBody = new CarddavResponseBody(0);
+        responseBody.buf = bytes;
+        responseBody.count = bytes.length;
+        return responseBody;
+    }
+
+    synchronized
+    void writeTo (final @NotNull JsonGenerator generator) throws IOException {
+        generator.writeUTF8String(this.buf, 0, this.count);
+    }
+}
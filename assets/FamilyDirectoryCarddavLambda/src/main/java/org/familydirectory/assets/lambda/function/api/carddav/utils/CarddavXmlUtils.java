@@ -5,7 +5,6 @@ import io.milton.http.Response;
 import io.milton.http.exceptions.BadRequestException;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.StringWriter;
 import java.io.UncheckedIOException;
 import java.net.URI;
 import java.util.ArrayList;
@@ -24,7 +23,9 @@ import javax.xml.stream.XMLStreamConstants;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamReader;
 import javax.xml.stream.XMLStreamWriter;
+import org.familydirectory.assets.lambda.function.api.carddav.response.CarddavResponseBody;
 import org.jetbrains.annotations.Nullable;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.unmodifiableList;
@@ -38,6 +39,22 @@ enum CarddavXmlUtils {
     public static final String CARDDAV_NS = "urn:ietf:params:xml:ns:carddav";
     public static final String CS_NS = "http://calendarserver.org/ns/";
 
+    /**
+     * Factories are thread-safe once configured, so they are built once per container rather than per parse/render
+     */
+    private static final XMLInputFactory XML_INPUT_FACTORY;
+    private static final XMLOutputFactory XML_OUTPUT_FACTORY = XMLOutputFactory.newFactory();
+    /**
+     * Rough size of one rendered DAV:response, used to presize the body so large multistatus responses rarely regrow
+     */
+    private static final int RENDERED_RESPONSE_SIZE_HINT = 1024;
+
+    static {
+        XML_INPUT_FACTORY = XMLInputFactory.newFactory();
+        XML_INPUT_FACTORY.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        XML_INPUT_FACTORY.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
+
     // INPUT //
 
     public record PropFindRequest(Kind kind, List<QName> properties) {
@@ -46,6 +63,42 @@ enum CarddavXmlUtils {
         }
     }
 
+    /**
+     * @param kind null when the root element is not a supported REPORT
+     * @param hrefs every non-blank DAV:href outside of DAV:prop
+     * @param properties children of the first DAV:prop
+     * @param syncToken trimmed text of the first DAV:sync-token, null when absent or blank
+     */
+    public record ReportRequest(QName root, @Nullable Kind kind, List<String> hrefs, List<QName> properties, @Nullable String syncToken) {
+        public enum Kind {
+            ADDRESSBOOK_MULTIGET("addressbook-multiget"),
+            ADDRESSBOOK_QUERY("addressbook-query"),
+            SYNC_COLLECTION("sync-collection");
+
+            private final String localName;
+
+            Kind (String localName) {
+                this.localName = localName;
+            }
+
+            @Nullable
+            static
+            Kind fromLocalName (String localName) {
+                for (final var kind : values()) {
+                    if (kind.localName.equals(localName)) {
+                        return kind;
+                    }
+                }
+                return null;
+            }
+        }
+
+        public ReportRequest {
+            hrefs = List.copyOf(hrefs);
+            properties = List.copyOf(properties);
+        }
+    }
+
     @FunctionalInterface
     private interface XMLFunction<R> {
         R apply(XMLStreamReader r) throws XMLStreamException, IOException;
@@ -53,10 +106,7 @@ enum CarddavXmlUtils {
 
     private static <T> T parseXml(Supplier<InputStream> inSupplier, XMLFunction<T> behavior, String exceptionMessage) throws BadRequestException {
         try (final var in = inSupplier.get()) {
-            final var factory = XMLInputFactory.newFactory();
-            factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
-            factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
-            final var reader = factory.createXMLStreamReader(in);
+            final var reader = XML_INPUT_FACTORY.createXMLStreamReader(in);
             RuntimeException badRequestCause = null;
             try {
                 while (reader.hasNext()) {
@@ -79,52 +129,73 @@ enum CarddavXmlUtils {
         }
     }
 
-    public static QName parseReportRoot(Supplier<InputStream> inSupplier) throws BadRequestException {
-        return parseXml(inSupplier, XMLStreamReader::getName, "REPORT body does not contain a root element");
-    }
+    /**
+     * Reads a REPORT body in one pass; the root element decides {@link ReportRequest#kind()}, the remaining fields are collected wherever they appear
+     */
+    public static
+    ReportRequest parseReport (Supplier<InputStream> inSupplier) throws BadRequestException {
+        final XMLFunction<ReportRequest> behavior = reader -> {
+            final QName root = reader.getName();
+            final var hrefs = new ArrayList<String>();
+            final var props = new ArrayList<QName>();
+            String syncToken = null;
+            boolean isSyncTokenParsed = false;
 
-    public static Optional<String> parseSyncToken(Supplier<InputStream> inSupplier) throws BadRequestException {
-        final XMLFunction<Optional<String>> behavior = reader -> {
-            Optional<String> token = Optional.empty();
-            for (boolean first = true; first || reader.hasNext(); first = false) {
-                if (!first) reader.next();
-                if (!reader.isStartElement() || !"sync-token".equals(reader.getLocalName())) {
+            int depth = 1;
+            int propDepth = 0;
+            boolean isPropParsed = false;
+            while (reader.hasNext()) {
+                final int event = reader.next();
+                if (event == XMLStreamConstants.END_ELEMENT) {
+                    if (depth == propDepth) {
+                        propDepth = 0;
+                        isPropParsed = true;
+                    }
+                    --depth;
                     continue;
                 }
-                String ns = reader.getNamespaceURI();
-                if (!DAV_NS.equals(ns)) {
+                if (event != XMLStreamConstants.START_ELEMENT) {
                     continue;
                 }
-
-                token = Optional.ofNullable(reader.getElementText())
-                                .filter(Predicate.not(String::isBlank))
-                                .map(String::trim);
-                break;
-            }
-            return token;
-        };
-        return parseXml(inSupplier, behavior, "sync-collection report bad sync token");
-    }
-
-    public static List<String> parseMultigetHrefs(Supplier<InputStream> inSupplier) throws BadRequestException {
-        final XMLFunction<List<String>> behavior = reader -> {
-            final var hrefs = new ArrayList<String>();
-            for (var firstIter = true; firstIter || reader.hasNext(); firstIter = false) {
-                if (!firstIter) reader.next();
-                if (!reader.isStartElement() || !"href".equals(reader.getLocalName())) {
+                ++depth;
+                if (propDepth > 0) {
+                    if (depth == propDepth + 1) {
+                        props.add(reader.getName());
+                    }
                     continue;
                 }
-                final var href = requireNonNullElse(reader.getElementText(), "").trim();
-                if (!href.isEmpty()) {
-                    hrefs.add(href);
+                final boolean isDav = DAV_NS.equals(reader.getNamespaceURI());
+                switch (reader.getLocalName()) {
+                    case "prop" -> {
+                        if (isDav && !isPropParsed) {
+                            propDepth = depth;
+                        }
+                    }
+                    case "href" -> {
+                        // getElementText consumes the END_ELEMENT
+                        --depth;
+                        final var href = requireNonNullElse(reader.getElementText(), "").trim();
+                        if (!href.isEmpty()) {
+                            hrefs.add(href);
+                        }
+                    }
+                    case "sync-token" -> {
+                        if (isDav && !isSyncTokenParsed) {
+                            --depth;
+                            isSyncTokenParsed = true;
+                            syncToken = Optional.ofNullable(reader.getElementText())
+                                                .filter(Predicate.not(String::isBlank))
+                                                .map(String::trim)
+                                                .orElse(null);
+                        }
+                    }
+                    default -> {
+                    }
                 }
             }
-            if (hrefs.isEmpty()) {
-                throw new NoSuchElementException();
-            }
-            return unmodifiableList(hrefs);
+            return new ReportRequest(root, ReportRequest.Kind.fromLocalName(root.getLocalPart()), hrefs, props, syncToken);
         };
-        return parseXml(inSupplier, behavior, "addressbook-multiget REPORT missing DAV:href");
+        return parseXml(inSupplier, behavior, "REPORT body could not be parsed");
     }
 
     public static
@@ -177,48 +248,17 @@ enum CarddavXmlUtils {
         return parseXml(inSupplier, behavior, "PROPFIND body does not contain DAV:propfind root");
     }
 
-    public static List<QName> parseReportProps(Supplier<InputStream> inSupplier) throws BadRequestException {
-        final XMLFunction<List<QName>> behavior = reader -> {
-            final var props = new ArrayList<QName>();
-
-            for (boolean first = true; first || reader.hasNext(); first = false) {
-                if (!first) reader.next();
-                if (!reader.isStartElement() || !DAV_NS.equals(reader.getNamespaceURI()) || !"prop".equals(reader.getLocalName())) {
-                    continue;
-                }
-
-                int depth = 1;
-                while (reader.hasNext() && depth > 0) {
-                    int ev = reader.next();
-                    if (ev == XMLStreamConstants.START_ELEMENT) {
-                        if (depth == 1) {
-                            props.add(reader.getName());
-                        }
-                        depth++;
-                    } else if (ev == XMLStreamConstants.END_ELEMENT) {
-                        depth--;
-                    }
-                }
-                break;
-            }
-
-            return unmodifiableList(props);
-        };
-
-        return parseXml(inSupplier, behavior, "REPORT body could not be parsed for DAV:prop");
-    }
-
 
     // OUTPUT //
 
     private static final class Renderer {
-        private final StringWriter sw;
+        private final CarddavResponseBody out;
         private final XMLStreamWriter xw;
         private final Map<String, String> nsToPrefix = new HashMap<>();
 
-        Renderer() throws XMLStreamException {
-            this.sw = new StringWriter(1024);
-            this.xw = XMLOutputFactory.newFactory().createXMLStreamWriter(sw);
+        Renderer(int responseCount) throws XMLStreamException {
+            this.out = new CarddavResponseBody(RENDERED_RESPONSE_SIZE_HINT * Math.max(responseCount, 1));
+            this.xw = XML_OUTPUT_FACTORY.createXMLStreamWriter(this.out, UTF_8.name());
 
             nsToPrefix.put(DAV_NS, "d");
             nsToPrefix.put(CARDDAV_NS, "C");
@@ -227,7 +267,7 @@ enum CarddavXmlUtils {
             xw.writeStartDocument("UTF-8", "1.0");
         }
 
-        String renderValidSyncTokenError() throws XMLStreamException {
+        CarddavResponseBody renderValidSyncTokenError() throws XMLStreamException {
             final var d = prefixFor(DAV_NS);
             xw.setPrefix(d, DAV_NS);
 
@@ -236,10 +276,10 @@ enum CarddavXmlUtils {
             xw.writeEndDocument();
             xw.flush();
             xw.close();
-            return sw.toString();
+            return this.out;
         }
 
-        String render(List<DavResponse> responses, URI syncToken) throws XMLStreamException {
+        CarddavResponseBody render(List<DavResponse> responses, URI syncToken) throws XMLStreamException {
             startMultistatus();
             for (DavResponse r : responses) {
                 writeResponse(r);
@@ -256,7 +296,7 @@ enum CarddavXmlUtils {
             xw.writeEndDocument();
             xw.flush();
             xw.close();
-            return sw.toString();
+            return this.out;
         }
 
         private void startMultistatus() throws XMLStreamException {
@@ -370,22 +410,22 @@ enum CarddavXmlUtils {
         }
     }
 
-    public static String renderMultistatus(List<DavResponse> responses) {
+    public static CarddavResponseBody renderMultistatus(List<DavResponse> responses) {
         return renderMultistatus(responses, null);
     }
 
-    public static String renderMultistatus(List<DavResponse> responses, URI syncToken) {
+    public static CarddavResponseBody renderMultistatus(List<DavResponse> responses, URI syncToken) {
         try {
-            final var r = new Renderer();
+            final var r = new Renderer(responses.size());
             return r.render(responses, syncToken);
         } catch (XMLStreamException e) {
             throw new RuntimeException("Failed to build DAV multistatus XML", e);
         }
     }
 
-    public static String renderValidSyncTokenError() {
+    public static CarddavResponseBody renderValidSyncTokenError() {
         try {
-            final var r = new Renderer();
+            final var r = new Renderer(1);
             return r.renderValidSyncTokenError();
         } catch (XMLStreamException e) {
             throw new RuntimeException("Failed to build d:valid-sync-token error", e);
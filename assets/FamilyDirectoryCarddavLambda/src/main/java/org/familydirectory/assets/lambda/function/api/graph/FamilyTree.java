@@ -1,46 +1,181 @@
 package org.familydirectory.assets.lambda.function.api.graph;
 
-import com.fasterxml.uuid.impl.UUIDUtil;
-import java.util.Collections;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.familydirectory.assets.ddb.models.family.FamilyRecord;
 import org.familydirectory.assets.ddb.models.member.IMemberRecord;
 import org.familydirectory.assets.ddb.models.member.MemberRecord;
 import org.jetbrains.annotations.NotNull;
-import org.jgrapht.Graph;
-import org.jgrapht.alg.lca.NaiveLCAFinder;
-import org.jgrapht.alg.shortestpath.BFSShortestPath;
-import org.jgrapht.graph.AsUnmodifiableGraph;
-import org.jgrapht.graph.DefaultEdge;
-import org.jgrapht.graph.DirectedAcyclicGraph;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toUnmodifiableSet;
 
+/**
+ * Int-indexed family tree: each FamilyRecord is a vertex, edges point from {@link FamilyRecord#ancestor()} to the family
+ * <p>
+ * Built once per invocation into a parent array, CSR child lists and depths; the lowest common ancestor of any two families is answered in O(1) by a range
+ * minimum query over the tree's Euler tour (sparse table), so classifying every member for the caller costs O(n) after O(n log n) construction
+ */
 public final
 class FamilyTree {
-    private final Graph<FamilyRecord, DefaultEdge> graph;
-    private final NaiveLCAFinder<FamilyRecord, DefaultEdge> naiveLCAFinder;
-    private final BFSShortestPath<FamilyRecord, DefaultEdge> bfsShortestPath;
+    private static final int NO_PARENT = -1;
+
+    private final UUID[] familyIds;
+    private final UUID[] spouseIds;
+    private final Map<UUID, Integer> familyIndices;
+    private final int[] parents;
+    private final int[] childOffsets;
+    private final int[] children;
+    private final int[] depths;
+    private final int[] roots;
+    private final int[] firstOccurrences;
+    /**
+     * sparseTable[k][i] is the shallowest vertex within eulerTour[i, i + 2^k)
+     */
+    private final int[][] sparseTable;
     private final MemberRecord caller;
-    private final FamilyRecord callerPseudoVertex;
+    private final int callerVertex;
     private final Map<IMemberRecord, Set<Relationship>> relationshipCache = new HashMap<>();
 
-    public FamilyTree(final @NotNull DirectedAcyclicGraph<FamilyRecord, DefaultEdge> graph, final @NotNull MemberRecord caller) {
+    public FamilyTree(final @NotNull Collection<FamilyRecord> familyRecords, final @NotNull MemberRecord caller) {
         super();
-        this.graph = new AsUnmodifiableGraph<>(graph);
-        this.naiveLCAFinder = new NaiveLCAFinder<>(this.graph);
-        this.bfsShortestPath = new BFSShortestPath<>(this.graph);
+        final int size = familyRecords.size();
+        this.familyIds = new UUID[size];
+        this.spouseIds = new UUID[size];
+        this.familyIndices = new HashMap<>((int) Math.ceil(size / 0.75));
+        int index = 0;
+        for (final FamilyRecord familyRecord : familyRecords) {
+            this.familyIds[index] = familyRecord.id();
+            this.spouseIds[index] = familyRecord.spouse();
+            this.familyIndices.put(familyRecord.id(), index++);
+        }
+
+        this.parents = new int[size];
+        final int[] childCounts = new int[size];
+        for (final FamilyRecord familyRecord : familyRecords) {
+            final int vertex = this.familyIndices.get(familyRecord.id());
+            if (familyRecord.id().equals(familyRecord.ancestor())) {
+                this.parents[vertex] = NO_PARENT;
+                continue;
+            }
+            final Integer parent = this.familyIndices.get(familyRecord.ancestor());
+            if (parent == null) {
+                throw new IllegalStateException("FAMILY `%s` has unknown ancestor `%s`".formatted(familyRecord.id(), familyRecord.ancestor()));
+            }
+            this.parents[vertex] = parent;
+            ++childCounts[parent];
+        }
+
+        this.childOffsets = new int[size + 1];
+        for (int vertex = 0; vertex < size; ++vertex) {
+            this.childOffsets[vertex + 1] = this.childOffsets[vertex] + childCounts[vertex];
+        }
+        this.children = new int[this.childOffsets[size]];
+        final int[] cursors = Arrays.copyOf(this.childOffsets, size);
+        for (int vertex = 0; vertex < size; ++vertex) {
+            if (this.parents[vertex] != NO_PARENT) {
+                this.children[cursors[this.parents[vertex]]++] = vertex;
+            }
+        }
+
+        this.depths = new int[size];
+        this.roots = new int[size];
+        this.firstOccurrences = new int[size];
+        Arrays.fill(this.firstOccurrences, -1);
+        final int[] eulerTour = new int[Math.max(2 * size - 1, 0)];
+        final int tourLength = this.buildEulerTour(eulerTour);
+        if (IntStream.of(this.firstOccurrences).anyMatch(occurrence -> occurrence < 0)) {
+            throw new IllegalStateException("FAMILY ancestry contains a cycle");
+        }
+        this.sparseTable = this.buildSparseTable(eulerTour, tourLength);
+
         this.caller = requireNonNull(caller);
-        this.callerPseudoVertex = getPseudoVertex(this.caller.familyId());
+        this.callerVertex = this.getVertex(this.caller.familyId());
+    }
+
+    /**
+     * Iterative DFS from every root, recording each vertex on entry and again after returning from each of its children
+     *
+     * @return number of entries written to eulerTour
+     */
+    private int buildEulerTour(final int[] eulerTour) {
+        final int size = this.parents.length;
+        final int[] cursors = Arrays.copyOf(this.childOffsets, size);
+        final int[] stack = new int[size];
+        int tourLength = 0;
+        for (int root = 0; root < size; ++root) {
+            if (this.parents[root] != NO_PARENT) {
+                continue;
+            }
+            this.depths[root] = 0;
+            this.roots[root] = root;
+            this.firstOccurrences[root] = tourLength;
+            eulerTour[tourLength++] = root;
+            int top = 0;
+            stack[top++] = root;
+            while (top > 0) {
+                final int vertex = stack[top - 1];
+                if (cursors[vertex] < this.childOffsets[vertex + 1]) {
+                    final int child = this.children[cursors[vertex]++];
+                    this.depths[child] = this.depths[vertex] + 1;
+                    this.roots[child] = root;
+                    this.firstOccurrences[child] = tourLength;
+                    eulerTour[tourLength++] = child;
+                    stack[top++] = child;
+                } else if (--top > 0) {
+                    eulerTour[tourLength++] = stack[top - 1];
+                }
+            }
+        }
+        return tourLength;
+    }
+
+    private int[][] buildSparseTable(final int[] eulerTour, final int tourLength) {
+        final int levels = tourLength == 0 ? 0 : 32 - Integer.numberOfLeadingZeros(tourLength);
+        final int[][] table = new int[levels][];
+        if (levels == 0) {
+            return table;
+        }
+        table[0] = Arrays.copyOf(eulerTour, tourLength);
+        for (int level = 1; level < levels; ++level) {
+            final int half = 1 << (level - 1);
+            final int[] previous = table[level - 1];
+            final int[] current = new int[tourLength - (1 << level) + 1];
+            for (int i = 0; i < current.length; ++i) {
+                current[i] = this.shallower(previous[i], previous[i + half]);
+            }
+            table[level] = current;
+        }
+        return table;
     }
 
-    private static FamilyRecord getPseudoVertex(UUID familyId) {
-        return new FamilyRecord(familyId, UUIDUtil.maxUUID(), null, Collections.emptySet());
+    private int shallower(final int a, final int b) {
+        return this.depths[a] <= this.depths[b] ? a : b;
     }
+
+    private int getVertex(final UUID familyId) {
+        final Integer vertex = this.familyIndices.get(familyId);
+        if (vertex == null) {
+            throw new IllegalArgumentException("FAMILY `%s` not found".formatted(familyId));
+        }
+        return vertex;
+    }
+
+    private int getLowestCommonAncestor(final int a, final int b) {
+        if (this.roots[a] != this.roots[b]) {
+            throw new IllegalStateException("FAMILY `%s` and FAMILY `%s` share no ancestor".formatted(this.familyIds[a], this.familyIds[b]));
+        }
+        final int left = Math.min(this.firstOccurrences[a], this.firstOccurrences[b]);
+        final int right = Math.max(this.firstOccurrences[a], this.firstOccurrences[b]);
+        final int level = 31 - Integer.numberOfLeadingZeros(right - left + 1);
+        return this.shallower(this.sparseTable[level][left], this.sparseTable[level][right - (1 << level) + 1]);
+    }
+
     private static IMemberRecord getPseudoMember(UUID id, UUID familyId) {
         return new IMemberRecord() {
             @Override
@@ -69,13 +204,11 @@ class FamilyTree {
     public
     Set<Relationship> getRelationships(final IMemberRecord relative) {
         return relationshipCache.computeIfAbsent(relative, target -> {
-            final var targetPseudoVertex = getPseudoVertex(target.familyId());
-            final var lca = naiveLCAFinder.getLCA(callerPseudoVertex, targetPseudoVertex);
+            final int targetVertex = this.getVertex(target.familyId());
+            final int lca = this.getLowestCommonAncestor(this.callerVertex, targetVertex);
 
-            final int edgesToCallerFromLCA = bfsShortestPath.getPath(lca, callerPseudoVertex)
-                                                            .getLength();
-            final int edgesToTargetFromLCA = bfsShortestPath.getPath(lca, targetPseudoVertex)
-                                                            .getLength();
+            final int edgesToCallerFromLCA = this.depths[this.callerVertex] - this.depths[lca];
+            final int edgesToTargetFromLCA = this.depths[targetVertex] - this.depths[lca];
 
             final boolean isInLawByCaller = caller.isInLaw() && edgesToTargetFromLCA <= edgesToCallerFromLCA;
             final boolean isInLaw = isInLawByCaller || target.isInLaw();
@@ -88,17 +221,17 @@ class FamilyTree {
     }
 
     public Set<IMemberRecord> getRelatives(final Relationship relationship) {
-        return this.graph.vertexSet()
-                         .stream()
-                         .flatMap(familyRecord -> {
-                             final var builder = Stream.<IMemberRecord>builder();
-                             builder.add(getPseudoMember(familyRecord.id(), familyRecord.id()));
-                             if (familyRecord.spouse() != null) {
-                                 builder.add(getPseudoMember(familyRecord.spouse(), familyRecord.id()));
-                             }
-                             return builder.build();
-                         })
-                         .filter(pseudoMember -> this.getRelationships(pseudoMember).contains(relationship))
-                         .collect(toUnmodifiableSet());
+        return IntStream.range(0, this.familyIds.length)
+                        .boxed()
+                        .flatMap(vertex -> {
+                            final var builder = Stream.<IMemberRecord>builder();
+                            builder.add(getPseudoMember(this.familyIds[vertex], this.familyIds[vertex]));
+                            if (this.spouseIds[vertex] != null) {
+                                builder.add(getPseudoMember(this.spouseIds[vertex], this.familyIds[vertex]));
+                            }
+                            return builder.build();
+                        })
+                        .filter(pseudoMember -> this.getRelationships(pseudoMember).contains(relationship))
+                        .collect(toUnmodifiableSet());
     }
 }
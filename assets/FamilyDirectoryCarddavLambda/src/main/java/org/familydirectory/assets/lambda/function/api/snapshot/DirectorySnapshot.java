@@ -0,0 +1,40 @@
+package org.familydirectory.assets.lambda.function.api.snapshot;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.util.Map;
+import java.util.UUID;
+import org.familydirectory.assets.ddb.models.family.FamilyRecord;
+import org.familydirectory.assets.ddb.models.member.MemberRecord;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Container-scoped copy of the MEMBER and FAMILY tables as of SYNC {@link #token()}
+ * <p>
+ * Warm invocations validate the snapshot against the SYNC table's LATEST token and only re-read the members changed since {@link #token()}
+ */
+@SuppressFBWarnings("EI_EXPOSE_REP")
+public
+record DirectorySnapshot(@NotNull UUID token, @NotNull @Unmodifiable Map<UUID, MemberRecord> members, @NotNull @Unmodifiable Map<UUID, FamilyRecord> families) {
+    @Nullable
+    private static DirectorySnapshot warmSnapshot = null;
+
+    public DirectorySnapshot {
+        requireNonNull(token);
+        members = Map.copyOf(members);
+        families = Map.copyOf(families);
+    }
+
+    @Nullable
+    public static synchronized
+    DirectorySnapshot getWarmSnapshot () {
+        return warmSnapshot;
+    }
+
+    public static synchronized
+    void setWarmSnapshot (final @NotNull DirectorySnapshot snapshot) {
+        warmSnapshot = requireNonNull(snapshot);
+    }
+}
@@ -0,0 +1,170 @@
+package org.familydirectory.assets.lambda.function.api.graph;
+
+import com.fasterxml.uuid.impl.UUIDUtil;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import org.familydirectory.assets.ddb.member.Member;
+import org.familydirectory.assets.ddb.models.family.FamilyRecord;
+import org.familydirectory.assets.ddb.models.member.IMemberRecord;
+import org.familydirectory.assets.ddb.models.member.MemberRecord;
+import org.jetbrains.annotations.NotNull;
+import org.jgrapht.Graph;
+import org.jgrapht.alg.lca.NaiveLCAFinder;
+import org.jgrapht.alg.shortestpath.BFSShortestPath;
+import org.jgrapht.graph.AsUnmodifiableGraph;
+import org.jgrapht.graph.DefaultEdge;
+import org.jgrapht.graph.DirectedAcyclicGraph;
+import org.junit.jupiter.api.Test;
+import static java.util.stream.Collectors.toUnmodifiableSet;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks {@link FamilyTree} against the JGraphT implementation it replaced, on generated trees, for every caller and every relative
+ */
+public
+class FamilyTreeTest {
+    private static final long SEED = 0x46616d696c79L;
+    private static final int TREES = 200;
+    private static final int MAX_FAMILIES = 60;
+    private static final double SPOUSE_PROBABILITY = 0.6;
+    private static final Member MEMBER = Member.builder()
+                                               .firstName("Test")
+                                               .lastName("Member")
+                                               .birthday(LocalDate.of(1970, 1, 1))
+                                               .build();
+
+    @Test
+    public
+    void testMatchesJGraphT () {
+        final Random random = new Random(SEED);
+        for (int tree = 0; tree < TREES; ++tree) {
+            final List<FamilyRecord> familyRecords = generateFamilyRecords(random, 1 + random.nextInt(MAX_FAMILIES));
+            final List<MemberRecord> members = new ArrayList<>();
+            for (final FamilyRecord familyRecord : familyRecords) {
+                members.add(new MemberRecord(familyRecord.id(), MEMBER, familyRecord.id()));
+                if (familyRecord.spouse() != null) {
+                    members.add(new MemberRecord(familyRecord.spouse(), MEMBER, familyRecord.id()));
+                }
+            }
+            for (final MemberRecord caller : members) {
+                final FamilyTree familyTree = new FamilyTree(familyRecords, caller);
+                final JGraphTFamilyTree expectedFamilyTree = new JGraphTFamilyTree(toGraph(familyRecords), caller);
+                for (final MemberRecord relative : members) {
+                    assertEquals(expectedFamilyTree.getRelationships(relative), familyTree.getRelationships(relative),
+                                 "tree %d: caller `%s`, relative `%s`".formatted(tree, caller.id(), relative.id()));
+                }
+                for (final Relationship relationship : Relationship.values()) {
+                    assertEquals(expectedFamilyTree.getRelatives(relationship), familyTree.getRelatives(relationship)
+                                                                                   .stream()
+                                                                                   .map(IMemberRecord::id)
+                                                                                   .collect(toUnmodifiableSet()),
+                                 "tree %d: caller `%s`, %s".formatted(tree, caller.id(), relationship));
+                }
+            }
+        }
+    }
+
+    /**
+     * One root FAMILY, whose ancestor is itself, and every other FAMILY descending from one generated before it
+     */
+    private static @NotNull
+    List<FamilyRecord> generateFamilyRecords (final @NotNull Random random, final int size) {
+        final List<FamilyRecord> familyRecords = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i) {
+            final UUID id = new UUID(random.nextLong(), random.nextLong());
+            final UUID ancestor = i == 0
+                    ? id
+                    : familyRecords.get(random.nextInt(i))
+                                   .id();
+            final UUID spouse = random.nextDouble() < SPOUSE_PROBABILITY
+                    ? new UUID(random.nextLong(), random.nextLong())
+                    : null;
+            familyRecords.add(new FamilyRecord(id, ancestor, spouse, null));
+        }
+        Collections.shuffle(familyRecords, random);
+        return familyRecords;
+    }
+
+    private static @NotNull
+    DirectedAcyclicGraph<FamilyRecord, DefaultEdge> toGraph (final @NotNull List<FamilyRecord> familyRecords) {
+        final DirectedAcyclicGraph<FamilyRecord, DefaultEdge> graph = new DirectedAcyclicGraph<>(DefaultEdge.class);
+        final Map<UUID, FamilyRecord> familyRecordMap = new HashMap<>();
+        for (final FamilyRecord familyRecord : familyRecords) {
+            graph.addVertex(familyRecord);
+            familyRecordMap.put(familyRecord.id(), familyRecord);
+        }
+        familyRecords.stream()
+                     .filter(familyRecord -> !familyRecord.id()
+                                                          .equals(familyRecord.ancestor()))
+                     .forEach(familyRecord -> graph.addEdge(familyRecordMap.get(familyRecord.ancestor()), familyRecord));
+        return graph;
+    }
+
+    /**
+     * The JGraphT FamilyTree as it was before the array-backed rewrite, kept as the reference implementation
+     */
+    private static final
+    class JGraphTFamilyTree {
+        private final Graph<FamilyRecord, DefaultEdge> graph;
+        private final NaiveLCAFinder<FamilyRecord, DefaultEdge> naiveLCAFinder;
+        private final BFSShortestPath<FamilyRecord, DefaultEdge> bfsShortestPath;
+        private final MemberRecord caller;
+        private final FamilyRecord callerPseudoVertex;
+
+        JGraphTFamilyTree (final @NotNull DirectedAcyclicGraph<FamilyRecord, DefaultEdge> graph, final @NotNull MemberRecord caller) {
+            super();
+            this.graph = new AsUnmodifiableGraph<>(graph);
+            this.naiveLCAFinder = new NaiveLCAFinder<>(this.graph);
+            this.bfsShortestPath = new BFSShortestPath<>(this.graph);
+            this.caller = caller;
+            this.callerPseudoVertex = getPseudoVertex(this.caller.familyId());
+        }
+
+        private static
+        FamilyRecord getPseudoVertex (final UUID familyId) {
+            return new FamilyRecord(familyId, UUIDUtil.maxUUID(), null, Collections.emptySet());
+        }
+
+        Set<Relationship> getRelationships (final IMemberRecord target) {
+            final var targetPseudoVertex = getPseudoVertex(target.familyId());
+            final var lca = this.naiveLCAFinder.getLCA(this.callerPseudoVertex, targetPseudoVertex);
+
+            final int edgesToCallerFromLCA = this.bfsShortestPath.getPath(lca, this.callerPseudoVertex)
+                                                                 .getLength();
+            final int edgesToTargetFromLCA = this.bfsShortestPath.getPath(lca, targetPseudoVertex)
+                                                                 .getLength();
+
+            final boolean isInLawByCaller = this.caller.isInLaw() && edgesToTargetFromLCA <= edgesToCallerFromLCA;
+            final boolean isInLaw = isInLawByCaller || target.isInLaw();
+            var relationships = Relationship.fromEdges(edgesToCallerFromLCA, edgesToTargetFromLCA, isInLaw);
+            if (isInLawByCaller) {
+                relationships = relationships.filter(r -> r.getInLaws() == Relationship.InLaw.ONLY);
+            }
+            return relationships.collect(toUnmodifiableSet());
+        }
+
+        Set<UUID> getRelatives (final Relationship relationship) {
+            return this.graph.vertexSet()
+                             .stream()
+                             .flatMap(familyRecord -> {
+                                 final List<MemberRecord> pseudoMembers = new ArrayList<>();
+                                 pseudoMembers.add(new MemberRecord(familyRecord.id(), MEMBER, familyRecord.id()));
+                                 if (familyRecord.spouse() != null) {
+                                     pseudoMembers.add(new MemberRecord(familyRecord.spouse(), MEMBER, familyRecord.id()));
+                                 }
+                                 return pseudoMembers.stream();
+                             })
+                             .filter(pseudoMember -> this.getRelationships(pseudoMember)
+                                                         .contains(relationship))
+                             .map(MemberRecord::id)
+                             .collect(toUnmodifiableSet());
+        }
+    }
+}
@@ -8,25 +8,23 @@ import java.util.Map;
 import java.util.function.Predicate;
 import org.familydirectory.assets.ddb.enums.DdbTable;
 import org.familydirectory.assets.ddb.enums.cognito.CognitoTableParameter;
-import org.familydirectory.assets.ddb.enums.member.MemberTableParameter;
+import org.familydirectory.assets.ddb.enums.email.EmailTableParameter;
 import org.familydirectory.assets.lambda.function.utility.LambdaUtils;
+import org.familydirectory.assets.lambda.function.utility.SdkClientRegistry;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
-import software.amazon.awscdk.services.dynamodb.GlobalSecondaryIndexProps;
 import software.amazon.awssdk.services.cognitoidentityprovider.CognitoIdentityProviderClient;
 import software.amazon.awssdk.services.cognitoidentityprovider.model.AdminDisableUserRequest;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
-import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
-import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
 import static com.amazonaws.services.lambda.runtime.logging.LogLevel.ERROR;
 import static com.amazonaws.services.lambda.runtime.logging.LogLevel.FATAL;
 import static com.amazonaws.services.lambda.runtime.logging.LogLevel.INFO;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
-import static java.util.Objects.requireNonNull;
+import static java.util.Objects.isNull;
 import static java.util.Optional.ofNullable;
 
 public
@@ -36,7 +34,9 @@ class FamilyDirectoryCognitoPostConfirmationTrigger implements RequestHandler<Co
     public final @NotNull
     CognitoUserPoolPostConfirmationEvent handleRequest (final @NotNull CognitoUserPoolPostConfirmationEvent event, final @NotNull Context context)
     {
-        try (final CognitoIdentityProviderClient cognitoClient = CognitoIdentityProviderClient.create(); final DynamoDbClient dynamoDbClient = DynamoDbClient.create()) {
+        try {
+            final CognitoIdentityProviderClient cognitoClient = SdkClientRegistry.getSdkClient(CognitoIdentityProviderClient.class);
+            final DynamoDbClient dynamoDbClient = SdkClientRegistry.getSdkClient(DynamoDbClient.class);
             final LambdaLogger logger = context.getLogger();
             final String email = ofNullable(event.getRequest()
                                                  .getUserAttributes()
@@ -77,37 +77,21 @@ class FamilyDirectoryCognitoPostConfirmationTrigger implements RequestHandler<Co
             }
 
             //  Find Member By Email
-            final GlobalSecondaryIndexProps emailGsiProps = requireNonNull(MemberTableParameter.EMAIL.gsiProps());
-            final var emailGsiPK = requireNonNull(emailGsiProps.getPartitionKey());
-            final QueryRequest memberEmailQueryRequest = QueryRequest.builder()
-                                                                     .tableName(DdbTable.MEMBER.name())
-                                                                     .indexName(emailGsiProps.getIndexName())
-                                                                     .keyConditionExpression("%s = :email".formatted(emailGsiPK.getName()))
-                                                                     .expressionAttributeValues(singletonMap(":email", AttributeValue.fromS(email)))
-                                                                     .limit(2)
-                                                                     .build();
-            final QueryResponse memberEmailQueryResponse = dynamoDbClient.query(memberEmailQueryRequest);
-            if (memberEmailQueryResponse.items()
-                                        .isEmpty())
-            {
+            final String memberId = ofNullable(dynamoDbClient.getItem(GetItemRequest.builder()
+                                                                                    .tableName(DdbTable.EMAIL.name())
+                                                                                    .key(singletonMap(EmailTableParameter.ID.jsonFieldName(), AttributeValue.fromS(email)))
+                                                                                    .build())
+                                                             .item()).filter(Predicate.not(Map::isEmpty))
+                                                                     .map(item -> item.get(EmailTableParameter.MEMBER.jsonFieldName()))
+                                                                     .map(AttributeValue::s)
+                                                                     .filter(Predicate.not(String::isBlank))
+                                                                     .orElse(null);
+            if (isNull(memberId)) {
                 logger.log("No Member Found for <EMAIL,`%s`>".formatted(email), ERROR);
                 final IllegalStateException e = new IllegalStateException();
                 adminDisableUser(cognitoClient, logger, event.getUserPoolId(), event.getUserName(), email, e);
                 throw e;
-            } else if (memberEmailQueryResponse.items()
-                                               .size() > 1)
-
-            {
-                logger.log("Multiple Members Found for <EMAIL,`%s`>".formatted(email), ERROR);
-                final IllegalStateException e = new IllegalStateException();
-                adminDisableUser(cognitoClient, logger, event.getUserPoolId(), event.getUserName(), email, e);
-                throw e;
             }
-            final String memberId = ofNullable(memberEmailQueryResponse.items()
-                                                                       .getFirst()
-                                                                       .get(MemberTableParameter.ID.jsonFieldName())).map(AttributeValue::s)
-                                                                                                                     .filter(Predicate.not(String::isBlank))
-                                                                                                                     .orElseThrow();
             //  Map Cognito Sub -> Member Id
             try {
                 dynamoDbClient.putItem(PutItemRequest.builder()
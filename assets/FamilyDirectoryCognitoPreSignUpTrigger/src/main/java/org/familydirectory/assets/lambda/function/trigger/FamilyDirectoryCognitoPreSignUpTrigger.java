@@ -4,21 +4,24 @@ import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.LambdaLogger;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import com.amazonaws.services.lambda.runtime.events.CognitoUserPoolPreSignUpEvent;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.function.Predicate;
 import org.familydirectory.assets.ddb.enums.DdbTable;
 import org.familydirectory.assets.ddb.enums.cognito.CognitoTableParameter;
-import org.familydirectory.assets.ddb.enums.member.MemberTableParameter;
+import org.familydirectory.assets.ddb.enums.email.EmailTableParameter;
+import org.familydirectory.assets.lambda.function.utility.SdkClientRegistry;
 import org.jetbrains.annotations.NotNull;
 import software.amazon.awscdk.services.dynamodb.GlobalSecondaryIndexProps;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
 import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
-import static com.amazonaws.services.lambda.runtime.logging.LogLevel.ERROR;
 import static com.amazonaws.services.lambda.runtime.logging.LogLevel.INFO;
 import static com.amazonaws.services.lambda.runtime.logging.LogLevel.WARN;
 import static java.util.Collections.singletonMap;
+import static java.util.Objects.isNull;
 import static java.util.Objects.requireNonNull;
 import static java.util.Optional.ofNullable;
 
@@ -29,7 +32,8 @@ class FamilyDirectoryCognitoPreSignUpTrigger implements RequestHandler<CognitoUs
     public final @NotNull
     CognitoUserPoolPreSignUpEvent handleRequest (final @NotNull CognitoUserPoolPreSignUpEvent event, final @NotNull Context context)
     {
-        try (final DynamoDbClient dynamoDbClient = DynamoDbClient.create()) {
+        try {
+            final DynamoDbClient dynamoDbClient = SdkClientRegistry.getSdkClient(DynamoDbClient.class);
             final LambdaLogger logger = context.getLogger();
 
             final String email = ofNullable(event.getRequest()
@@ -41,33 +45,19 @@ class FamilyDirectoryCognitoPreSignUpTrigger implements RequestHandler<CognitoUs
             logger.log("PROCESS: PreSignUp Event for <EMAIL,`%s`>".formatted(email), INFO);
 
             //  Find Member By Email
-            final GlobalSecondaryIndexProps emailGsiProps = requireNonNull(MemberTableParameter.EMAIL.gsiProps());
-            final var emailGsiPK = requireNonNull(emailGsiProps.getPartitionKey());
-            final QueryRequest memberEmailQueryRequest = QueryRequest.builder()
-                                                                     .tableName(DdbTable.MEMBER.name())
-                                                                     .indexName(emailGsiProps.getIndexName())
-                                                                     .keyConditionExpression("%s = :email".formatted(emailGsiPK.getName()))
-                                                                     .expressionAttributeValues(singletonMap(":email", AttributeValue.fromS(email)))
-                                                                     .limit(2)
-                                                                     .build();
-            final QueryResponse memberEmailQueryResponse = dynamoDbClient.query(memberEmailQueryRequest);
-            if (memberEmailQueryResponse.items()
-                                        .isEmpty())
-            {
+            final String memberId = ofNullable(dynamoDbClient.getItem(GetItemRequest.builder()
+                                                                                    .tableName(DdbTable.EMAIL.name())
+                                                                                    .key(singletonMap(EmailTableParameter.ID.jsonFieldName(), AttributeValue.fromS(email)))
+                                                                                    .build())
+                                                             .item()).filter(Predicate.not(Map::isEmpty))
+                                                                     .map(item -> item.get(EmailTableParameter.MEMBER.jsonFieldName()))
+                                                                     .map(AttributeValue::s)
+                                                                     .filter(Predicate.not(String::isBlank))
+                                                                     .orElse(null);
+            if (isNull(memberId)) {
                 logger.log("REJECT: PreSignUp Event for <EMAIL,`%s`> - No Member Found".formatted(email), WARN);
                 throw new NoSuchElementException();
-            } else if (memberEmailQueryResponse.items()
-                                               .size() > 1)
-
-            {
-                logger.log("REJECT: PreSignUp Event for <EMAIL,`%s`> - Multiple Members Found".formatted(email), ERROR);
-                throw new IllegalStateException();
             }
-            final String memberId = ofNullable(memberEmailQueryResponse.items()
-                                                                       .getFirst()
-                                                                       .get(MemberTableParameter.ID.jsonFieldName())).map(AttributeValue::s)
-                                                                                                                     .filter(Predicate.not(String::isBlank))
-                                                                                                                     .orElseThrow();
             logger.log("PROCESS: Found <MEMBER,`%s`> for <EMAIL,`%s`>".formatted(memberId, email), INFO);
 
             //  Check If Member Signed Up Previously
@@ -37,8 +37,7 @@ class FamilyDirectoryCreateMemberLambda implements RequestHandler<APIGatewayProx
                         .log(transaction.toString(), DEBUG);
 
 //      Execute Transaction
-            createHelper.getDynamoDbClient()
-                        .transactWriteItems(transaction);
+            createHelper.executeCreateTransaction(caller, transaction);
 
             return new APIGatewayProxyResponseEvent().withStatusCode(SC_CREATED);
 
@@ -12,20 +12,17 @@ import java.util.UUID;
 import java.util.function.Predicate;
 import org.familydirectory.assets.ddb.enums.DdbTable;
 import org.familydirectory.assets.ddb.enums.family.FamilyTableParameter;
-import org.familydirectory.assets.ddb.enums.member.MemberTableParameter;
 import org.familydirectory.assets.ddb.member.Member;
 import org.familydirectory.assets.ddb.models.member.MemberRecord;
+import org.familydirectory.assets.ddb.utils.DdbUtils;
 import org.familydirectory.assets.lambda.function.api.models.CreateEvent;
 import org.familydirectory.assets.lambda.function.utility.LambdaUtils;
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
-import software.amazon.awscdk.services.dynamodb.GlobalSecondaryIndexProps;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.Put;
-import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
-import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
 import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
 import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
 import software.amazon.awssdk.services.dynamodb.model.Update;
 import static com.amazonaws.services.lambda.runtime.logging.LogLevel.DEBUG;
 import static com.amazonaws.services.lambda.runtime.logging.LogLevel.INFO;
@@ -62,38 +59,9 @@ class CreateHelper extends ApiHelper {
             throw new ResponseException(new APIGatewayProxyResponseEvent().withStatusCode(SC_BAD_REQUEST));
         }
 
-        this.validateMemberEmailIsUnique(caller.caller().id().toString(), createEvent.member().getEmail());
-
         return createEvent;
     }
 
-    private
-    void validateMemberEmailIsUnique (final @NotNull String callerMemberId, final @Nullable String memberEmail) throws ResponseException {
-        if (nonNull(memberEmail) && !memberEmail.isBlank()) {
-            final GlobalSecondaryIndexProps emailGsiProps = requireNonNull(MemberTableParameter.EMAIL.gsiProps());
-            final var emailGsiPK = requireNonNull(emailGsiProps.getPartitionKey());
-            final QueryRequest emailRequest = QueryRequest.builder()
-                                                          .tableName(DdbTable.MEMBER.name())
-                                                          .indexName(emailGsiProps.getIndexName())
-                                                          .keyConditionExpression("%s = :email".formatted(emailGsiPK.getName()))
-                                                          .expressionAttributeValues(singletonMap(":email", AttributeValue.fromS(memberEmail)))
-                                                          .limit(1)
-                                                          .build();
-            final QueryResponse emailResponse = this.dynamoDbClient.query(emailRequest);
-            if (!emailResponse.items()
-                              .isEmpty())
-            {
-                final String emailResponseMemberId = emailResponse.items()
-                                                                  .getFirst()
-                                                                  .get(MemberTableParameter.ID.jsonFieldName())
-                                                                  .s();
-                this.logger.log("<MEMBER,`%s`> Requested Create, but Existing <MEMBER,`%s`> Already Claims <EMAIL,`%s`>".formatted(callerMemberId, emailResponseMemberId, memberEmail), WARN);
-                throw new ResponseException(new APIGatewayProxyResponseEvent().withStatusCode(SC_CONFLICT)
-                                                                              .withBody("Email Already Registered With Another Member"));
-            }
-        }
-    }
-
     public @NotNull
     TransactWriteItemsRequest buildCreateTransaction (final @NotNull Caller caller, final @NotNull CreateEvent createEvent) throws ResponseException {
         final List<TransactWriteItem> transactionItems = new ArrayList<>();
@@ -212,8 +180,24 @@ class CreateHelper extends ApiHelper {
                                                       .item(item)
                                                       .build())
                                               .build());
+        ofNullable(createEvent.member()
+                              .getEmail()).ifPresent(email -> transactionItems.add(DdbUtils.claimEmail(email, this.inputMemberId.toString())));
         return TransactWriteItemsRequest.builder()
                                         .transactItems(transactionItems)
                                         .build();
     }
+
+    public
+    void executeCreateTransaction (final @NotNull Caller caller, final @NotNull TransactWriteItemsRequest transaction) throws ResponseException {
+        try {
+            this.dynamoDbClient.transactWriteItems(transaction);
+        } catch (final TransactionCanceledException e) {
+            if (!DdbUtils.isEmailClaimConflict(transaction, e)) {
+                throw e;
+            }
+            this.logger.log("<MEMBER,`%s`> Requested Create, but <EMAIL> Already Claimed By Existing Member".formatted(caller.caller().id().toString()), WARN);
+            throw new ResponseException(new APIGatewayProxyResponseEvent().withStatusCode(SC_CONFLICT)
+                                                                          .withBody("Email Already Registered With Another Member"));
+        }
+    }
 }
@@ -35,9 +35,6 @@ class FamilyDirectoryDeleteMemberLambda implements RequestHandler<APIGatewayProx
             deleteHelper.getDynamoDbClient()
                         .transactWriteItems(transaction);
 
-//      Delete Cognito Account & Notify User of Account Deletion
-            deleteHelper.deleteCognitoAccountAndNotify(deleteEvent.ddbMemberId());
-
             return new APIGatewayProxyResponseEvent().withStatusCode(SC_ACCEPTED);
 
         } catch (final ApiHelper.ResponseException e) {
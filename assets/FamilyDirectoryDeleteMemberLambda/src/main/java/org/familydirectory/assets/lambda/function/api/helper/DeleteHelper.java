@@ -5,30 +5,23 @@ import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
 import org.familydirectory.assets.ddb.enums.DdbTable;
-import org.familydirectory.assets.ddb.enums.cognito.CognitoTableParameter;
 import org.familydirectory.assets.ddb.enums.family.FamilyTableParameter;
 import org.familydirectory.assets.ddb.enums.member.MemberTableParameter;
+import org.familydirectory.assets.ddb.enums.outbox.OutboxTask;
+import org.familydirectory.assets.ddb.utils.DdbUtils;
 import org.familydirectory.assets.lambda.function.api.models.DeleteEvent;
 import org.familydirectory.assets.lambda.function.utility.LambdaUtils;
 import org.jetbrains.annotations.NotNull;
-import software.amazon.awscdk.services.dynamodb.GlobalSecondaryIndexProps;
-import software.amazon.awssdk.services.cognitoidentityprovider.CognitoIdentityProviderClient;
-import software.amazon.awssdk.services.cognitoidentityprovider.model.AdminDeleteUserRequest;
-import software.amazon.awssdk.services.cognitoidentityprovider.model.AttributeType;
-import software.amazon.awssdk.services.cognitoidentityprovider.model.ListUsersRequest;
-import software.amazon.awssdk.services.cognitoidentityprovider.model.ListUsersResponse;
-import software.amazon.awssdk.services.cognitoidentityprovider.model.UserType;
+import org.jetbrains.annotations.Nullable;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.Delete;
-import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
-import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
-import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
 import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
 import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
 import software.amazon.awssdk.services.dynamodb.model.Update;
@@ -38,6 +31,7 @@ import static java.lang.System.getenv;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
 import static org.apache.http.HttpStatus.SC_BAD_REQUEST;
 import static org.apache.http.HttpStatus.SC_CONFLICT;
@@ -46,9 +40,7 @@ import static org.apache.http.HttpStatus.SC_NOT_FOUND;
 
 public final
 class DeleteHelper extends ApiHelper {
-    private static final @NotNull String USER_POOL_ID = requireNonNull(getenv(LambdaUtils.EnvVar.COGNITO_USER_POOL_ID.name()));
     private final @NotNull ObjectMapper objectMapper = new ObjectMapper();
-    private final @NotNull CognitoIdentityProviderClient cognitoClient = CognitoIdentityProviderClient.create();
 
     public
     DeleteHelper (final @NotNull LambdaLogger logger, final @NotNull APIGatewayProxyRequestEvent requestEvent) {
@@ -75,7 +67,10 @@ class DeleteHelper extends ApiHelper {
 
         return new EventWrapper(deleteEvent, ddbMemberMap.get(MemberTableParameter.ID.jsonFieldName())
                                                          .s(), ddbMemberMap.get(MemberTableParameter.FAMILY_ID.jsonFieldName())
-                                                                           .s());
+                                                                           .s(), Optional.ofNullable(ddbMemberMap.get(MemberTableParameter.EMAIL.jsonFieldName()))
+                                                                                         .map(AttributeValue::s)
+                                                                                         .filter(Predicate.not(String::isBlank))
+                                                                                         .orElse(null));
     }
 
     public @NotNull
@@ -190,81 +185,18 @@ class DeleteHelper extends ApiHelper {
             }
         }
 
+        final List<TransactWriteItem> sideTransactionItems = new ArrayList<>(transactionItems);
+        if (nonNull(eventWrapper.ddbMemberEmail())) {
+            sideTransactionItems.add(DdbUtils.releaseEmail(eventWrapper.ddbMemberEmail(), eventWrapper.ddbMemberId()));
+        }
+        // the Cognito account is deleted and its owner notified from the OUTBOX, once the Member is deleted
+        sideTransactionItems.add(DdbUtils.enqueueOutboxTask(OutboxTask.DELETE_ACCOUNT_MEMBER_DELETED, eventWrapper.ddbMemberId(), null, null, caller.caller().id().toString()));
         return TransactWriteItemsRequest.builder()
-                                        .transactItems(transactionItems)
+                                        .transactItems(sideTransactionItems)
                                         .build();
     }
 
     public
-    void deleteCognitoAccountAndNotify (final @NotNull String ddbMemberId) {
-        final GlobalSecondaryIndexProps cognitoGsiProps = requireNonNull(CognitoTableParameter.MEMBER.gsiProps());
-        final var cognitoGsiPK = requireNonNull(cognitoGsiProps.getPartitionKey());
-        final QueryRequest cognitoMemberQueryRequest = QueryRequest.builder()
-                                                                   .tableName(DdbTable.COGNITO.name())
-                                                                   .indexName(cognitoGsiProps.getIndexName())
-                                                                   .keyConditionExpression("#memberId = :memberId")
-                                                                   .expressionAttributeNames(singletonMap("#memberId", cognitoGsiPK.getName()))
-                                                                   .expressionAttributeValues(singletonMap(":memberId", AttributeValue.fromS(ddbMemberId)))
-                                                                   .limit(1)
-                                                                   .build();
-        final QueryResponse cognitoMemberQueryResponse = this.dynamoDbClient.query(cognitoMemberQueryRequest);
-        if (!cognitoMemberQueryResponse.items()
-                                       .isEmpty())
-        {
-            final String ddbMemberCognitoSub = Optional.ofNullable(cognitoMemberQueryResponse.items().getFirst().get(CognitoTableParameter.ID.jsonFieldName()))
-                                                       .map(AttributeValue::s)
-                                                       .filter(Predicate.not(String::isBlank))
-                                                       .orElseThrow();
-
-            this.dynamoDbClient.deleteItem(DeleteItemRequest.builder()
-                                                            .tableName(DdbTable.COGNITO.name())
-                                                            .key(singletonMap(CognitoTableParameter.ID.jsonFieldName(), AttributeValue.fromS(ddbMemberCognitoSub)))
-                                                            .build());
-            this.logger.log("COGNITO Table Entry Deleted for <MEMBER,`%s`>: <COGNITO_SUB,`%s`>".formatted(ddbMemberId, ddbMemberCognitoSub), INFO);
-
-            final ListUsersRequest listUsersRequest = ListUsersRequest.builder()
-                                                                      .filter("sub = \"%s\"".formatted(ddbMemberCognitoSub))
-                                                                      .limit(1)
-                                                                      .userPoolId(USER_POOL_ID)
-                                                                      .build();
-            final UserType ddbMemberCognitoUser = Optional.ofNullable(this.cognitoClient.listUsers(listUsersRequest))
-                                                          .filter(ListUsersResponse::hasUsers)
-                                                          .map(ListUsersResponse::users)
-                                                          .map(List::getFirst)
-                                                          .orElseThrow();
-            final String ddbMemberCognitoUsername = Optional.of(ddbMemberCognitoUser)
-                                                            .map(UserType::username)
-                                                            .filter(Predicate.not(String::isBlank))
-                                                            .orElseThrow();
-            this.cognitoClient.adminDeleteUser(AdminDeleteUserRequest.builder()
-                                                                     .userPoolId(USER_POOL_ID)
-                                                                     .username(ddbMemberCognitoUsername)
-                                                                     .build());
-            this.logger.log("Cognito Account Deleted for <MEMBER,`%s`>: <USERNAME,`%s`>".formatted(ddbMemberId, ddbMemberCognitoUsername), INFO);
-
-            final String ddbMemberCognitoEmail = Optional.of(ddbMemberCognitoUser)
-                                                         .filter(UserType::hasAttributes)
-                                                         .map(UserType::attributes)
-                                                         .orElseThrow()
-                                                         .stream()
-                                                         .filter(attr -> attr.name().equalsIgnoreCase("email"))
-                                                         .findFirst()
-                                                         .map(AttributeType::value)
-                                                         .filter(s -> s.contains("@"))
-                                                         .orElseThrow();
-            final String emailId = LambdaUtils.sendEmail(singletonList(ddbMemberCognitoEmail), "Notice of Account Deletion", "Your account has been irreversibly deleted.");
-            this.logger.log("Sent Account Deletion Notice To <EMAIL,`%s`>: <MESSAGE_ID,`%s`>".formatted(ddbMemberCognitoEmail, emailId), INFO);
-        }
-    }
-
-    @Override
-    public
-    void close () {
-        super.close();
-        this.cognitoClient.close();
-    }
-
-    public
-    record EventWrapper(@NotNull DeleteEvent deleteEvent, @NotNull String ddbMemberId, @NotNull String ddbFamilyId) {
+    record EventWrapper(@NotNull DeleteEvent deleteEvent, @NotNull String ddbMemberId, @NotNull String ddbFamilyId, @Nullable String ddbMemberEmail) {
     }
 }
@@ -9,9 +9,15 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import org.familydirectory.assets.ddb.enums.DdbTable;
@@ -37,6 +43,10 @@ class GetHelper extends ApiHelper {
         super(logger, requestEvent);
     }
 
+    /**
+     * Plans every key of the family unit up front: the requested Member is read together with the FAMILY item it heads (if it does), and the spouse and every
+     * descendant in one {@link #batchGetDdbItems(Map)}, while the Member's admin status is resolved concurrently
+     */
     @NotNull
     public
     String getResponseBody (final @NotNull Caller caller) throws JsonProcessingException, ResponseException {
@@ -45,49 +55,88 @@ class GetHelper extends ApiHelper {
                                              .map(m -> m.get(DdbTableParameter.PK.getName()))
                                              .orElse(null);
         final @NotNull MemberRecord memberRecord;
-        final @NotNull Map<String, AttributeValue> family;
+        Map<String, AttributeValue> family = null;
         if (isNull(queryStringId) || queryStringId.isBlank()) {
             memberRecord = caller.caller();
-            family = requireNonNull(this.getDdbItem(caller.caller().familyId().toString(), DdbTable.FAMILY));
         } else {
+            final Map<DdbTable, Map<String, Map<String, AttributeValue>>> items = this.batchGetDdbItems(Map.of(DdbTable.MEMBER, Set.of(queryStringId), DdbTable.FAMILY,
+                                                                                                               Set.of(queryStringId)));
             try {
-                memberRecord = MemberRecord.convertDdbMap(requireNonNull(this.getDdbItem(queryStringId, DdbTable.MEMBER)));
+                memberRecord = MemberRecord.convertDdbMap(requireNonNull(items.get(DdbTable.MEMBER)
+                                                                              .get(queryStringId)));
             } catch (final RuntimeException e) {
                 this.logger.log("<MEMBER,`%s`> Requested <MEMBER,`%s`> NOT FOUND".formatted(caller.caller().member().toString(), queryStringId), WARN);
                 throw new ResponseException(new APIGatewayProxyResponseEvent().withStatusCode(SC_NOT_FOUND));
             }
-            family = requireNonNull(this.getDdbItem(memberRecord.familyId().toString(), DdbTable.FAMILY));
+            if (memberRecord.familyId()
+                            .toString()
+                            .equals(queryStringId))
+            {
+                family = items.get(DdbTable.FAMILY)
+                              .get(queryStringId);
+            }
         }
-        final Map<String, Object> memberObject = this.getResponseObject(memberRecord);
 
-        responseBodyMap.put("ancestor", family.get(FamilyTableParameter.ANCESTOR.jsonFieldName())
-                                              .s());
-        responseBodyMap.put("member", memberObject);
+        try (final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final Future<Boolean> memberIsAdmin = executor.submit(() -> this.isMemberAdmin(memberRecord.id()
+                                                                                                       .toString()));
+            if (isNull(family)) {
+                family = requireNonNull(this.getDdbItem(memberRecord.familyId()
+                                                                    .toString(), DdbTable.FAMILY));
+            }
 
-        for (final FamilyTableParameter param : FamilyTableParameter.values()) {
-            switch (param) {
-                case ID, ANCESTOR -> {
-                }
-                case SPOUSE -> {
-                    if (memberObject.get(MemberTableParameter.ID.jsonFieldName())
-                                    .equals(memberObject.get(MemberTableParameter.FAMILY_ID.jsonFieldName())))
-                    {
-                        Optional.ofNullable(family.get(param.jsonFieldName()))
-                                .map(AttributeValue::s)
-                                .ifPresent(s -> responseBodyMap.put(param.jsonFieldName(), this.getResponseObject(MemberRecord.convertDdbMap(requireNonNull(this.getDdbItem(s, DdbTable.MEMBER))))));
-                    } else {
-                        responseBodyMap.put(param.jsonFieldName(), this.getResponseObject(MemberRecord.convertDdbMap(requireNonNull(this.getDdbItem(family.get(FamilyTableParameter.ID.jsonFieldName())
-                                                                                                                                                          .s(), DdbTable.MEMBER)))));
+            final String spouseId = memberRecord.id()
+                                                .equals(memberRecord.familyId())
+                    ? Optional.ofNullable(family.get(FamilyTableParameter.SPOUSE.jsonFieldName()))
+                              .map(AttributeValue::s)
+                              .orElse(null)
+                    : family.get(FamilyTableParameter.ID.jsonFieldName())
+                            .s();
+            final List<String> descendantIds = Optional.ofNullable(family.get(FamilyTableParameter.DESCENDANTS.jsonFieldName()))
+                                                       .map(AttributeValue::ss)
+                                                       .orElseGet(Collections::emptyList)
+                                                       .stream()
+                                                       .filter(Predicate.not(String::isBlank))
+                                                       .toList();
+            final Set<String> memberIds = new HashSet<>(descendantIds);
+            Optional.ofNullable(spouseId)
+                    .ifPresent(memberIds::add);
+            final Map<String, Map<String, AttributeValue>> members = memberIds.isEmpty()
+                    ? Collections.emptyMap()
+                    : this.batchGetDdbItems(Map.of(DdbTable.MEMBER, memberIds))
+                          .get(DdbTable.MEMBER);
+
+            final Map<String, Object> memberObject = this.getResponseObject(memberRecord);
+
+            responseBodyMap.put("ancestor", family.get(FamilyTableParameter.ANCESTOR.jsonFieldName())
+                                                  .s());
+            responseBodyMap.put("member", memberObject);
+
+            for (final FamilyTableParameter param : FamilyTableParameter.values()) {
+                switch (param) {
+                    case ID, ANCESTOR -> {
+                    }
+                    case SPOUSE -> Optional.ofNullable(spouseId)
+                                           .ifPresent(s -> responseBodyMap.put(param.jsonFieldName(), this.getResponseObject(MemberRecord.convertDdbMap(requireNonNull(members.get(s))))));
+                    case DESCENDANTS -> {
+                        if (!descendantIds.isEmpty()) {
+                            responseBodyMap.put(param.jsonFieldName(), this.getDescendantsObject(descendantIds, members));
+                        }
                     }
+                    default -> this.logger.log("FamilyTableParameter `%s` Not Handled in GET_MEMBER".formatted(param.name()), WARN);
                 }
-                case DESCENDANTS -> Optional.ofNullable(family.get(param.jsonFieldName())).map(AttributeValue::ss)
-                                                                                 .filter(Predicate.not(List::isEmpty))
-                                                                                 .ifPresent(l -> responseBodyMap.put(param.jsonFieldName(), this.getDescendantsObject(l)));
-                default -> this.logger.log("FamilyTableParameter `%s` Not Handled in GET_MEMBER".formatted(param.name()), WARN);
             }
-        }
 
-        responseBodyMap.put("memberIsAdmin", this.isMemberAdmin(memberRecord.id().toString()));
+            responseBodyMap.put("memberIsAdmin", memberIsAdmin.get());
+        } catch (final ExecutionException e) {
+            throw (e.getCause() instanceof RuntimeException cause)
+                    ? cause
+                    : new IllegalStateException(e.getCause());
+        } catch (final InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw new IllegalStateException(e);
+        }
 
         return this.objectMapper.writeValueAsString(responseBodyMap);
     }
@@ -130,13 +179,11 @@ class GetHelper extends ApiHelper {
     @NotNull
     @UnmodifiableView
     private
-    List<Map<String, Object>> getDescendantsObject (final @NotNull List<String> descendantIds) {
+    List<Map<String, Object>> getDescendantsObject (final @NotNull List<String> descendantIds, final @NotNull Map<String, Map<String, AttributeValue>> members) {
         final Comparator<Map<String, AttributeValue>> comparator = Comparator.comparing(entry -> Member.convertStringToDate(entry.get(MemberTableParameter.BIRTHDAY.jsonFieldName())
                                                                                                                                  .s()));
         final List<Map<String, AttributeValue>> descendantDdbMap = new ArrayList<>();
-        descendantIds.stream()
-                     .filter(Predicate.not(String::isBlank))
-                     .forEach(s -> descendantDdbMap.add(requireNonNull(this.getDdbItem(s, DdbTable.MEMBER))));
+        descendantIds.forEach(s -> descendantDdbMap.add(requireNonNull(members.get(s))));
         descendantDdbMap.sort(comparator);
         final List<Map<String, Object>> descendantsObject = new ArrayList<>();
         descendantDdbMap.forEach(ddb -> descendantsObject.add(this.getResponseObject(MemberRecord.convertDdbMap(ddb))));
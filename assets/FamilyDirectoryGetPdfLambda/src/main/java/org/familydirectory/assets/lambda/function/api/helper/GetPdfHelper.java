@@ -4,43 +4,68 @@ import com.amazonaws.services.lambda.runtime.LambdaLogger;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
 import java.net.URL;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
 import org.familydirectory.assets.lambda.function.utility.LambdaUtils;
+import org.familydirectory.assets.lambda.function.utility.SdkClientRegistry;
 import org.jetbrains.annotations.NotNull;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 import static com.amazonaws.services.lambda.runtime.logging.LogLevel.INFO;
 import static java.lang.System.getenv;
+import static java.time.Clock.systemUTC;
 
 public final
 class GetPdfHelper extends ApiHelper {
     private static final long SIGNATURE_DURATION_MINUTES = 5;
-    private final @NotNull S3Presigner s3Presigner = S3Presigner.create();
+    private static final @NotNull S3Presigner S3_PRESIGNER = S3Presigner.builder()
+                                                                        .region(SdkClientRegistry.getRegion())
+                                                                        .credentialsProvider(SdkClientRegistry.getCredentialsProvider())
+                                                                        .build();
 
     public
     GetPdfHelper (final @NotNull LambdaLogger logger, final @NotNull APIGatewayProxyRequestEvent requestEvent) {
         super(logger, requestEvent);
     }
 
+    /**
+     * A presigned GET names the key rather than a version of it, so a reused URL always serves the current bundle; it asks for no-cache so the browser
+     * revalidates against the bundle's ETag instead of replaying a copy from before the last regeneration
+     *
+     * @see PdfUrlCache
+     */
     public @NotNull
     URL getPresignedPdfUrl () throws ResponseException {
         final Caller caller = this.getCaller();
         this.logger.log("<MEMBER,`%s`> GET PDF".formatted(caller.caller().id().toString()), INFO);
+        final UUID syncToken = this.getCacheSyncToken();
+        if (syncToken != null) {
+            final URL cachedUrl = PdfUrlCache.getUrl(syncToken);
+            if (cachedUrl != null) {
+                return cachedUrl;
+            }
+        }
+        final String cachedKey = syncToken == null
+                ? null
+                : PdfUrlCache.getKey(syncToken);
+        final String key = cachedKey == null
+                ? this.getPdfS3Key(this.getRootMemberSurname())
+                : cachedKey;
         final GetObjectRequest pdfRequest = GetObjectRequest.builder()
                                                             .bucket(getenv(LambdaUtils.EnvVar.S3_PDF_BUCKET_NAME.name()))
-                                                            .key(this.getPdfS3Key(this.getRootMemberSurname()))
+                                                            .key(key)
+                                                            .responseCacheControl("no-cache")
                                                             .build();
         final GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
                                                                               .signatureDuration(Duration.ofMinutes(SIGNATURE_DURATION_MINUTES))
                                                                               .getObjectRequest(pdfRequest)
                                                                               .build();
-        return this.s3Presigner.presignGetObject(presignRequest).url();
-    }
-
-    @Override
-    public
-    void close () {
-        super.close();
-        this.s3Presigner.close();
+        final Instant signedAt = Instant.now(systemUTC());
+        final URL url = S3_PRESIGNER.presignGetObject(presignRequest).url();
+        if (syncToken != null) {
+            PdfUrlCache.put(syncToken, key, url, signedAt);
+        }
+        return url;
     }
 }
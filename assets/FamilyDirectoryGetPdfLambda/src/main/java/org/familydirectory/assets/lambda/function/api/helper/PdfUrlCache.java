@@ -0,0 +1,61 @@
+package org.familydirectory.assets.lambda.function.api.helper;
+
+import java.net.URL;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import static java.time.Clock.systemUTC;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Container-scoped cache of the PDF bundle's S3 key and the last URL presigned for it
+ * <p>
+ * Both are only served while the SYNC table's LATEST token still matches the token they were resolved under, so a change to the root Member's surname (and
+ * with it the key) is picked up by the next request; the URL is additionally only served for {@link #URL_REUSE} after it was signed, so every URL handed out
+ * stays valid for the rest of its signature duration
+ */
+final
+class PdfUrlCache {
+    static final Duration URL_REUSE = Duration.ofMinutes(4);
+
+    private static Entry entry = null;
+
+    private
+    PdfUrlCache () {
+        super();
+    }
+
+    @Nullable
+    static synchronized
+    String getKey (final @NotNull UUID syncToken) {
+        return entry == null || !entry.syncToken().equals(syncToken)
+                ? null
+                : entry.key();
+    }
+
+    @Nullable
+    static synchronized
+    URL getUrl (final @NotNull UUID syncToken) {
+        if (entry == null || !entry.syncToken().equals(syncToken) || !Instant.now(systemUTC()).isBefore(entry.signedAt().plus(URL_REUSE))) {
+            return null;
+        }
+        return entry.url();
+    }
+
+    static synchronized
+    void put (final @NotNull UUID syncToken, final @NotNull String key, final @NotNull URL url, final @NotNull Instant signedAt) {
+        entry = new Entry(syncToken, key, url, signedAt);
+    }
+
+    private
+    record Entry(@NotNull UUID syncToken, @NotNull String key, @NotNull URL url, @NotNull Instant signedAt) {
+        Entry {
+            requireNonNull(syncToken);
+            requireNonNull(key);
+            requireNonNull(url);
+            requireNonNull(signedAt);
+        }
+    }
+}
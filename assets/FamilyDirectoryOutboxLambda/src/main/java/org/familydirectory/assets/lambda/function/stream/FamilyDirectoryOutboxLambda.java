@@ -0,0 +1,86 @@
+package org.familydirectory.assets.lambda.function.stream;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.amazonaws.services.lambda.runtime.events.DynamodbEvent;
+import com.amazonaws.services.lambda.runtime.events.transformers.v2.dynamodb.DynamodbRecordTransformer;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import org.familydirectory.assets.ddb.enums.outbox.OutboxTableParameter;
+import org.familydirectory.assets.lambda.function.stream.helper.OutboxHelper;
+import org.familydirectory.assets.lambda.function.utility.LambdaUtils;
+import org.jetbrains.annotations.NotNull;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.OperationType;
+import software.amazon.awssdk.services.dynamodb.model.Record;
+import software.amazon.awssdk.services.dynamodb.model.StreamRecord;
+import static com.amazonaws.services.lambda.runtime.logging.LogLevel.FATAL;
+
+public
+class FamilyDirectoryOutboxLambda implements RequestHandler<DynamodbEvent, Void> {
+
+    @Override
+    public
+    Void handleRequest (final DynamodbEvent dynamodbEvent, final @NotNull Context context) {
+        final LambdaLogger logger = context.getLogger();
+        try (final OutboxHelper outboxHelper = new OutboxHelper(logger)) {
+
+//      Every INSERT or MODIFY of an OUTBOX item is a (re)try; TTL expiries are ignored
+            final Set<String> outboxIds = Optional.ofNullable(dynamodbEvent)
+                                                  .map(DynamodbEvent::getRecords)
+                                                  .filter(Predicate.not(List::isEmpty))
+                                                  .orElse(Collections.emptyList())
+                                                  .stream()
+                                                  .map(DynamodbRecordTransformer::toRecordV2)
+                                                  .filter(record -> !OperationType.REMOVE.equals(record.eventName()))
+                                                  .map(Record::dynamodb)
+                                                  .map(StreamRecord::keys)
+                                                  .map(keys -> keys.get(OutboxTableParameter.ID.jsonFieldName()))
+                                                  .map(AttributeValue::s)
+                                                  .collect(Collectors.toCollection(LinkedHashSet::new));
+
+            final Map<String, Instant> backingOff = new HashMap<>();
+            for (final String outboxId : outboxIds) {
+                if (context.getRemainingTimeInMillis() < OutboxHelper.DEFER_REMAINING_MILLIS) {
+                    outboxHelper.defer(outboxId);
+                } else {
+                    Optional.ofNullable(outboxHelper.execute(outboxId))
+                            .ifPresent(nextAttempt -> backingOff.put(outboxId, nextAttempt));
+                }
+            }
+
+//      Items backing off from a failure are retried here once due; those not due before time runs out are deferred, re-arming them for the next invocation
+            while (!backingOff.isEmpty()) {
+                final Map.Entry<String, Instant> due = Collections.min(backingOff.entrySet(), Map.Entry.comparingByValue());
+                final long waitMillis = Math.max(0L, Duration.between(Instant.now(Clock.systemUTC()), due.getValue())
+                                                             .toMillis());
+                if (context.getRemainingTimeInMillis() - waitMillis < OutboxHelper.DEFER_REMAINING_MILLIS) {
+                    Thread.sleep(Math.max(0L, context.getRemainingTimeInMillis() - OutboxHelper.DEFER_REMAINING_MILLIS));
+                    backingOff.keySet()
+                              .forEach(outboxHelper::defer);
+                    break;
+                }
+                Thread.sleep(waitMillis);
+                backingOff.remove(due.getKey());
+                Optional.ofNullable(outboxHelper.execute(due.getKey()))
+                        .ifPresent(nextAttempt -> backingOff.put(due.getKey(), nextAttempt));
+            }
+
+            return null;
+        } catch (final Throwable e) {
+            LambdaUtils.logTrace(logger, e, FATAL);
+            throw new RuntimeException(e);
+        }
+    }
+}
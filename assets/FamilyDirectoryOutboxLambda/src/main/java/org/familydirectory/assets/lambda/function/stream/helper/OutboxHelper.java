@@ -0,0 +1,355 @@
+package org.familydirectory.assets.lambda.function.stream.helper;
+
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import org.familydirectory.assets.amplify.utility.AmplifyUtils;
+import org.familydirectory.assets.ddb.enums.DdbTable;
+import org.familydirectory.assets.ddb.enums.cognito.CognitoTableParameter;
+import org.familydirectory.assets.ddb.enums.outbox.OutboxTableParameter;
+import org.familydirectory.assets.ddb.enums.outbox.OutboxTask;
+import org.familydirectory.assets.ddb.utils.DdbUtils;
+import org.familydirectory.assets.lambda.function.helper.LambdaFunctionHelper;
+import org.familydirectory.assets.lambda.function.utility.LambdaUtils;
+import org.familydirectory.assets.lambda.function.utility.SdkClientRegistry;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import software.amazon.awscdk.services.dynamodb.GlobalSecondaryIndexProps;
+import software.amazon.awssdk.services.amplify.AmplifyClient;
+import software.amazon.awssdk.services.cognitoidentityprovider.CognitoIdentityProviderClient;
+import software.amazon.awssdk.services.cognitoidentityprovider.model.AdminDeleteUserRequest;
+import software.amazon.awssdk.services.cognitoidentityprovider.model.AttributeType;
+import software.amazon.awssdk.services.cognitoidentityprovider.model.ListUsersRequest;
+import software.amazon.awssdk.services.cognitoidentityprovider.model.ListUsersResponse;
+import software.amazon.awssdk.services.cognitoidentityprovider.model.UserNotFoundException;
+import software.amazon.awssdk.services.cognitoidentityprovider.model.UserType;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+import software.amazon.awssdk.services.sesv2.SesV2Client;
+import static com.amazonaws.services.lambda.runtime.logging.LogLevel.ERROR;
+import static com.amazonaws.services.lambda.runtime.logging.LogLevel.INFO;
+import static com.amazonaws.services.lambda.runtime.logging.LogLevel.WARN;
+import static java.lang.System.getenv;
+import static java.time.Clock.systemUTC;
+import static java.time.Duration.ofDays;
+import static java.util.Collections.singletonMap;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Executes the side effects enqueued in {@link DdbTable#OUTBOX}
+ * <p>
+ * Every step is safe to repeat: an item is re-read with a consistent read and skipped once {@link OutboxTableParameter#COMPLETED}, a Cognito account that is
+ * already gone is not an error, and the addresses to notify are recorded on the item before the account holding one of them is deleted. A failed item records
+ * the failure and its {@link OutboxTableParameter#NEXT_ATTEMPT}, backing off exponentially from {@link DdbUtils#OUTBOX_RETRY_BASE_SECONDS}, so a brief
+ * throttle does not spend all {@link DdbUtils#OUTBOX_MAX_ATTEMPTS} attempts as the failure streams straight back to this lambda
+ */
+public final
+class OutboxHelper implements LambdaFunctionHelper {
+    /**
+     * Items still pending when less time than this remains are deferred to the next invocation instead of risking a timeout mid-task
+     */
+    public static final int DEFER_REMAINING_MILLIS = 20000;
+
+    private final @NotNull LambdaLogger logger;
+    private final @NotNull DynamoDbClient dynamoDbClient;
+    private final @NotNull CognitoIdentityProviderClient cognitoClient;
+    private final @NotNull SesV2Client sesClient;
+    private final @NotNull AmplifyClient amplifyClient;
+    private final @NotNull String userPoolId;
+    private final @Nullable String amplifyAppId;
+    private final @Nullable String amplifyBranchName;
+
+    public
+    OutboxHelper (final @NotNull LambdaLogger logger) {
+        this(logger, SdkClientRegistry.getSdkClient(DynamoDbClient.class), SdkClientRegistry.getSdkClient(CognitoIdentityProviderClient.class),
+             SdkClientRegistry.getSdkClient(SesV2Client.class), SdkClientRegistry.getSdkClient(AmplifyClient.class),
+             requireNonNull(getenv(LambdaUtils.EnvVar.COGNITO_USER_POOL_ID.name())), getenv(LambdaUtils.EnvVar.AMPLIFY_APP_ID.name()),
+             getenv(LambdaUtils.EnvVar.AMPLIFY_BRANCH_NAME.name()));
+    }
+
+    /**
+     * For running the worker outside Lambda, e.g. against DynamoDB Local with stubbed Cognito, SES and Amplify clients; the caller owns the clients
+     */
+    @SuppressFBWarnings("EI_EXPOSE_REP2")
+    public
+    OutboxHelper (final @NotNull LambdaLogger logger, final @NotNull DynamoDbClient dynamoDbClient, final @NotNull CognitoIdentityProviderClient cognitoClient,
+                  final @NotNull SesV2Client sesClient, final @NotNull AmplifyClient amplifyClient, final @NotNull String userPoolId, final @Nullable String amplifyAppId,
+                  final @Nullable String amplifyBranchName)
+    {
+        super();
+        this.logger = requireNonNull(logger);
+        this.dynamoDbClient = requireNonNull(dynamoDbClient);
+        this.cognitoClient = requireNonNull(cognitoClient);
+        this.sesClient = requireNonNull(sesClient);
+        this.amplifyClient = requireNonNull(amplifyClient);
+        this.userPoolId = requireNonNull(userPoolId);
+        this.amplifyAppId = amplifyAppId;
+        this.amplifyBranchName = amplifyBranchName;
+    }
+
+    /**
+     * @return when {@code outboxId} may next be attempted, if it is still backing off from a failure and so was left untouched; otherwise null
+     */
+    public @Nullable
+    Instant execute (final @NotNull String outboxId) {
+        final Map<String, AttributeValue> item = this.dynamoDbClient.getItem(GetItemRequest.builder()
+                                                                                           .tableName(DdbTable.OUTBOX.name())
+                                                                                           .key(singletonMap(OutboxTableParameter.ID.jsonFieldName(), AttributeValue.fromS(outboxId)))
+                                                                                           .consistentRead(true)
+                                                                                           .build())
+                                                                    .item();
+        if (isNull(item) || item.isEmpty() || item.containsKey(OutboxTableParameter.COMPLETED.jsonFieldName())) {
+            return null;
+        }
+        final int attempts = Optional.ofNullable(item.get(OutboxTableParameter.ATTEMPTS.jsonFieldName()))
+                                     .map(AttributeValue::n)
+                                     .map(Integer::parseInt)
+                                     .orElse(0);
+        if (attempts >= DdbUtils.OUTBOX_MAX_ATTEMPTS) {
+            return null;
+        }
+        final Instant nextAttempt = Optional.ofNullable(item.get(OutboxTableParameter.NEXT_ATTEMPT.jsonFieldName()))
+                                            .map(AttributeValue::s)
+                                            .map(Instant::parse)
+                                            .orElse(null);
+        if (nonNull(nextAttempt) && nextAttempt.isAfter(Instant.now(systemUTC()))) {
+            return nextAttempt;
+        }
+
+        final OutboxTask task = OutboxTask.valueOf(item.get(OutboxTableParameter.TASK.jsonFieldName())
+                                                       .s());
+        final String memberId = item.get(OutboxTableParameter.MEMBER.jsonFieldName())
+                                    .s();
+        try {
+            switch (task) {
+                case DELETE_ACCOUNT_EMAIL_CHANGED -> this.deleteCognitoAccountAndNotify(outboxId, item, "Your old account was deleted due to an email address change. Please sign up again with your new email.");
+                case DELETE_ACCOUNT_MEMBER_DELETED -> this.deleteCognitoAccountAndNotify(outboxId, item, "Your account has been irreversibly deleted.");
+                case DEPLOY_ROOT_UPDATED -> AmplifyUtils.appDeployment(this.amplifyClient, "<MEMBER,`%s`> update ROOT".formatted(item.get(OutboxTableParameter.CALLER.jsonFieldName())
+                                                                                                                                        .s()), this.getRootMemberSurname(),
+                                                                       this.amplifyAppId, this.amplifyBranchName);
+                default -> throw new IllegalStateException("Unhandled Task: %s".formatted(task.name()));
+            }
+        } catch (final RuntimeException e) {
+            this.recordFailure(outboxId, attempts, e);
+            return null;
+        }
+
+        this.dynamoDbClient.updateItem(UpdateItemRequest.builder()
+                                                        .tableName(DdbTable.OUTBOX.name())
+                                                        .key(singletonMap(OutboxTableParameter.ID.jsonFieldName(), AttributeValue.fromS(outboxId)))
+                                                        .updateExpression("SET #completed = :completed, #ttl = :ttl")
+                                                        .expressionAttributeNames(Map.of("#completed", OutboxTableParameter.COMPLETED.jsonFieldName(), "#ttl",
+                                                                                         OutboxTableParameter.TTL.jsonFieldName()))
+                                                        .expressionAttributeValues(Map.of(":completed", AttributeValue.fromS(Instant.now(systemUTC())
+                                                                                                                                    .toString()), ":ttl", getTtl()))
+                                                        .build());
+        this.logger.log("<OUTBOX,`%s`> Completed %s for <MEMBER,`%s`>".formatted(outboxId, task.name(), memberId), INFO);
+        return null;
+    }
+
+    /**
+     * Touches {@code outboxId} without spending an attempt, so it streams back to the next invocation
+     */
+    public
+    void defer (final @NotNull String outboxId) {
+        try {
+            this.dynamoDbClient.updateItem(UpdateItemRequest.builder()
+                                                            .tableName(DdbTable.OUTBOX.name())
+                                                            .key(singletonMap(OutboxTableParameter.ID.jsonFieldName(), AttributeValue.fromS(outboxId)))
+                                                            .updateExpression("SET #deferred = :deferred")
+                                                            .conditionExpression("attribute_exists(#id) AND attribute_not_exists(#completed)")
+                                                            .expressionAttributeNames(Map.of("#deferred", OutboxTableParameter.DEFERRED.jsonFieldName(), "#id",
+                                                                                             OutboxTableParameter.ID.jsonFieldName(), "#completed",
+                                                                                             OutboxTableParameter.COMPLETED.jsonFieldName()))
+                                                            .expressionAttributeValues(singletonMap(":deferred", AttributeValue.fromS(Instant.now(systemUTC())
+                                                                                                                                            .toString())))
+                                                            .build());
+            this.logger.log("<OUTBOX,`%s`> Deferred".formatted(outboxId), INFO);
+        } catch (final ConditionalCheckFailedException e) {
+            this.logger.log("<OUTBOX,`%s`> Already Completed or Expired".formatted(outboxId), INFO);
+        }
+    }
+
+    private
+    void recordFailure (final @NotNull String outboxId, final int attempts, final @NotNull RuntimeException e) {
+        final int nextAttempts = attempts + 1;
+        final Map<String, String> expressionAttributeNames = new HashMap<>();
+        expressionAttributeNames.put("#attempts", OutboxTableParameter.ATTEMPTS.jsonFieldName());
+        expressionAttributeNames.put("#error", OutboxTableParameter.ERROR.jsonFieldName());
+        final Map<String, AttributeValue> expressionAttributeValues = new HashMap<>();
+        expressionAttributeValues.put(":attempts", AttributeValue.fromN(String.valueOf(nextAttempts)));
+        expressionAttributeValues.put(":previous", AttributeValue.fromN(String.valueOf(attempts)));
+        expressionAttributeValues.put(":error", AttributeValue.fromS(Optional.ofNullable(e.getMessage())
+                                                                             .filter(Predicate.not(String::isBlank))
+                                                                             .orElse(e.getClass()
+                                                                                      .getName())));
+        String updateExpression = "SET #attempts = :attempts, #error = :error";
+        final boolean exhausted = nextAttempts >= DdbUtils.OUTBOX_MAX_ATTEMPTS;
+        final Instant nextAttempt = Instant.now(systemUTC())
+                                           .plusSeconds(Math.min(DdbUtils.OUTBOX_RETRY_MAX_SECONDS, DdbUtils.OUTBOX_RETRY_BASE_SECONDS << attempts));
+        if (exhausted) {
+            expressionAttributeNames.put("#ttl", OutboxTableParameter.TTL.jsonFieldName());
+            expressionAttributeValues.put(":ttl", getTtl());
+            updateExpression = "%s, #ttl = :ttl".formatted(updateExpression);
+        } else {
+            expressionAttributeNames.put("#nextAttempt", OutboxTableParameter.NEXT_ATTEMPT.jsonFieldName());
+            expressionAttributeValues.put(":nextAttempt", AttributeValue.fromS(nextAttempt.toString()));
+            updateExpression = "%s, #nextAttempt = :nextAttempt".formatted(updateExpression);
+        }
+        try {
+            this.dynamoDbClient.updateItem(UpdateItemRequest.builder()
+                                                            .tableName(DdbTable.OUTBOX.name())
+                                                            .key(singletonMap(OutboxTableParameter.ID.jsonFieldName(), AttributeValue.fromS(outboxId)))
+                                                            .updateExpression(updateExpression)
+                                                            .conditionExpression("attribute_not_exists(#attempts) OR #attempts = :previous")
+                                                            .expressionAttributeNames(expressionAttributeNames)
+                                                            .expressionAttributeValues(expressionAttributeValues)
+                                                            .build());
+        } catch (final ConditionalCheckFailedException ce) {
+            e.addSuppressed(ce);
+        }
+        if (exhausted) {
+            this.logger.log("<OUTBOX,`%s`> Abandoned After %d Attempts".formatted(outboxId, nextAttempts), ERROR);
+            LambdaUtils.logTrace(this.logger, e, ERROR);
+        } else {
+            this.logger.log("<OUTBOX,`%s`> Failed Attempt %d of %d, Will Retry At %s".formatted(outboxId, nextAttempts, DdbUtils.OUTBOX_MAX_ATTEMPTS, nextAttempt), WARN);
+            LambdaUtils.logTrace(this.logger, e, WARN);
+        }
+    }
+
+    /**
+     * Deletes the Cognito account of the item's Member, if it still has one, and notifies the account's address plus the item's
+     * {@link OutboxTableParameter#EMAIL}; no notice is sent for a Member that never had an account
+     */
+    private
+    void deleteCognitoAccountAndNotify (final @NotNull String outboxId, final @NotNull Map<String, AttributeValue> item, final @NotNull String notice) {
+        final String ddbMemberId = item.get(OutboxTableParameter.MEMBER.jsonFieldName())
+                                       .s();
+        final Set<String> notifyEmailAddresses = new LinkedHashSet<>();
+        Optional.ofNullable(item.get(OutboxTableParameter.NOTIFY.jsonFieldName()))
+                .filter(AttributeValue::hasSs)
+                .map(AttributeValue::ss)
+                .ifPresent(notifyEmailAddresses::addAll);
+
+        final GlobalSecondaryIndexProps cognitoGsiProps = requireNonNull(CognitoTableParameter.MEMBER.gsiProps());
+        final var cognitoGsiPK = requireNonNull(cognitoGsiProps.getPartitionKey());
+        final QueryRequest cognitoMemberQueryRequest = QueryRequest.builder()
+                                                                   .tableName(DdbTable.COGNITO.name())
+                                                                   .indexName(cognitoGsiProps.getIndexName())
+                                                                   .keyConditionExpression("#memberId = :memberId")
+                                                                   .expressionAttributeNames(singletonMap("#memberId", cognitoGsiPK.getName()))
+                                                                   .expressionAttributeValues(singletonMap(":memberId", AttributeValue.fromS(ddbMemberId)))
+                                                                   .limit(1)
+                                                                   .build();
+        final QueryResponse cognitoMemberQueryResponse = this.dynamoDbClient.query(cognitoMemberQueryRequest);
+        if (!cognitoMemberQueryResponse.items()
+                                       .isEmpty())
+        {
+            final String ddbMemberCognitoSub = Optional.ofNullable(cognitoMemberQueryResponse.items().getFirst().get(CognitoTableParameter.ID.jsonFieldName()))
+                                                       .map(AttributeValue::s)
+                                                       .filter(Predicate.not(String::isBlank))
+                                                       .orElseThrow();
+
+            final ListUsersRequest listUsersRequest = ListUsersRequest.builder()
+                                                                      .filter("sub = \"%s\"".formatted(ddbMemberCognitoSub))
+                                                                      .limit(1)
+                                                                      .userPoolId(this.userPoolId)
+                                                                      .build();
+            final Optional<UserType> ddbMemberCognitoUser = Optional.ofNullable(this.cognitoClient.listUsers(listUsersRequest))
+                                                                    .filter(ListUsersResponse::hasUsers)
+                                                                    .map(ListUsersResponse::users)
+                                                                    .filter(Predicate.not(List::isEmpty))
+                                                                    .map(List::getFirst);
+            if (ddbMemberCognitoUser.isPresent()) {
+                Optional.ofNullable(item.get(OutboxTableParameter.EMAIL.jsonFieldName()))
+                        .map(AttributeValue::s)
+                        .ifPresent(notifyEmailAddresses::add);
+                ddbMemberCognitoUser.filter(UserType::hasAttributes)
+                                    .map(UserType::attributes)
+                                    .stream()
+                                    .flatMap(List::stream)
+                                    .filter(attr -> attr.name().equalsIgnoreCase("email"))
+                                    .findFirst()
+                                    .map(AttributeType::value)
+                                    .filter(s -> s.contains("@"))
+                                    .ifPresent(notifyEmailAddresses::add);
+                if (!notifyEmailAddresses.isEmpty()) {
+                    this.recordNotify(outboxId, notifyEmailAddresses);
+                }
+
+                final String ddbMemberCognitoUsername = ddbMemberCognitoUser.map(UserType::username)
+                                                                            .filter(Predicate.not(String::isBlank))
+                                                                            .orElseThrow();
+                try {
+                    this.cognitoClient.adminDeleteUser(AdminDeleteUserRequest.builder()
+                                                                             .userPoolId(this.userPoolId)
+                                                                             .username(ddbMemberCognitoUsername)
+                                                                             .build());
+                    this.logger.log("Cognito Account Deleted for <MEMBER,`%s`>: <USERNAME,`%s`>".formatted(ddbMemberId, ddbMemberCognitoUsername), INFO);
+                } catch (final UserNotFoundException e) {
+                    this.logger.log("Cognito Account Already Deleted for <MEMBER,`%s`>: <USERNAME,`%s`>".formatted(ddbMemberId, ddbMemberCognitoUsername), INFO);
+                }
+            } else {
+                this.logger.log("No Cognito Account Found for <MEMBER,`%s`>: <COGNITO_SUB,`%s`>".formatted(ddbMemberId, ddbMemberCognitoSub), WARN);
+            }
+
+            this.dynamoDbClient.deleteItem(DeleteItemRequest.builder()
+                                                            .tableName(DdbTable.COGNITO.name())
+                                                            .key(singletonMap(CognitoTableParameter.ID.jsonFieldName(), AttributeValue.fromS(ddbMemberCognitoSub)))
+                                                            .build());
+            this.logger.log("COGNITO Table Entry Deleted for <MEMBER,`%s`>: <COGNITO_SUB,`%s`>".formatted(ddbMemberId, ddbMemberCognitoSub), INFO);
+        }
+
+        if (!notifyEmailAddresses.isEmpty()) {
+            final String emailId = LambdaUtils.sendEmail(this.sesClient, List.copyOf(notifyEmailAddresses), "Notice of Account Deletion", notice);
+            this.logger.log("Sent Account Deletion Notice To <EMAIL's,`%s`>: <MESSAGE_ID,`%s`>".formatted(notifyEmailAddresses, emailId), INFO);
+        }
+    }
+
+    private
+    void recordNotify (final @NotNull String outboxId, final @NotNull Set<String> notifyEmailAddresses) {
+        this.dynamoDbClient.updateItem(UpdateItemRequest.builder()
+                                                        .tableName(DdbTable.OUTBOX.name())
+                                                        .key(singletonMap(OutboxTableParameter.ID.jsonFieldName(), AttributeValue.fromS(outboxId)))
+                                                        .updateExpression("ADD #notify :notify")
+                                                        .expressionAttributeNames(singletonMap("#notify", OutboxTableParameter.NOTIFY.jsonFieldName()))
+                                                        .expressionAttributeValues(singletonMap(":notify", AttributeValue.fromSs(List.copyOf(notifyEmailAddresses))))
+                                                        .build());
+    }
+
+    @NotNull
+    private static
+    AttributeValue getTtl () {
+        return AttributeValue.fromN(String.valueOf(Instant.now(systemUTC())
+                                                          .plus(ofDays(DdbUtils.OUTBOX_RETENTION_DAYS))
+                                                          .getEpochSecond()));
+    }
+
+    @Override
+    public @NotNull
+    LambdaLogger getLogger () {
+        return this.logger;
+    }
+
+    @SuppressFBWarnings("EI_EXPOSE_REP")
+    @Override
+    public @NotNull
+    DynamoDbClient getDynamoDbClient () {
+        return this.dynamoDbClient;
+    }
+}
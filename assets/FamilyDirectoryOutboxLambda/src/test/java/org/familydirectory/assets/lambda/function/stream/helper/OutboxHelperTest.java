@@ -0,0 +1,450 @@
+package org.familydirectory.assets.lambda.function.stream.helper;
+
+import com.amazonaws.services.dynamodbv2.local.embedded.DynamoDBEmbedded;
+import com.amazonaws.services.dynamodbv2.local.shared.access.AmazonDynamoDBLocal;
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.familydirectory.assets.ddb.enums.DdbTable;
+import org.familydirectory.assets.ddb.enums.cognito.CognitoTableParameter;
+import org.familydirectory.assets.ddb.enums.outbox.OutboxTableParameter;
+import org.familydirectory.assets.ddb.enums.outbox.OutboxTask;
+import org.familydirectory.assets.ddb.models.DdbTableParameter;
+import org.familydirectory.assets.ddb.utils.DdbUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awscdk.services.dynamodb.GlobalSecondaryIndexProps;
+import software.amazon.awssdk.services.amplify.AmplifyClient;
+import software.amazon.awssdk.services.cognitoidentityprovider.CognitoIdentityProviderClient;
+import software.amazon.awssdk.services.cognitoidentityprovider.model.AdminDeleteUserRequest;
+import software.amazon.awssdk.services.cognitoidentityprovider.model.AdminDeleteUserResponse;
+import software.amazon.awssdk.services.cognitoidentityprovider.model.AttributeType;
+import software.amazon.awssdk.services.cognitoidentityprovider.model.CognitoIdentityProviderException;
+import software.amazon.awssdk.services.cognitoidentityprovider.model.ListUsersRequest;
+import software.amazon.awssdk.services.cognitoidentityprovider.model.ListUsersResponse;
+import software.amazon.awssdk.services.cognitoidentityprovider.model.UserNotFoundException;
+import software.amazon.awssdk.services.cognitoidentityprovider.model.UserType;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeDefinition;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BillingMode;
+import software.amazon.awssdk.services.dynamodb.model.CancellationReason;
+import software.amazon.awssdk.services.dynamodb.model.CreateTableRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GlobalSecondaryIndex;
+import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
+import software.amazon.awssdk.services.dynamodb.model.KeyType;
+import software.amazon.awssdk.services.dynamodb.model.Projection;
+import software.amazon.awssdk.services.dynamodb.model.ProjectionType;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+import software.amazon.awssdk.services.sesv2.SesV2Client;
+import software.amazon.awssdk.services.sesv2.model.SendEmailRequest;
+import software.amazon.awssdk.services.sesv2.model.SendEmailResponse;
+import static java.util.Collections.singletonMap;
+import static java.util.Objects.isNull;
+import static java.util.Objects.requireNonNull;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs {@link OutboxHelper} against DynamoDB Local, with stubbed Cognito, SES and Amplify clients
+ */
+public
+class OutboxHelperTest {
+    private static final String USER_POOL_ID = "us-east-1_OutboxTest";
+    private static final String ACCOUNT_EMAIL = "old.address@example.com";
+    private static final String NEW_EMAIL = "new.address@example.com";
+    private static final String NOTICE_SUBJECT = "Notice of Account Deletion";
+
+    private static AmazonDynamoDBLocal dynamoDbLocal;
+    private static DynamoDbClient dynamoDbClient;
+
+    private final StubCognitoClient cognitoClient = new StubCognitoClient();
+    private final StubSesClient sesClient = new StubSesClient();
+    private final String memberId = UUID.randomUUID()
+                                        .toString();
+    private final String callerId = UUID.randomUUID()
+                                        .toString();
+    private final String cognitoSub = UUID.randomUUID()
+                                          .toString();
+    private OutboxHelper outboxHelper;
+
+    @BeforeAll
+    public static
+    void startDynamoDbLocal () {
+        dynamoDbLocal = DynamoDBEmbedded.create();
+        dynamoDbClient = dynamoDbLocal.dynamoDbClient();
+        for (final DdbTable ddbTable : DdbTable.values()) {
+            createTable(ddbTable);
+        }
+    }
+
+    @AfterAll
+    public static
+    void stopDynamoDbLocal () {
+        dynamoDbClient.close();
+        dynamoDbLocal.shutdown();
+    }
+
+    /**
+     * Creates {@code ddbTable} with its {@link DdbUtils#PK} and the GSIs of its parameters, every one of which is keyed by a STRING
+     */
+    private static
+    void createTable (final @NotNull DdbTable ddbTable) {
+        final List<AttributeDefinition> attributeDefinitions = new ArrayList<>();
+        attributeDefinitions.add(AttributeDefinition.builder()
+                                                    .attributeName(DdbUtils.PK)
+                                                    .attributeType(ScalarAttributeType.S)
+                                                    .build());
+        final List<GlobalSecondaryIndex> globalSecondaryIndexes = new ArrayList<>();
+        for (final DdbTableParameter parameter : ddbTable.parameters()) {
+            final GlobalSecondaryIndexProps gsiProps = parameter.gsiProps();
+            if (isNull(gsiProps)) {
+                continue;
+            }
+            final String gsiPK = requireNonNull(gsiProps.getPartitionKey()).getName();
+            attributeDefinitions.add(AttributeDefinition.builder()
+                                                        .attributeName(gsiPK)
+                                                        .attributeType(ScalarAttributeType.S)
+                                                        .build());
+            globalSecondaryIndexes.add(GlobalSecondaryIndex.builder()
+                                                           .indexName(gsiProps.getIndexName())
+                                                           .keySchema(KeySchemaElement.builder()
+                                                                                      .attributeName(gsiPK)
+                                                                                      .keyType(KeyType.HASH)
+                                                                                      .build())
+                                                           .projection(Projection.builder()
+                                                                                 .projectionType(ProjectionType.ALL)
+                                                                                 .build())
+                                                           .build());
+        }
+        final CreateTableRequest.Builder createTableRequest = CreateTableRequest.builder()
+                                                                                .tableName(ddbTable.name())
+                                                                                .keySchema(KeySchemaElement.builder()
+                                                                                                           .attributeName(DdbUtils.PK)
+                                                                                                           .keyType(KeyType.HASH)
+                                                                                                           .build())
+                                                                                .attributeDefinitions(attributeDefinitions)
+                                                                                .billingMode(BillingMode.PAY_PER_REQUEST);
+        if (!globalSecondaryIndexes.isEmpty()) {
+            createTableRequest.globalSecondaryIndexes(globalSecondaryIndexes);
+        }
+        dynamoDbClient.createTable(createTableRequest.build());
+    }
+
+    private static @NotNull
+    Map<String, AttributeValue> getItem (final @NotNull DdbTable ddbTable, final @NotNull String id) {
+        return dynamoDbClient.getItem(GetItemRequest.builder()
+                                                    .tableName(ddbTable.name())
+                                                    .key(singletonMap(DdbUtils.PK, AttributeValue.fromS(id)))
+                                                    .consistentRead(true)
+                                                    .build())
+                             .item();
+    }
+
+    private static
+    void transactWrite (final @NotNull TransactWriteItem transactWriteItem) {
+        dynamoDbClient.transactWriteItems(TransactWriteItemsRequest.builder()
+                                                                   .transactItems(transactWriteItem)
+                                                                   .build());
+    }
+
+    /**
+     * Lets the backoff {@code outboxId} recorded on its last failure elapse
+     */
+    private static
+    void elapseNextAttempt (final @NotNull String outboxId) {
+        dynamoDbClient.updateItem(UpdateItemRequest.builder()
+                                                   .tableName(DdbTable.OUTBOX.name())
+                                                   .key(singletonMap(OutboxTableParameter.ID.jsonFieldName(), AttributeValue.fromS(outboxId)))
+                                                   .updateExpression("REMOVE #nextAttempt")
+                                                   .expressionAttributeNames(singletonMap("#nextAttempt", OutboxTableParameter.NEXT_ATTEMPT.jsonFieldName()))
+                                                   .build());
+    }
+
+    /**
+     * Enqueues the task an email change writes, the way UpdateHelper does, and returns its id
+     */
+    private @NotNull
+    String enqueueEmailChanged (final @NotNull Instant lastModified) {
+        final TransactWriteItem transactWriteItem = DdbUtils.enqueueOutboxTask(OutboxTask.DELETE_ACCOUNT_EMAIL_CHANGED, this.memberId, lastModified.toString(), NEW_EMAIL,
+                                                                               this.callerId);
+        transactWrite(transactWriteItem);
+        return transactWriteItem.put()
+                                .item()
+                                .get(OutboxTableParameter.ID.jsonFieldName())
+                                .s();
+    }
+
+    @BeforeEach
+    public
+    void setUp () {
+        dynamoDbClient.putItem(PutItemRequest.builder()
+                                             .tableName(DdbTable.COGNITO.name())
+                                             .item(Map.of(CognitoTableParameter.ID.jsonFieldName(), AttributeValue.fromS(this.cognitoSub),
+                                                          CognitoTableParameter.MEMBER.jsonFieldName(), AttributeValue.fromS(this.memberId)))
+                                             .build());
+        this.cognitoClient.user = UserType.builder()
+                                          .username("user-%s".formatted(this.cognitoSub))
+                                          .attributes(AttributeType.builder()
+                                                                   .name("email")
+                                                                   .value(ACCOUNT_EMAIL)
+                                                                   .build())
+                                          .build();
+        this.outboxHelper = new OutboxHelper(new NoopLambdaLogger(), dynamoDbClient, this.cognitoClient, this.sesClient, new StubAmplifyClient(), USER_POOL_ID, null,
+                                             null);
+    }
+
+    @Test
+    public
+    void testExecuteDeletesAccountAndNotifies () {
+        final String outboxId = this.enqueueEmailChanged(Instant.now());
+
+        this.outboxHelper.execute(outboxId);
+
+        final Map<String, AttributeValue> item = getItem(DdbTable.OUTBOX, outboxId);
+        assertTrue(item.containsKey(OutboxTableParameter.COMPLETED.jsonFieldName()));
+        assertTrue(item.containsKey(OutboxTableParameter.TTL.jsonFieldName()));
+        assertEquals(Set.of(NEW_EMAIL, ACCOUNT_EMAIL), Set.copyOf(item.get(OutboxTableParameter.NOTIFY.jsonFieldName())
+                                                                      .ss()));
+        assertTrue(getItem(DdbTable.COGNITO, this.cognitoSub).isEmpty());
+        assertEquals(List.of("user-%s".formatted(this.cognitoSub)), this.cognitoClient.deletedUsernames);
+        assertEquals(1, this.sesClient.sent.size());
+        final SendEmailRequest notice = this.sesClient.sent.getFirst();
+        assertEquals(NOTICE_SUBJECT, notice.content()
+                                           .simple()
+                                           .subject()
+                                           .data());
+        assertEquals(Set.of(NEW_EMAIL, ACCOUNT_EMAIL), Set.copyOf(notice.destination()
+                                                                        .toAddresses()));
+    }
+
+    @Test
+    public
+    void testCompletedItemIsSkipped () {
+        final String outboxId = this.enqueueEmailChanged(Instant.now());
+        this.outboxHelper.execute(outboxId);
+        final Map<String, AttributeValue> completed = getItem(DdbTable.OUTBOX, outboxId);
+
+        this.outboxHelper.execute(outboxId);
+
+        assertEquals(completed, getItem(DdbTable.OUTBOX, outboxId));
+        assertEquals(1, this.cognitoClient.listUsersCalls);
+        assertEquals(1, this.sesClient.sent.size());
+    }
+
+    @Test
+    public
+    void testFailureSpendsAttemptAndRetries () {
+        final String outboxId = this.enqueueEmailChanged(Instant.now());
+        this.cognitoClient.failListUsers = true;
+
+        assertNull(this.outboxHelper.execute(outboxId));
+
+        final Map<String, AttributeValue> failed = getItem(DdbTable.OUTBOX, outboxId);
+        assertFalse(failed.containsKey(OutboxTableParameter.COMPLETED.jsonFieldName()));
+        assertFalse(failed.containsKey(OutboxTableParameter.TTL.jsonFieldName()));
+        assertEquals("1", failed.get(OutboxTableParameter.ATTEMPTS.jsonFieldName())
+                                .n());
+        assertEquals("ListUsers Unavailable", failed.get(OutboxTableParameter.ERROR.jsonFieldName())
+                                                    .s());
+        assertFalse(getItem(DdbTable.COGNITO, this.cognitoSub).isEmpty());
+        assertTrue(this.sesClient.sent.isEmpty());
+        final Instant nextAttempt = Instant.parse(failed.get(OutboxTableParameter.NEXT_ATTEMPT.jsonFieldName())
+                                                        .s());
+        assertTrue(nextAttempt.isAfter(Instant.now()));
+
+        this.cognitoClient.failListUsers = false;
+        assertEquals(nextAttempt, this.outboxHelper.execute(outboxId));
+
+        assertEquals(failed, getItem(DdbTable.OUTBOX, outboxId));
+        assertEquals(1, this.cognitoClient.listUsersCalls);
+
+        elapseNextAttempt(outboxId);
+        assertNull(this.outboxHelper.execute(outboxId));
+
+        assertTrue(getItem(DdbTable.OUTBOX, outboxId).containsKey(OutboxTableParameter.COMPLETED.jsonFieldName()));
+        assertEquals(1, this.sesClient.sent.size());
+    }
+
+    @Test
+    public
+    void testExhaustedItemIsAbandoned () {
+        final String outboxId = this.enqueueEmailChanged(Instant.now());
+        this.cognitoClient.failListUsers = true;
+
+        for (int i = 0; i < DdbUtils.OUTBOX_MAX_ATTEMPTS + 1; ++i) {
+            assertNull(this.outboxHelper.execute(outboxId));
+            elapseNextAttempt(outboxId);
+        }
+
+        final Map<String, AttributeValue> abandoned = getItem(DdbTable.OUTBOX, outboxId);
+        assertEquals(String.valueOf(DdbUtils.OUTBOX_MAX_ATTEMPTS), abandoned.get(OutboxTableParameter.ATTEMPTS.jsonFieldName())
+                                                                            .n());
+        assertTrue(abandoned.containsKey(OutboxTableParameter.TTL.jsonFieldName()));
+        assertFalse(abandoned.containsKey(OutboxTableParameter.COMPLETED.jsonFieldName()));
+        assertEquals(DdbUtils.OUTBOX_MAX_ATTEMPTS, this.cognitoClient.listUsersCalls);
+    }
+
+    @Test
+    public
+    void testDefer () {
+        final String outboxId = this.enqueueEmailChanged(Instant.now());
+
+        this.outboxHelper.defer(outboxId);
+
+        final Map<String, AttributeValue> deferred = getItem(DdbTable.OUTBOX, outboxId);
+        assertTrue(deferred.containsKey(OutboxTableParameter.DEFERRED.jsonFieldName()));
+        assertEquals("0", deferred.get(OutboxTableParameter.ATTEMPTS.jsonFieldName())
+                                  .n());
+        assertEquals(0, this.cognitoClient.listUsersCalls);
+
+        this.outboxHelper.execute(outboxId);
+        final Map<String, AttributeValue> completed = getItem(DdbTable.OUTBOX, outboxId);
+        assertDoesNotThrow(() -> this.outboxHelper.defer(outboxId));
+        assertEquals(completed, getItem(DdbTable.OUTBOX, outboxId));
+
+        final String expiredId = "%s#%s".formatted(OutboxTask.DELETE_ACCOUNT_MEMBER_DELETED.name(), this.memberId);
+        assertDoesNotThrow(() -> this.outboxHelper.defer(expiredId));
+        assertTrue(getItem(DdbTable.OUTBOX, expiredId).isEmpty());
+    }
+
+    @Test
+    public
+    void testSuccessiveWritesEnqueueSeparateTasks () {
+        final Instant lastModified = Instant.now();
+        final String firstId = this.enqueueEmailChanged(lastModified);
+        final String secondId = this.enqueueEmailChanged(lastModified.plusMillis(1));
+        assertNotEquals(firstId, secondId);
+
+        final TransactionCanceledException e = assertThrows(TransactionCanceledException.class, () -> this.enqueueEmailChanged(lastModified));
+        assertEquals(List.of("ConditionalCheckFailed"), e.cancellationReasons()
+                                                         .stream()
+                                                         .map(CancellationReason::code)
+                                                         .toList());
+    }
+
+    private static final
+    class NoopLambdaLogger implements LambdaLogger {
+        @Override
+        public
+        void log (final String message) {
+        }
+
+        @Override
+        public
+        void log (final byte[] message) {
+        }
+    }
+
+    private static final
+    class StubCognitoClient implements CognitoIdentityProviderClient {
+        private final List<String> deletedUsernames = new ArrayList<>();
+        private @Nullable UserType user;
+        private boolean failListUsers = false;
+        private int listUsersCalls = 0;
+
+        @Override
+        public
+        ListUsersResponse listUsers (final ListUsersRequest listUsersRequest) {
+            ++this.listUsersCalls;
+            if (this.failListUsers) {
+                throw CognitoIdentityProviderException.builder()
+                                                      .message("ListUsers Unavailable")
+                                                      .build();
+            }
+            return ListUsersResponse.builder()
+                                    .users(isNull(this.user)
+                                                   ? List.of()
+                                                   : List.of(this.user))
+                                    .build();
+        }
+
+        @Override
+        public
+        AdminDeleteUserResponse adminDeleteUser (final AdminDeleteUserRequest adminDeleteUserRequest) {
+            if (isNull(this.user) || !this.user.username()
+                                               .equals(adminDeleteUserRequest.username()))
+            {
+                throw UserNotFoundException.builder()
+                                           .build();
+            }
+            this.deletedUsernames.add(adminDeleteUserRequest.username());
+            this.user = null;
+            return AdminDeleteUserResponse.builder()
+                                          .build();
+        }
+
+        @Override
+        public
+        String serviceName () {
+            return SERVICE_NAME;
+        }
+
+        @Override
+        public
+        void close () {
+        }
+    }
+
+    private static final
+    class StubSesClient implements SesV2Client {
+        private final List<SendEmailRequest> sent = new ArrayList<>();
+
+        @Override
+        public
+        SendEmailResponse sendEmail (final SendEmailRequest sendEmailRequest) {
+            this.sent.add(sendEmailRequest);
+            return SendEmailResponse.builder()
+                                    .messageId(UUID.randomUUID()
+                                                   .toString())
+                                    .build();
+        }
+
+        @Override
+        public
+        String serviceName () {
+            return SERVICE_NAME;
+        }
+
+        @Override
+        public
+        void close () {
+        }
+    }
+
+    /**
+     * No task under test deploys, so every call fails
+     */
+    private static final
+    class StubAmplifyClient implements AmplifyClient {
+        @Override
+        public
+        String serviceName () {
+            return SERVICE_NAME;
+        }
+
+        @Override
+        public
+        void close () {
+        }
+    }
+}
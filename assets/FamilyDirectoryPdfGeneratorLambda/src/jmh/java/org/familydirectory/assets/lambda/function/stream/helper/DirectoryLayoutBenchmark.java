@@ -0,0 +1,169 @@
+package org.familydirectory.assets.lambda.function.stream.helper;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.familydirectory.assets.ddb.enums.PhoneType;
+import org.familydirectory.assets.ddb.member.Member;
+import org.familydirectory.assets.lambda.function.stream.helper.models.PDPageHelperModel;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Lays out a synthetic directory of {@link #FAMILIES} families the way a directory section is built, run with {@code ./gradlew :pdf-generator-lambda:jmh}
+ * <p>
+ * {@link #coldLayout()} starts every render with an empty width cache, as the first render of a warm Lambda does now that the cache is cleared between renders;
+ * {@link #warmLayout()} lays the same directory out again with every width already measured. The gap between them bounds what the cache saves within one render
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public
+class DirectoryLayoutBenchmark {
+    private static final long SEED = 0x50444653L;
+    private static final int FAMILIES = 2000;
+    private static final int FAMILIES_PER_SECTION = 100;
+    private static final double SPOUSE_PROBABILITY = 0.6;
+    private static final int MAX_DEAD_END_DESCENDANTS = 4;
+    private static final String TITLE = "BENCHMARK FAMILY DIRECTORY";
+    private static final String LETTERS = "abcdefghijklmnopqrstuvwxyz";
+
+    private final List<FamilyBlock> familyBlocks = new ArrayList<>(FAMILIES);
+
+    @NotNull
+    private static
+    String name (final @NotNull Random random) {
+        final StringBuilder name = new StringBuilder().append(Character.toUpperCase(LETTERS.charAt(random.nextInt(LETTERS.length()))));
+        for (int i = 3 + random.nextInt(7); i > 0; --i) {
+            name.append(LETTERS.charAt(random.nextInt(LETTERS.length())));
+        }
+        return name.toString();
+    }
+
+    @NotNull
+    private static
+    Member member (final @NotNull Random random, final @NotNull String lastName, final int id, final boolean adult) {
+        final String firstName = name(random);
+        final LocalDate birthday = adult
+                ? LocalDate.of(1930 + random.nextInt(60), 1 + random.nextInt(12), 1 + random.nextInt(28))
+                : LocalDate.of(1995 + random.nextInt(25), 1 + random.nextInt(12), 1 + random.nextInt(28));
+        return Member.builder()
+                     .firstName(firstName)
+                     .middleName((random.nextBoolean())
+                                         ? name(random)
+                                         : null)
+                     .lastName(lastName)
+                     .birthday(birthday)
+                     .deathday((adult && random.nextInt(10) == 0)
+                                       ? LocalDate.of(2000 + random.nextInt(20), 1 + random.nextInt(12), 1 + random.nextInt(28))
+                                       : null)
+                     .email((random.nextBoolean())
+                                    ? "%s.%s.%d@example.com".formatted(firstName.toLowerCase(), lastName.toLowerCase(), id)
+                                    : null)
+                     .phones((random.nextBoolean())
+                                     ? Map.of(PhoneType.MOBILE, "+1 312 %d%02d %04d".formatted(2 + random.nextInt(8), 20 + random.nextInt(80), random.nextInt(10000)))
+                                     : null)
+                     .address((adult && random.nextBoolean())
+                                      ? List.of("%d %s St".formatted(1 + random.nextInt(9999), name(random)), "%s, IL 6%04d".formatted(name(random), random.nextInt(10000)))
+                                      : null)
+                     .build();
+    }
+
+    @Setup(Level.Trial)
+    public
+    void setup () {
+        final Random random = new Random(SEED);
+        int id = 0;
+        for (int family = 0; family < FAMILIES; ++family) {
+            final String lastName = name(random);
+            final Member member = member(random, lastName, id++, true);
+            final Member spouse = (random.nextDouble() < SPOUSE_PROBABILITY)
+                    ? member(random, name(random), id++, true)
+                    : null;
+            final List<Member> deadEndDescendants = new ArrayList<>();
+            for (int i = random.nextInt(MAX_DEAD_END_DESCENDANTS + 1); i > 0; --i) {
+                deadEndDescendants.add(member(random, lastName, id++, false));
+            }
+            this.familyBlocks.add(new FamilyBlock(member, spouse, (deadEndDescendants.isEmpty())
+                    ? null
+                    : List.copyOf(deadEndDescendants), family % FAMILIES_PER_SECTION == 0));
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public
+    void warmCache () throws IOException {
+        this.layout();
+    }
+
+    @TearDown(Level.Trial)
+    public
+    void tearDown () {
+        PDPageHelperModel.clearTextSpaceUnitsCache();
+    }
+
+    /**
+     * @return pages laid out
+     */
+    private
+    int layout () throws IOException {
+        try (final PDDocument pdf = new PDDocument()) {
+            PDFamilyDirectoryPageHelper page = new PDFamilyDirectoryPageHelper(pdf, new PDPage(), TITLE);
+            for (final FamilyBlock familyBlock : this.familyBlocks) {
+                try {
+                    page.addBodyTextBlock(familyBlock.member(), familyBlock.spouse(), familyBlock.deadEndDescendants(), familyBlock.startOfSection());
+                } catch (final PDPageHelperModel.NewPageException e) {
+                    page.close();
+                    page = new PDFamilyDirectoryPageHelper(pdf, new PDPage(), TITLE);
+                    try {
+                        page.addBodyTextBlock(familyBlock.member(), familyBlock.spouse(), familyBlock.deadEndDescendants(), familyBlock.startOfSection());
+                    } catch (final PDPageHelperModel.NewPageException x) {
+                        final IOException thrown = new IOException(x);
+                        thrown.addSuppressed(e);
+                        throw thrown;
+                    }
+                }
+            }
+            page.close();
+            return pdf.getNumberOfPages();
+        }
+    }
+
+    @Benchmark
+    public
+    int coldLayout () throws IOException {
+        PDPageHelperModel.clearTextSpaceUnitsCache();
+        return this.layout();
+    }
+
+    @Benchmark
+    public
+    int warmLayout () throws IOException {
+        return this.layout();
+    }
+
+    private
+    record FamilyBlock(@NotNull Member member, @Nullable Member spouse, @Nullable List<Member> deadEndDescendants, boolean startOfSection) {
+    }
+}
@@ -4,25 +4,54 @@ import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.LambdaLogger;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import com.amazonaws.services.lambda.runtime.events.DynamodbEvent;
+import com.amazonaws.services.lambda.runtime.events.models.dynamodb.AttributeValue;
+import com.amazonaws.services.lambda.runtime.events.models.dynamodb.StreamRecord;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
+import org.familydirectory.assets.ddb.enums.member.MemberTableParameter;
 import org.familydirectory.assets.lambda.function.stream.IO.IgnoredCloseOutputStream;
-import org.familydirectory.assets.lambda.function.stream.IO.S3ByteArrayOutputStream;
+import org.familydirectory.assets.lambda.function.stream.IO.S3MultipartUploadOutputStream;
+import org.familydirectory.assets.lambda.function.stream.IO.S3PdfSectionCache;
 import org.familydirectory.assets.lambda.function.stream.helper.PdfHelper;
 import org.familydirectory.assets.lambda.function.utility.LambdaUtils;
+import org.familydirectory.assets.lambda.function.utility.SdkClientRegistry;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
 import static com.amazonaws.services.lambda.runtime.logging.LogLevel.DEBUG;
 import static com.amazonaws.services.lambda.runtime.logging.LogLevel.FATAL;
+import static com.amazonaws.services.lambda.runtime.logging.LogLevel.INFO;
+import static com.amazonaws.services.lambda.runtime.logging.LogLevel.WARN;
 import static java.lang.System.getenv;
+import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
+import static java.util.Optional.ofNullable;
 
 public
 class FamilyDirectoryPdfGeneratorLambda implements RequestHandler<DynamodbEvent, Void> {
+    /**
+     * User metadata on the uploaded bundle holding {@link PdfHelper#getContentDigest()}
+     */
+    private static final @NotNull String CONTENT_DIGEST_METADATA_KEY = "content-digest";
+    /**
+     * Empty object whose user metadata holds the SYNC LATEST token the current bundle was rendered from
+     */
+    private static final @NotNull String WATERMARK_S3_KEY = "watermark";
+    private static final @NotNull String SYNC_TOKEN_METADATA_KEY = "sync-token";
 
     @Override
     public
@@ -30,26 +59,16 @@ class FamilyDirectoryPdfGeneratorLambda implements RequestHandler<DynamodbEvent,
         final LambdaLogger logger = context.getLogger();
         try {
             logger.log(Objects.toString(dynamodbEvent), DEBUG);
-            final String pdfKey;
-            final RequestBody pdfRequestBody;
-            try (final PdfHelper pdfHelper = new PdfHelper(logger)) {
-                final String rootMemberSurname = pdfHelper.getRootMemberSurname();
-                pdfKey = pdfHelper.getPdfS3Key(rootMemberSurname);
-                pdfRequestBody = zipPdfBundle(pdfHelper, rootMemberSurname);
-                logger.log("Zipped PDFs Checkpoint", DEBUG);
+            final S3Client s3Client = SdkClientRegistry.getSdkClient(S3Client.class);
+            final String bucket = requireNonNull(getenv(LambdaUtils.EnvVar.S3_PDF_BUCKET_NAME.name()));
+            final Instant watermark = getWatermark(s3Client, bucket, logger);
+            if (nonNull(watermark) && precedesWatermark(dynamodbEvent, watermark)) {
+                logger.log("All Records Precede Watermark `%s`, Skipping Render".formatted(watermark), INFO);
+                return null;
             }
-
-            pdfRequestBody.optionalContentLength()
-                          .ifPresent(len -> logger.log("PdfRequestBody Content Length: %d".formatted(len), DEBUG));
-            final PutObjectRequest pdfPutRequest = PutObjectRequest.builder()
-                                                                   .bucket(getenv(LambdaUtils.EnvVar.S3_PDF_BUCKET_NAME.name()))
-                                                                   .key(pdfKey)
-                                                                   .contentType("application/zip")
-                                                                   .build();
-            try (final S3Client s3Client = S3Client.create()) {
-                logger.log("Begin S3 Upload", DEBUG);
-                s3Client.putObject(pdfPutRequest, pdfRequestBody);
-                logger.log("Finished S3 Upload", DEBUG);
+            try (final PdfHelper pdfHelper = new PdfHelper(logger)) {
+                render(pdfHelper, s3Client, bucket, dynamodbEvent);
+                ofNullable(pdfHelper.getSyncWatermark()).ifPresent(syncToken -> putWatermark(s3Client, bucket, syncToken));
             }
 
             return null;
@@ -60,13 +79,142 @@ class FamilyDirectoryPdfGeneratorLambda implements RequestHandler<DynamodbEvent,
         }
     }
 
-    private static @NotNull
-    RequestBody zipPdfBundle (final @NotNull PdfHelper pdfHelper, final @NotNull String rootMemberSurname) throws IOException {
+    private static
+    void render (final @NotNull PdfHelper pdfHelper, final @NotNull S3Client s3Client, final @NotNull String bucket, final DynamodbEvent dynamodbEvent)
+            throws IOException
+    {
+        final LambdaLogger logger = pdfHelper.getLogger();
+        final String rootMemberSurname = pdfHelper.getRootMemberSurname();
+        final String pdfS3Key = pdfHelper.getPdfS3Key(rootMemberSurname);
+        final String contentDigest = pdfHelper.getContentDigest();
+        if (contentDigest.equals(getUploadedContentDigest(s3Client, bucket, pdfS3Key, logger))) {
+            logger.log("Content Digest `%s` Unchanged, Skipping Upload".formatted(contentDigest), INFO);
+            return;
+        }
+        pdfHelper.generatePdfs(new S3PdfSectionCache(s3Client, bucket, logger), getChangedMemberIds(dynamodbEvent));
+        final var pdfOutputStream = new S3MultipartUploadOutputStream(s3Client, bucket, pdfS3Key, "application/zip", Map.of(CONTENT_DIGEST_METADATA_KEY, contentDigest));
+        logger.log("Begin S3 Upload", DEBUG);
+        try {
+            zipPdfBundle(pdfHelper, rootMemberSurname, pdfOutputStream);
+            logger.log("Zipped PDFs Checkpoint", DEBUG);
+        } catch (final Throwable e) {
+            pdfOutputStream.abort();
+            throw e;
+        }
+        pdfOutputStream.close();
+        logger.log("Finished S3 Upload", DEBUG);
+    }
+
+    /**
+     * @return when the SYNC LATEST token the current bundle was rendered from was issued, or null if no render has recorded one
+     */
+    @Nullable
+    private static
+    Instant getWatermark (final @NotNull S3Client s3Client, final @NotNull String bucket, final @NotNull LambdaLogger logger) {
+        try {
+            return ofNullable(s3Client.headObject(HeadObjectRequest.builder()
+                                                                   .bucket(bucket)
+                                                                   .key(WATERMARK_S3_KEY)
+                                                                   .build())
+                                      .metadata()
+                                      .get(SYNC_TOKEN_METADATA_KEY)).map(UUID::fromString)
+                                                                    .map(FamilyDirectoryPdfGeneratorLambda::getTimestamp)
+                                                                    .orElse(null);
+        } catch (final S3Exception e) {
+            if (e.statusCode() != 403 && e.statusCode() != 404) {
+                throw e;
+            }
+            logger.log("No Readable Watermark: %d".formatted(e.statusCode()), WARN);
+            return null;
+        }
+    }
+
+    private static
+    void putWatermark (final @NotNull S3Client s3Client, final @NotNull String bucket, final @NotNull UUID syncToken) {
+        s3Client.putObject(PutObjectRequest.builder()
+                                           .bucket(bucket)
+                                           .key(WATERMARK_S3_KEY)
+                                           .metadata(Map.of(SYNC_TOKEN_METADATA_KEY, syncToken.toString()))
+                                           .build(), RequestBody.empty());
+    }
+
+    /**
+     * SYNC tokens are UUIDv7, whose leading 48 bits are the Unix epoch milliseconds at which they were issued
+     */
+    @NotNull
+    private static
+    Instant getTimestamp (final @NotNull UUID syncToken) {
+        if (syncToken.version() != 7) {
+            throw new IllegalArgumentException("SYNC Token `%s` is not a UUIDv7".formatted(syncToken));
+        }
+        return Instant.ofEpochMilli(syncToken.getMostSignificantBits() >>> 16);
+    }
+
+    /**
+     * A watermark token was issued before the render that recorded it began its scan, so every record created no later than the token is already in that
+     * render. Stream records carry their creation time rounded down to the second, hence the extra second
+     */
+    private static
+    boolean precedesWatermark (final DynamodbEvent dynamodbEvent, final @NotNull Instant watermark) {
+        return Optional.ofNullable(dynamodbEvent)
+                       .map(DynamodbEvent::getRecords)
+                       .orElseGet(List::of)
+                       .stream()
+                       .map(DynamodbEvent.DynamodbStreamRecord::getDynamodb)
+                       .allMatch(streamRecord -> nonNull(streamRecord) && nonNull(streamRecord.getApproximateCreationDateTime()) &&
+                                                 !streamRecord.getApproximateCreationDateTime()
+                                                              .toInstant()
+                                                              .plusSeconds(1)
+                                                              .isAfter(watermark));
+    }
+
+    @NotNull
+    private static
+    Set<String> getChangedMemberIds (final DynamodbEvent dynamodbEvent) {
+        return Optional.ofNullable(dynamodbEvent)
+                       .map(DynamodbEvent::getRecords)
+                       .orElseGet(List::of)
+                       .stream()
+                       .map(DynamodbEvent.DynamodbStreamRecord::getDynamodb)
+                       .filter(Objects::nonNull)
+                       .map(StreamRecord::getKeys)
+                       .filter(Objects::nonNull)
+                       .map(keys -> keys.get(MemberTableParameter.ID.jsonFieldName()))
+                       .filter(Objects::nonNull)
+                       .map(AttributeValue::getS)
+                       .filter(Objects::nonNull)
+                       .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * @return the digest the current bundle was rendered from, or null if there is no bundle yet; without s3:ListBucket a missing key reads as 403
+     */
+    @Nullable
+    private static
+    String getUploadedContentDigest (final @NotNull S3Client s3Client, final @NotNull String bucket, final @NotNull String key, final @NotNull LambdaLogger logger) {
+        try {
+            return s3Client.headObject(HeadObjectRequest.builder()
+                                                        .bucket(bucket)
+                                                        .key(key)
+                                                        .build())
+                           .metadata()
+                           .get(CONTENT_DIGEST_METADATA_KEY);
+        } catch (final S3Exception e) {
+            if (e.statusCode() != 403 && e.statusCode() != 404) {
+                throw e;
+            }
+            logger.log("No Readable Bundle at `%s`: %d".formatted(key, e.statusCode()), WARN);
+            return null;
+        }
+    }
+
+    private static
+    void zipPdfBundle (final @NotNull PdfHelper pdfHelper, final @NotNull String rootMemberSurname, final @NotNull OutputStream os) throws IOException {
         pdfHelper.getLogger()
                  .log("Entered zipPdfBundle", DEBUG);
 
-        final var bos = new S3ByteArrayOutputStream();
-        try (final var zos = new ZipOutputStream(bos)) {
+        // Closing the zip only finishes it; the caller decides whether the upload underneath completes or aborts
+        try (final var zos = new ZipOutputStream(new IgnoredCloseOutputStream(os))) {
             final var ios = new IgnoredCloseOutputStream(zos);
 
             pdfHelper.getLogger()
@@ -88,8 +236,5 @@ class FamilyDirectoryPdfGeneratorLambda implements RequestHandler<DynamodbEvent,
             pdfHelper.getLogger()
                      .log("Closed Entry %s".formatted(birthdayPdfFileName), DEBUG);
         }
-        // S3ByteArrayOutputStream::requestBody implicitly calls OutputStream::close
-        // We want to let ZipOutputStream close out before closing the underlying OutputStream
-        return bos.requestBody();
     }
 }
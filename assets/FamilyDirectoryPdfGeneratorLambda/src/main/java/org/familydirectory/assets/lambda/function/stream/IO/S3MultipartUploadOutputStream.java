@@ -0,0 +1,233 @@
+package org.familydirectory.assets.lambda.function.stream.IO;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.jetbrains.annotations.NotNull;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Uploads everything written to it as one S3 object
+ * <p>
+ * Bytes fill a fixed {@link #PART_SIZE} buffer; each full buffer is uploaded as a multipart part on a virtual thread while writing continues into a second buffer,
+ * so at most two parts are ever held in memory and no byte is copied more than once. An object smaller than one part is sent with a single PutObject instead.
+ * {@link #close()} completes the upload; {@link #abort()} discards it. The given user metadata is written with the object either way
+ */
+public final
+class S3MultipartUploadOutputStream extends OutputStream {
+    /**
+     * S3 requires every part but the last to be at least 5 MiB
+     */
+    public static final int PART_SIZE = 8 * 1024 * 1024; // bytes
+    private final @NotNull S3Client s3Client;
+    private final @NotNull String bucket;
+    private final @NotNull String key;
+    private final @NotNull String contentType;
+    private final @NotNull Map<String, String> metadata;
+    private final @NotNull ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final @NotNull List<CompletedPart> completedParts = new ArrayList<>();
+    private byte[] buf = new byte[PART_SIZE];
+    private byte[] spareBuf = null;
+    private int count = 0;
+    private String uploadId = null;
+    private Future<CompletedPart> pendingPart = null;
+    private byte[] pendingBuf = null;
+    private boolean closed = false;
+
+    public
+    S3MultipartUploadOutputStream (final @NotNull S3Client s3Client, final @NotNull String bucket, final @NotNull String key, final @NotNull String contentType,
+                                    final @NotNull Map<String, String> metadata)
+    {
+        super();
+        this.s3Client = requireNonNull(s3Client);
+        this.bucket = requireNonNull(bucket);
+        this.key = requireNonNull(key);
+        this.contentType = requireNonNull(contentType);
+        this.metadata = Map.copyOf(metadata);
+    }
+
+    @Override
+    public
+    void write (final int b) throws IOException {
+        this.validateStream();
+        this.buf[this.count++] = (byte) b;
+        if (this.count == PART_SIZE) {
+            this.uploadPart();
+        }
+    }
+
+    @Override
+    public
+    void write (final byte @NotNull [] b, int off, int len) throws IOException {
+        this.validateStream();
+        Objects.checkFromIndexSize(off, len, b.length);
+        while (len > 0) {
+            final int chunk = Math.min(len, PART_SIZE - this.count);
+            System.arraycopy(b, off, this.buf, this.count, chunk);
+            this.count += chunk;
+            off += chunk;
+            len -= chunk;
+            if (this.count == PART_SIZE) {
+                this.uploadPart();
+            }
+        }
+    }
+
+    /**
+     * Uploads whatever is buffered as the last part and completes the upload, or puts the object directly if no part was ever uploaded
+     */
+    @Override
+    public
+    void close () throws IOException {
+        if (this.closed) {
+            return;
+        }
+        try {
+            if (isNull(this.uploadId)) {
+                this.s3Client.putObject(PutObjectRequest.builder()
+                                                        .bucket(this.bucket)
+                                                        .key(this.key)
+                                                        .contentType(this.contentType)
+                                                        .metadata(this.metadata)
+                                                        .build(), RequestBody.fromInputStream(new ByteArrayInputStream(this.buf, 0, this.count), this.count));
+            } else {
+                if (this.count > 0) {
+                    this.uploadPart();
+                }
+                this.awaitPendingPart();
+                this.s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                                                                                    .bucket(this.bucket)
+                                                                                    .key(this.key)
+                                                                                    .uploadId(this.uploadId)
+                                                                                    .multipartUpload(CompletedMultipartUpload.builder()
+                                                                                                                             .parts(this.completedParts)
+                                                                                                                             .build())
+                                                                                    .build());
+            }
+            this.closed = true;
+        } catch (final IOException | RuntimeException e) {
+            try {
+                this.abort();
+            } catch (final RuntimeException x) {
+                e.addSuppressed(x);
+            }
+            throw e;
+        } finally {
+            this.executor.close();
+            this.buf = null;
+            this.spareBuf = null;
+        }
+    }
+
+    /**
+     * Discards the upload and every part sent so far; nothing is written to {@link #key}, and {@link #close()} becomes a no-op
+     */
+    public
+    void abort () {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        if (nonNull(this.pendingPart)) {
+            this.pendingPart.cancel(true);
+        }
+        this.executor.close();
+        if (nonNull(this.uploadId)) {
+            this.s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                                                                          .bucket(this.bucket)
+                                                                          .key(this.key)
+                                                                          .uploadId(this.uploadId)
+                                                                          .build());
+        }
+    }
+
+    private
+    void uploadPart () throws IOException {
+        if (isNull(this.uploadId)) {
+            this.uploadId = this.s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                                                                                            .bucket(this.bucket)
+                                                                                            .key(this.key)
+                                                                                            .contentType(this.contentType)
+                                                                                            .metadata(this.metadata)
+                                                                                            .checksumAlgorithm(ChecksumAlgorithm.CRC32)
+                                                                                            .build())
+                                         .uploadId();
+        }
+        this.awaitPendingPart();
+        final byte[] partBuf = this.buf;
+        final int partLength = this.count;
+        final int partNumber = this.completedParts.size() + 1;
+        final String partUploadId = this.uploadId;
+        this.pendingPart = this.executor.submit(() -> {
+            final UploadPartResponse response = this.s3Client.uploadPart(UploadPartRequest.builder()
+                                                                                          .bucket(this.bucket)
+                                                                                          .key(this.key)
+                                                                                          .uploadId(partUploadId)
+                                                                                          .partNumber(partNumber)
+                                                                                          .contentLength((long) partLength)
+                                                                                          .checksumAlgorithm(ChecksumAlgorithm.CRC32)
+                                                                                          .build(), RequestBody.fromInputStream(new ByteArrayInputStream(partBuf, 0, partLength), partLength));
+            return CompletedPart.builder()
+                                .partNumber(partNumber)
+                                .eTag(response.eTag())
+                                .checksumCRC32(response.checksumCRC32())
+                                .build();
+        });
+        this.pendingBuf = partBuf;
+        this.buf = isNull(this.spareBuf)
+                ? new byte[PART_SIZE]
+                : this.spareBuf;
+        this.spareBuf = null;
+        this.count = 0;
+    }
+
+    private
+    void awaitPendingPart () throws IOException {
+        if (isNull(this.pendingPart)) {
+            return;
+        }
+        try {
+            this.completedParts.add(this.pendingPart.get());
+        } catch (final InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            final InterruptedIOException thrown = new InterruptedIOException("Interrupted awaiting part %d".formatted(this.completedParts.size() + 1));
+            thrown.initCause(e);
+            throw thrown;
+        } catch (final ExecutionException e) {
+            throw new IOException("Failed to upload part %d".formatted(this.completedParts.size() + 1), e.getCause());
+        }
+        this.pendingPart = null;
+        this.spareBuf = this.pendingBuf;
+        this.pendingBuf = null;
+    }
+
+    private
+    void validateStream () throws IOException {
+        if (this.closed) {
+            throw new IOException("Stream is closed");
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package org.familydirectory.assets.lambda.function.stream.IO;
+
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.familydirectory.assets.lambda.function.utility.LambdaUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import static com.amazonaws.services.lambda.runtime.logging.LogLevel.WARN;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Rendered directory sections kept in the PDF bucket under {@link LambdaUtils#S3_PDF_SECTION_KEY_PREFIX}, keyed by the digest of what they show
+ * <p>
+ * A section's key changes whenever its content does, so entries are never overwritten or invalidated; stale ones are left to the bucket's lifecycle rule.
+ * Failures only cost a re-render, so they are logged rather than thrown
+ */
+public final
+class S3PdfSectionCache {
+    private final @NotNull S3Client s3Client;
+    private final @NotNull String bucket;
+    private final @NotNull LambdaLogger logger;
+
+    public
+    S3PdfSectionCache (final @NotNull S3Client s3Client, final @NotNull String bucket, final @NotNull LambdaLogger logger) {
+        super();
+        this.s3Client = requireNonNull(s3Client);
+        this.bucket = requireNonNull(bucket);
+        this.logger = requireNonNull(logger);
+    }
+
+    @NotNull
+    private static
+    String getKey (final @NotNull String digest) {
+        return "%s%s.pdf".formatted(LambdaUtils.S3_PDF_SECTION_KEY_PREFIX, requireNonNull(digest));
+    }
+
+    /**
+     * @return the cached section, which the caller must close, or null if none is cached under digest
+     */
+    @Nullable
+    public
+    PDDocument get (final @NotNull String digest, final @NotNull MemoryUsageSetting memoryUsageSetting) {
+        final String key = getKey(digest);
+        try (final ResponseInputStream<GetObjectResponse> object = this.s3Client.getObject(GetObjectRequest.builder()
+                                                                                                            .bucket(this.bucket)
+                                                                                                            .key(key)
+                                                                                                            .build()))
+        {
+            return PDDocument.load(object, memoryUsageSetting);
+        } catch (final S3Exception e) {
+            // without s3:ListBucket a missing key reads as 403
+            if (e.statusCode() != 403 && e.statusCode() != 404) {
+                this.logger.log("Failed to Read Section `%s`: %s".formatted(key, e.getMessage()), WARN);
+            }
+            return null;
+        } catch (final IOException e) {
+            this.logger.log("Failed to Load Section `%s`: %s".formatted(key, e.getMessage()), WARN);
+            return null;
+        }
+    }
+
+    public
+    void put (final @NotNull String digest, final @NotNull PDDocument section) {
+        final String key = getKey(digest);
+        try {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            section.save(bytes);
+            this.s3Client.putObject(PutObjectRequest.builder()
+                                                    .bucket(this.bucket)
+                                                    .key(key)
+                                                    .contentType("application/pdf")
+                                                    .build(), RequestBody.fromBytes(bytes.toByteArray()));
+        } catch (final IOException | S3Exception e) {
+            this.logger.log("Failed to Cache Section `%s`: %s".formatted(key, e.getMessage()), WARN);
+        }
+    }
+}
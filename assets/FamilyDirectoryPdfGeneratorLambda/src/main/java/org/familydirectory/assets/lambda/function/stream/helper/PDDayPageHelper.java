@@ -20,8 +20,8 @@ final
 class PDDayPageHelper extends PDPageHelperModel {
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("d, yyyy");
 
-    PDDayPageHelper (final @NotNull PDDocument pdf, final @NotNull PDPage page, final @NotNull String title, final @NotNull LocalDate subtitle, final int pageNumber) throws IOException {
-        super(pdf, page, title, subtitle, pageNumber);
+    PDDayPageHelper (final @NotNull PDDocument pdf, final @NotNull PDPage page, final @NotNull String title) throws IOException {
+        super(pdf, page, title);
     }
 
     @Override
@@ -41,12 +41,12 @@ class PDDayPageHelper extends PDPageHelperModel {
         if (nonNull(month)) {
             this.newLine(HALF_LINE_SPACING);
             final String line = month.getDisplayName(TextStyle.FULL, Locale.US);
-            this.contents.setFont(TITLE_FONT, this.getColumnFittedFontSize(line, TITLE_FONT, STANDARD_FONT_SIZE));
+            this.setFont(TITLE_FONT, this.getColumnFittedFontSize(line, TITLE_FONT, STANDARD_FONT_SIZE));
             this.addColumnAgnosticText(line);
             this.newLine(STANDARD_LINE_SPACING);
         }
         final String line = getLine(memberRecord, requireNonNull(day));
-        this.contents.setFont(STANDARD_FONT, this.getColumnFittedFontSize(line, STANDARD_FONT, STANDARD_FONT_SIZE));
+        this.setFont(STANDARD_FONT, this.getColumnFittedFontSize(line, STANDARD_FONT, STANDARD_FONT_SIZE));
         this.addColumnAgnosticText(line);
         this.newLine(STANDARD_LINE_SPACING);
     }
@@ -25,8 +25,8 @@ import static org.familydirectory.assets.ddb.models.member.MemberModel.DAGGER;
 
 final
 class PDFamilyDirectoryPageHelper extends PDPageHelperModel {
-    PDFamilyDirectoryPageHelper (final @NotNull PDDocument pdf, final @NotNull PDPage page, final @NotNull String title, final @NotNull LocalDate subtitle, final int pageNumber) throws IOException {
-        super(pdf, page, title, subtitle, pageNumber);
+    PDFamilyDirectoryPageHelper (final @NotNull PDDocument pdf, final @NotNull PDPage page, final @NotNull String title) throws IOException {
+        super(pdf, page, title);
     }
 
     void addBodyTextBlock (final @NotNull Member member, final @Nullable Member spouse, final @Nullable List<Member> deadEndDescendants, final boolean startOfSection)
@@ -99,7 +99,7 @@ class PDFamilyDirectoryPageHelper extends PDPageHelperModel {
                 if (fontSize < phoneFontSize) {
                     phoneFontSize = fontSize;
                 }
-                this.contents.setFont(STANDARD_FONT, phoneFontSize);
+                this.setFont(STANDARD_FONT, phoneFontSize);
                 this.addColumnAgnosticText(landlinePhone);
                 this.newLine(STANDARD_LINE_SPACING);
             }
@@ -131,12 +131,12 @@ class PDFamilyDirectoryPageHelper extends PDPageHelperModel {
 
 //  PRINT MEMBER AND SPOUSE MOBILE PHONES (MEMBER FIRST)
         if (nonNull(memberMobilePhone)) {
-            this.contents.setFont(STANDARD_FONT, phoneFontSize);
+            this.setFont(STANDARD_FONT, phoneFontSize);
             this.addColumnAgnosticText(memberMobilePhone);
             this.newLine(STANDARD_LINE_SPACING);
         }
         if (nonNull(spouseMobilePhone)) {
-            this.contents.setFont(STANDARD_FONT, phoneFontSize);
+            this.setFont(STANDARD_FONT, phoneFontSize);
             this.addColumnAgnosticText(spouseMobilePhone);
             this.newLine(STANDARD_LINE_SPACING);
         }
@@ -149,7 +149,7 @@ class PDFamilyDirectoryPageHelper extends PDPageHelperModel {
                         ? "%c%s".formatted(DAGGER, desc.getDisplayName())
                         : desc.getDisplayName());
                 final float headerFontSize = this.getColumnFittedFontSize(header, TITLE_FONT, STANDARD_FONT_SIZE);
-                this.contents.setFont(TITLE_FONT, headerFontSize);
+                this.setFont(TITLE_FONT, headerFontSize);
                 this.addColumnAgnosticText(header);
                 this.newLine(STANDARD_LINE_SPACING);
 
@@ -169,7 +169,7 @@ class PDFamilyDirectoryPageHelper extends PDPageHelperModel {
                                                                            .orElse(null);
                 if (nonNull(descMobilePhone)) {
                     final float fontSize = this.getColumnFittedFontSize(descMobilePhone, STANDARD_FONT, STANDARD_FONT_SIZE);
-                    this.contents.setFont(STANDARD_FONT, fontSize);
+                    this.setFont(STANDARD_FONT, fontSize);
                     this.addColumnAgnosticText(descMobilePhone);
                     this.newLine(STANDARD_LINE_SPACING);
                 }
@@ -331,7 +331,7 @@ class PDFamilyDirectoryPageHelper extends PDPageHelperModel {
                 addressFontSize = fontSize;
             }
         }
-        this.contents.setFont(STANDARD_FONT, addressFontSize);
+        this.setFont(STANDARD_FONT, addressFontSize);
         for (final String line : address) {
             this.addColumnAgnosticText(line);
             this.newLine(STANDARD_LINE_SPACING);
@@ -345,7 +345,7 @@ class PDFamilyDirectoryPageHelper extends PDPageHelperModel {
         }
 
         // append display text to pdf
-        this.contents.setFont(font, fontSize);
+        this.setFont(font, fontSize);
         this.addColumnAgnosticText(display);
 
         // create annotation object for mailto link
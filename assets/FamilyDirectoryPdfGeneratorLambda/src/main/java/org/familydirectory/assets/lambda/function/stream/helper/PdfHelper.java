@@ -3,33 +3,48 @@ package org.familydirectory.assets.lambda.function.stream.helper;
 import com.amazonaws.services.lambda.runtime.LambdaLogger;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Clock;
 import java.time.LocalDate;
 import java.time.Month;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.Deque;
 import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Predicate;
 import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.multipdf.PDFMergerUtility;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDPage;
+import org.familydirectory.assets.Constants;
 import org.familydirectory.assets.ddb.enums.DdbTable;
 import org.familydirectory.assets.ddb.enums.family.FamilyTableParameter;
-import org.familydirectory.assets.ddb.enums.member.MemberTableParameter;
+import org.familydirectory.assets.ddb.enums.sync.SyncTableParameter;
 import org.familydirectory.assets.ddb.member.Member;
 import org.familydirectory.assets.ddb.models.member.MemberRecord;
+import org.familydirectory.assets.ddb.utils.DdbUtils;
+import org.familydirectory.assets.lambda.function.stream.IO.S3PdfSectionCache;
 import org.familydirectory.assets.lambda.function.helper.LambdaFunctionHelper;
 import org.familydirectory.assets.lambda.function.stream.helper.models.PDPageHelperModel;
 import org.familydirectory.assets.lambda.function.utility.LambdaUtils;
+import org.familydirectory.assets.lambda.function.utility.SdkClientRegistry;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -53,40 +68,109 @@ class PdfHelper implements LambdaFunctionHelper {
                                                                                                                                                         .member()
                                                                                                                                                         .getBirthday()
                                                                                                                                                         .getDayOfMonth());
-    private final @NotNull DynamoDbClient dynamoDbClient = DynamoDbClient.create();
-    private final @NotNull PDDocument familyDirectoryPdf = new PDDocument(MemoryUsageSetting.setupMainMemoryOnly());
-    private final @NotNull PDDocument dayPdf = new PDDocument(MemoryUsageSetting.setupMainMemoryOnly());
+    /**
+     * With {@link LambdaUtils.EnvVar#PDF_MAX_MAIN_MEMORY_MEGABYTES} set, each document keeps at most that much heap and spills the rest to scratch files under
+     * java.io.tmpdir (/tmp on Lambda); otherwise documents stay entirely in memory
+     */
+    private static final @NotNull MemoryUsageSetting MEMORY_USAGE_SETTING = getMemoryUsageSetting();
+    private final @NotNull DynamoDbClient dynamoDbClient = SdkClientRegistry.getSdkClient(DynamoDbClient.class);
+    private final @NotNull PDDocument familyDirectoryPdf = new PDDocument(MEMORY_USAGE_SETTING);
+    private final @NotNull PDDocument dayPdf = new PDDocument(MEMORY_USAGE_SETTING);
     private final @NotNull LocalDate date = LocalDate.now(Clock.systemUTC());
     private final @NotNull LambdaLogger logger;
-    private final @NotNull Set<MemberRecord> members;
+    private final @Nullable UUID syncWatermark;
+    private final @NotNull Map<UUID, MemberRecord> members;
     private final @NotNull Map<String, Map<String, AttributeValue>> families;
+    private final @NotNull Set<UUID> dayListMembers = new HashSet<>();
+    private final @NotNull List<PDDocument> sectionPdfs = Collections.synchronizedList(new ArrayList<>());
+    private final @NotNull String rootMemberSurname;
     private final @NotNull String familyDirectoryTitle;
     private final @NotNull String dayTitle;
+    private final @NotNull List<DirectorySection> directorySections;
+    /**
+     * Sections are laid out concurrently, so they split one document's allowance between them
+     */
+    private final @NotNull MemoryUsageSetting sectionMemoryUsageSetting;
+    private final @NotNull String contentDigest;
     private final @NotNull EnumMap<Month, List<Map.Entry<PDDayPageHelper.Day, MemberRecord>>> dayLists;
     private PDDayPageHelper dayPage = null;
-    private PDFamilyDirectoryPageHelper familyDirectoryPage = null;
-    private int familyDirectoryPageNumber = 0;
     private int dayPageNumber = 0;
 
     public
     PdfHelper (final @NotNull LambdaLogger logger) throws IOException {
         super();
         this.logger = requireNonNull(logger);
-        this.members = new HashSet<>();
-        final String rootMemberLastName = this.getRootMemberSurname()
-                                              .toUpperCase();
-        this.familyDirectoryTitle = "%s FAMILY DIRECTORY".formatted(rootMemberLastName);
-        this.dayTitle = "%s FAMILY BIRTHDAYS".formatted(rootMemberLastName);
-        this.families = new HashMap<>();
         this.dayLists = new EnumMap<>(Month.class);
         for (final Month value : Month.values()) {
             this.dayLists.put(value, new ArrayList<>());
         }
-        this.generateDirectoryPdf();
-        this.generateBirthdayPdf();
+        this.syncWatermark = ofNullable(this.getDdbItem(DdbUtils.SYNC_TOKEN_LATEST.toString(), DdbTable.SYNC)).map(map -> map.get(SyncTableParameter.NEXT.jsonFieldName()))
+                                                                                                      .map(AttributeValue::s)
+                                                                                                      .map(UUID::fromString)
+                                                                                                      .orElse(null);
+        final Map<DdbTable, List<Map<String, AttributeValue>>> items = this.scanDdb(EnumSet.of(DdbTable.MEMBER, DdbTable.FAMILY));
+        this.members = HashMap.newHashMap(items.get(DdbTable.MEMBER)
+                                               .size());
+        for (final Map<String, AttributeValue> memberMap : items.get(DdbTable.MEMBER)) {
+            final MemberRecord memberRecord = MemberRecord.convertDdbMap(memberMap);
+            this.members.put(memberRecord.id(), memberRecord);
+        }
+        this.families = HashMap.newHashMap(items.get(DdbTable.FAMILY)
+                                                .size());
+        for (final Map<String, AttributeValue> familyMap : items.get(DdbTable.FAMILY)) {
+            this.families.put(familyMap.get(FamilyTableParameter.ID.jsonFieldName())
+                                       .s(), familyMap);
+        }
+        this.logger.log("Prefetched %d Members & %d Families".formatted(this.members.size(), this.families.size()), INFO);
+        this.rootMemberSurname = requireNonNull(this.retrieveMember(ROOT_MEMBER_ID)).member()
+                                                                                     .getLastName();
+        final String rootMemberLastName = this.rootMemberSurname.toUpperCase();
+        this.familyDirectoryTitle = "%s FAMILY DIRECTORY".formatted(rootMemberLastName);
+        this.dayTitle = "%s FAMILY BIRTHDAYS".formatted(rootMemberLastName);
+        this.collectDayLists(ROOT_MEMBER_ID);
+        this.directorySections = this.getDirectorySections();
+        this.sectionMemoryUsageSetting = MEMORY_USAGE_SETTING.getPartitionedCopy(this.directorySections.size());
+        this.contentDigest = this.digestContent();
         this.logger.log("PdfHelper Ctor Complete", DEBUG);
     }
 
+    /**
+     * Lays out both PDFs; until this is called nothing has been rendered, so a caller holding an up-to-date bundle can stop at {@link #getContentDigest()}
+     *
+     * @param sectionCache directory sections already rendered with the same content are read from here instead of laid out again
+     * @param changedMemberIds members touched by the triggering records; sections showing any of them are laid out without consulting sectionCache
+     */
+    public
+    void generatePdfs (final @NotNull S3PdfSectionCache sectionCache, final @NotNull Set<String> changedMemberIds) throws IOException {
+        try (final ExecutorService executor = Executors.newWorkStealingPool()) {
+            final Future<Void> birthdayPdf = executor.submit(() -> {
+                this.generateBirthdayPdf();
+                return null;
+            });
+            this.generateDirectoryPdf(executor, requireNonNull(sectionCache), requireNonNull(changedMemberIds));
+            join(birthdayPdf);
+        }
+        this.logger.log("Generated PDFs", DEBUG);
+    }
+
+    /**
+     * @return SYNC LATEST token read before the prefetch, so every Member change it covers is in these PDFs; null before the first sync
+     */
+    @Nullable
+    public
+    UUID getSyncWatermark () {
+        return this.syncWatermark;
+    }
+
+    /**
+     * @return hex SHA-256 of everything the PDFs show apart from their generation date
+     */
+    @NotNull
+    public
+    String getContentDigest () {
+        return this.contentDigest;
+    }
+
     public
     void saveDirectoryPdf (final @NotNull OutputStream os) throws IOException {
         this.logger.log("Begin Saving Directory Pdf", DEBUG);
@@ -101,13 +185,54 @@ class PdfHelper implements LambdaFunctionHelper {
         this.logger.log("End Saving Birthday Pdf", DEBUG);
     }
 
+    @NotNull
+    private static
+    MemoryUsageSetting getMemoryUsageSetting () {
+        return ofNullable(getenv(LambdaUtils.EnvVar.PDF_MAX_MAIN_MEMORY_MEGABYTES.name())).filter(Predicate.not(String::isBlank))
+                                                                                         .map(Long::parseLong)
+                                                                                         .map(megabytes -> MemoryUsageSetting.setupMixed(megabytes * 1024L * 1024L))
+                                                                                         .orElseGet(MemoryUsageSetting::setupMainMemoryOnly);
+    }
+
+    /**
+     * One section per branch of the root, in directory order; the root's own family opens the first section, and every later branch starts on a new page
+     */
+    @NotNull
     private
-    void generateDirectoryPdf () throws IOException {
-        this.newFamilyDirectoryPage();
+    List<DirectorySection> getDirectorySections () {
+        final List<String> branchIds = this.getFamilyBlock(ROOT_MEMBER_ID)
+                                           .recursiveDescendantIds();
+        final List<DirectorySection> sections = new ArrayList<>(Math.max(branchIds.size(), 1));
+        sections.add(new DirectorySection(1, true, branchIds.isEmpty()
+                ? null
+                : branchIds.getFirst()));
+        for (int i = 1; i < branchIds.size(); ++i) {
+            sections.add(new DirectorySection(i + 1, false, branchIds.get(i)));
+        }
+        return Collections.unmodifiableList(sections);
+    }
+
+    /**
+     * Reads each unaffected section from the cache or lays it out concurrently, then merges the sections in order; sections carry no date or page numbers, so
+     * both are stamped onto the merged document before the copies of shared resources each section brought along are folded together
+     */
+    private
+    void generateDirectoryPdf (final @NotNull ExecutorService executor, final @NotNull S3PdfSectionCache sectionCache, final @NotNull Set<String> changedMemberIds)
+            throws IOException
+    {
         this.logger.log("Begin Build Directory Pdf", INFO);
-        this.traverse(ROOT_MEMBER_ID);
+        final List<Future<PDDocument>> sections = new ArrayList<>(this.directorySections.size());
+        for (final DirectorySection section : this.directorySections) {
+            sections.add(executor.submit(() -> section.render(sectionCache, changedMemberIds)));
+        }
+        final PDFMergerUtility merger = new PDFMergerUtility();
+        for (final Future<PDDocument> section : sections) {
+            merger.appendDocument(this.familyDirectoryPdf, join(section));
+        }
+        PDPageHelperModel.addSubtitles(this.familyDirectoryPdf, this.date);
+        PDPageHelperModel.addPageNumbers(this.familyDirectoryPdf);
+        PDPageHelperModel.shareResources(this.familyDirectoryPdf);
         this.logger.log("End Build Directory Pdf", INFO);
-        this.familyDirectoryPage.close();
     }
 
     private
@@ -115,6 +240,26 @@ class PdfHelper implements LambdaFunctionHelper {
         this.newDayPage();
         this.buildDayPdf();
         this.dayPage.close();
+        PDPageHelperModel.addSubtitles(this.dayPdf, this.date);
+        PDPageHelperModel.addPageNumbers(this.dayPdf);
+        PDPageHelperModel.shareResources(this.dayPdf);
+    }
+
+    private static
+    <T> T join (final @NotNull Future<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (final ExecutionException e) {
+            throw switch (e.getCause()) {
+                case IOException cause -> cause;
+                case RuntimeException cause -> cause;
+                default -> new IllegalStateException(e.getCause());
+            };
+        } catch (final InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw new IllegalStateException(e);
+        }
     }
 
     private
@@ -163,8 +308,8 @@ class PdfHelper implements LambdaFunctionHelper {
         if (nonNull(this.dayPage)) {
             this.dayPage.close();
         }
-        this.dayPage = new PDDayPageHelper(this.dayPdf, new PDPage(), this.dayTitle, this.date, ++this.dayPageNumber);
-        this.logger.log("Create Birthday Page %d".formatted(this.dayPageNumber), INFO);
+        this.dayPage = new PDDayPageHelper(this.dayPdf, new PDPage(), this.dayTitle);
+        this.logger.log("Create Birthday Page %d".formatted(++this.dayPageNumber), INFO);
     }
 
     @Contract("null -> null; !null -> !null")
@@ -174,31 +319,107 @@ class PdfHelper implements LambdaFunctionHelper {
             return null;
         }
         final UUID uuid = UUID.fromString(id);
-        final MemberRecord[] result = new MemberRecord[1];
-        this.members.stream()
-                    .filter(memberRecord -> memberRecord.id()
-                                                        .equals(uuid))
-                    .findAny()
-                    .ifPresentOrElse(memberRecord -> result[0] = memberRecord, () -> {
-                        final Map<String, AttributeValue> memberMap = requireNonNull(this.getDdbItem(id, DdbTable.MEMBER));
-                        final Member member = Member.convertDdbMap(memberMap);
-                        final UUID ddbId = UUID.fromString(memberMap.get(MemberTableParameter.ID.jsonFieldName())
-                                                                    .s());
-                        if (!ddbId.equals(uuid)) {
-                            throw new IllegalStateException("Invalid ID `%s` doesn't match DDB_ID `%s`".formatted(uuid.toString(), ddbId.toString()));
-                        }
-                        result[0] = new MemberRecord(uuid, member, UUID.fromString(memberMap.get(MemberTableParameter.FAMILY_ID.jsonFieldName())
-                                                                                            .s()));
-                        if (!this.members.add(result[0])) {
-                            throw new IllegalStateException("Member: `%s` Not Present And Can't Be Added To Members Set".formatted(id));
-                        }
-                        this.addToDayLists(result[0]);
-                    });
-        return result[0];
+        final MemberRecord memberRecord = this.members.get(uuid);
+        if (isNull(memberRecord)) {
+            throw new IllegalStateException("Member: `%s` Not Found".formatted(id));
+        }
+        return memberRecord;
+    }
+
+    /**
+     * Fills the day lists with every member the directory reaches, in the order the directory reaches them
+     */
+    private
+    void collectDayLists (final @NotNull String id) {
+        final Map<String, AttributeValue> family = this.retrieveFamily(id);
+        this.addToDayLists(requireNonNull(this.retrieveMember(id)));
+        ofNullable(this.retrieveMember(getSpouseId(family))).ifPresent(this::addToDayLists);
+        for (final String descendantId : getDescendantIds(family)) {
+            this.addToDayLists(requireNonNull(this.retrieveMember(descendantId)));
+        }
+        for (final String recursiveDescendantId : this.getFamilyBlock(id)
+                                                      .recursiveDescendantIds()) {
+            this.collectDayLists(recursiveDescendantId);
+        }
+    }
+
+    /**
+     * Every family block is already digested by exactly one section, in directory order, so the whole directory is digested by its sections' digests
+     */
+    @NotNull
+    private
+    String digestContent () {
+        final MessageDigest digest = newDigest();
+        for (final DirectorySection section : this.directorySections) {
+            updateDigest(digest, section.digest);
+        }
+        return HexFormat.of()
+                        .formatHex(digest.digest());
+    }
+
+    @NotNull
+    private static
+    MessageDigest newDigest () {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        updateDigest(digest, String.valueOf(Constants.VERSION));
+        return digest;
+    }
+
+    /**
+     * Feeds the family block at id and every block below it into the digest in directory order, collecting the ids of the members they show
+     */
+    private
+    void digestFamilyBlocks (final @NotNull MessageDigest digest, final @NotNull Set<String> memberIds, final @NotNull String id) {
+        for (final String recursiveDescendantId : this.digestFamilyBlock(digest, memberIds, id)
+                                                      .recursiveDescendantIds())
+        {
+            this.digestFamilyBlocks(digest, memberIds, recursiveDescendantId);
+        }
+    }
+
+    /**
+     * Feeds one family block into the digest, each member by its {@link Member#getEtag()}; edits to fields the PDFs never show leave the digest unchanged, while
+     * a minor coming of age still changes it because their block changes shape. Blocks are laid out one after another, so their order is all the digest needs
+     * of the tree
+     */
+    @NotNull
+    private
+    FamilyBlock digestFamilyBlock (final @NotNull MessageDigest digest, final @NotNull Set<String> memberIds, final @NotNull String id) {
+        final FamilyBlock familyBlock = this.getFamilyBlock(id);
+        final Map<String, AttributeValue> family = this.retrieveFamily(id);
+        memberIds.add(id);
+        ofNullable(getSpouseId(family)).ifPresent(memberIds::add);
+        memberIds.addAll(getDescendantIds(family));
+        updateDigest(digest, id);
+        updateDigest(digest, familyBlock.member()
+                                        .getEtag());
+        updateDigest(digest, ofNullable(familyBlock.spouse()).map(Member::getEtag)
+                                                             .orElse(""));
+        final List<Member> deadEndDescendants = ofNullable(familyBlock.deadEndDescendants()).orElseGet(List::of);
+        updateDigest(digest, String.valueOf(deadEndDescendants.size()));
+        for (final Member deadEndDescendant : deadEndDescendants) {
+            updateDigest(digest, deadEndDescendant.getEtag());
+        }
+        updateDigest(digest, String.valueOf(familyBlock.startOfSection()));
+        return familyBlock;
+    }
+
+    private static
+    void updateDigest (final @NotNull MessageDigest digest, final @NotNull String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
     }
 
     private
     void addToDayLists (final @NotNull MemberRecord memberRecord) {
+        if (!this.dayListMembers.add(memberRecord.id())) {
+            return;
+        }
         this.dayLists.get(requireNonNull(memberRecord).member()
                                                       .getBirthday()
                                                       .getMonth())
@@ -211,66 +432,55 @@ class PdfHelper implements LambdaFunctionHelper {
         }
     }
 
-    private
-    void newFamilyDirectoryPage () throws IOException {
-        if (nonNull(this.familyDirectoryPage)) {
-            this.familyDirectoryPage.close();
-        }
-        this.familyDirectoryPage = new PDFamilyDirectoryPageHelper(this.familyDirectoryPdf, new PDPage(), this.familyDirectoryTitle, this.date, ++this.familyDirectoryPageNumber);
-        this.logger.log("Create Family Directory Page %d".formatted(this.familyDirectoryPageNumber), INFO);
+    @Nullable
+    private static
+    String getSpouseId (final @NotNull Map<String, AttributeValue> family) {
+        return ofNullable(family.get(FamilyTableParameter.SPOUSE.jsonFieldName())).map(AttributeValue::s)
+                                                                                  .filter(Predicate.not(String::isBlank))
+                                                                                  .orElse(null);
     }
 
-    private
-    void traverse (final @NotNull String id) throws IOException {
-        this.logger.log("Begin Processing Id: %s".formatted(id), INFO);
+    @NotNull
+    private static
+    List<String> getDescendantIds (final @NotNull Map<String, AttributeValue> family) {
+        return ofNullable(family.get(FamilyTableParameter.DESCENDANTS.jsonFieldName())).map(AttributeValue::ss)
+                                                                                       .stream()
+                                                                                       .flatMap(List::stream)
+                                                                                       .filter(Predicate.not(String::isBlank))
+                                                                                       .toList();
+    }
 
+    /**
+     * Only reads the prefetched indexes, so sections may call it concurrently
+     */
+    private @NotNull
+    FamilyBlock getFamilyBlock (final @NotNull String id) {
         final @NotNull Map<String, AttributeValue> family = this.retrieveFamily(id);
         final @NotNull Member member = requireNonNull(this.retrieveMember(id)).member();
-        final @Nullable Member spouse = ofNullable(this.retrieveMember(ofNullable(family.get(FamilyTableParameter.SPOUSE.jsonFieldName())).map(AttributeValue::s)
-                                                                                                                                          .filter(Predicate.not(String::isBlank))
-                                                                                                                                          .orElse(null))).map(MemberRecord::member)
-                                                                                                                                                         .orElse(null);
+        final @Nullable Member spouse = ofNullable(this.retrieveMember(getSpouseId(family))).map(MemberRecord::member)
+                                                                                            .orElse(null);
         final @NotNull List<Member> deadEndDescendants = new ArrayList<>();
         final @NotNull List<String> recursiveDescendantIds = new ArrayList<>();
         final @NotNull List<Map.Entry<String, Member>> descendants = new ArrayList<>();
-        ofNullable(family.get(FamilyTableParameter.DESCENDANTS.jsonFieldName())).map(AttributeValue::ss)
-                                                                                .filter(Predicate.not(List::isEmpty))
-                                                                                .ifPresent(ss -> ss.stream()
-                                                                                                   .filter(Predicate.not(String::isBlank))
-                                                                                                   .forEach(s -> descendants.add(Map.entry(s, this.retrieveMember(s)
-                                                                                                                                                  .member()))));
-
-        if (!descendants.isEmpty()) {
-            descendants.sort(DESCENDANT_COMPARATOR);
-            for (final Map.Entry<String, Member> descendant : descendants) {
-                final @NotNull Map<String, AttributeValue> descendantFamily = this.retrieveFamily(descendant.getKey());
-
-//          DEAD-END-DESCENDANTS ARE (A) NOT ADULTS & (B) DON'T HAVE DESCENDANTS
-                if (!descendant.getValue()
-                               .isAdult() && ofNullable(descendantFamily.get(FamilyTableParameter.DESCENDANTS.jsonFieldName())).map(AttributeValue::ss)
-                                                                                                                               .filter(Predicate.not(List::isEmpty))
-                                                                                                                               .isEmpty())
-                {
-                    deadEndDescendants.add(descendant.getValue());
-                } else {
-                    recursiveDescendantIds.add(descendant.getKey());
-                }
-            }
+        for (final String descendantId : getDescendantIds(family)) {
+            descendants.add(Map.entry(descendantId, requireNonNull(this.retrieveMember(descendantId)).member()));
         }
 
-        this.addFamily(member, spouse, (deadEndDescendants.isEmpty())
-                ? null
-                : deadEndDescendants, ofNullable(this.retrieveFamily(ROOT_MEMBER_ID)
-                                                     .get(FamilyTableParameter.DESCENDANTS.jsonFieldName())).map(AttributeValue::ss)
-                                                                                                            .filter(Predicate.not(List::isEmpty))
-                                                                                                            .filter(ss -> ss.contains(id))
-                                                                                                            .isPresent());
-
-        for (final String recursiveDescendant : recursiveDescendantIds) {
-            this.traverse(recursiveDescendant);
+        descendants.sort(DESCENDANT_COMPARATOR);
+        for (final Map.Entry<String, Member> descendant : descendants) {
+//      DEAD-END-DESCENDANTS ARE (A) NOT ADULTS & (B) DON'T HAVE DESCENDANTS
+            if (!descendant.getValue()
+                           .isAdult() && getDescendantIds(this.retrieveFamily(descendant.getKey())).isEmpty())
+            {
+                deadEndDescendants.add(descendant.getValue());
+            } else {
+                recursiveDescendantIds.add(descendant.getKey());
+            }
         }
 
-        this.logger.log("End Processing Id: %s".formatted(id), INFO);
+        return new FamilyBlock(member, spouse, (deadEndDescendants.isEmpty())
+                ? null
+                : deadEndDescendants, recursiveDescendantIds, getDescendantIds(this.retrieveFamily(ROOT_MEMBER_ID)).contains(id));
     }
 
     private @NotNull
@@ -278,29 +488,124 @@ class PdfHelper implements LambdaFunctionHelper {
         Optional.of(id)
                 .filter(Predicate.not(String::isBlank))
                 .orElseThrow();
-        if (!this.families.containsKey(id)) {
-            this.families.put(id, requireNonNull(this.getDdbItem(id, DdbTable.FAMILY)));
-        }
-        return this.families.get(id);
+        return requireNonNull(this.families.get(id));
     }
 
+    @SuppressFBWarnings({"EI_EXPOSE_REP", "EI_EXPOSE_REP2"})
     private
-    void addFamily (final @NotNull Member member, final @Nullable Member spouse, final @Nullable List<Member> descendants, final boolean startOfSection) throws IOException
-    {
-        try {
-            this.familyDirectoryPage.addBodyTextBlock(member, spouse, descendants, startOfSection);
-        } catch (final PDPageHelperModel.NewPageException e) {
+    record FamilyBlock(@NotNull Member member, @Nullable Member spouse, @Nullable List<Member> deadEndDescendants, @NotNull List<String> recursiveDescendantIds,
+                       boolean startOfSection) {
+    }
+
+    /**
+     * One branch of the directory laid out into its own document; its digest covers the title and every family block it shows, so a cached section with the
+     * same digest is interchangeable with a fresh layout. {@link #render(S3PdfSectionCache, Set)} runs on a worker thread
+     */
+    private final
+    class DirectorySection {
+        private final int sectionNumber;
+        private final boolean withRootFamily;
+        private final @Nullable String branchId;
+        private final @NotNull String digest;
+        private final @NotNull Set<String> memberIds = new HashSet<>();
+        private PDDocument pdf = null;
+        private PDFamilyDirectoryPageHelper familyDirectoryPage = null;
+        private int familyDirectoryPageNumber = 0;
+
+        DirectorySection (final int sectionNumber, final boolean withRootFamily, final @Nullable String branchId) {
+            super();
+            this.sectionNumber = sectionNumber;
+            this.withRootFamily = withRootFamily;
+            this.branchId = branchId;
+            final MessageDigest sectionDigest = newDigest();
+            updateDigest(sectionDigest, PdfHelper.this.familyDirectoryTitle);
+            if (withRootFamily) {
+                PdfHelper.this.digestFamilyBlock(sectionDigest, this.memberIds, ROOT_MEMBER_ID);
+            }
+            if (nonNull(branchId)) {
+                PdfHelper.this.digestFamilyBlocks(sectionDigest, this.memberIds, branchId);
+            }
+            this.digest = HexFormat.of()
+                                   .formatHex(sectionDigest.digest());
+        }
+
+        @NotNull
+        PDDocument render (final @NotNull S3PdfSectionCache sectionCache, final @NotNull Set<String> changedMemberIds) throws IOException {
+            if (Collections.disjoint(this.memberIds, changedMemberIds)) {
+                final PDDocument cachedPdf = sectionCache.get(this.digest, PdfHelper.this.sectionMemoryUsageSetting);
+                if (nonNull(cachedPdf)) {
+                    PdfHelper.this.sectionPdfs.add(cachedPdf);
+                    PdfHelper.this.logger.log("Reused Cached Family Directory Section %d `%s`".formatted(this.sectionNumber, this.digest), INFO);
+                    return cachedPdf;
+                }
+            }
+            final PDDocument renderedPdf = this.build();
+            sectionCache.put(this.digest, renderedPdf);
+            return renderedPdf;
+        }
+
+        @NotNull
+        private
+        PDDocument build () throws IOException {
+            this.pdf = new PDDocument(PdfHelper.this.sectionMemoryUsageSetting);
+            PdfHelper.this.sectionPdfs.add(this.pdf);
             this.newFamilyDirectoryPage();
+            if (this.withRootFamily) {
+                this.addFamily(PdfHelper.this.getFamilyBlock(ROOT_MEMBER_ID));
+            }
+            if (nonNull(this.branchId)) {
+                this.traverse(this.branchId);
+            }
+            this.familyDirectoryPage.close();
+            return this.pdf;
+        }
+
+        private
+        void newFamilyDirectoryPage () throws IOException {
+            if (nonNull(this.familyDirectoryPage)) {
+                this.familyDirectoryPage.close();
+            }
+            this.familyDirectoryPage = new PDFamilyDirectoryPageHelper(this.pdf, new PDPage(), PdfHelper.this.familyDirectoryTitle);
+            PdfHelper.this.logger.log("Create Family Directory Section %d Page %d".formatted(this.sectionNumber, ++this.familyDirectoryPageNumber), INFO);
+        }
+
+        private
+        void traverse (final @NotNull String id) throws IOException {
+            PdfHelper.this.logger.log("Begin Processing Id: %s".formatted(id), INFO);
+
+            final FamilyBlock familyBlock = PdfHelper.this.getFamilyBlock(id);
+            this.addFamily(familyBlock);
+
+            for (final String recursiveDescendant : familyBlock.recursiveDescendantIds()) {
+                this.traverse(recursiveDescendant);
+            }
+
+            PdfHelper.this.logger.log("End Processing Id: %s".formatted(id), INFO);
+        }
+
+        private
+        void addFamily (final @NotNull FamilyBlock familyBlock) throws IOException {
             try {
-                this.familyDirectoryPage.addBodyTextBlock(member, spouse, descendants, startOfSection);
-            } catch (final PDPageHelperModel.NewPageException x) {
-                final IOException thrown = new IOException(x);
-                thrown.addSuppressed(e);
-                throw thrown;
+                this.familyDirectoryPage.addBodyTextBlock(familyBlock.member(), familyBlock.spouse(), familyBlock.deadEndDescendants(), familyBlock.startOfSection());
+            } catch (final PDPageHelperModel.NewPageException e) {
+                this.newFamilyDirectoryPage();
+                try {
+                    this.familyDirectoryPage.addBodyTextBlock(familyBlock.member(), familyBlock.spouse(), familyBlock.deadEndDescendants(), familyBlock.startOfSection());
+                } catch (final PDPageHelperModel.NewPageException x) {
+                    final IOException thrown = new IOException(x);
+                    thrown.addSuppressed(e);
+                    throw thrown;
+                }
             }
         }
     }
 
+    @Override
+    public @NotNull
+    String getRootMemberSurname () {
+        return this.rootMemberSurname;
+    }
+
     @Override
     public @NotNull
     LambdaLogger getLogger () {
@@ -317,12 +622,8 @@ class PdfHelper implements LambdaFunctionHelper {
     @Override
     public
     void close () {
-        final Deque<Exception> closeExceptions = new ArrayDeque<>(3);
-        try {
-            LambdaFunctionHelper.super.close();
-        } catch (final Exception e) {
-            closeExceptions.push(e);
-        }
+        PDPageHelperModel.clearTextSpaceUnitsCache();
+        final Deque<Exception> closeExceptions = new ArrayDeque<>(2);
         try {
             this.familyDirectoryPdf.close();
         } catch (final Exception e) {
@@ -333,6 +634,13 @@ class PdfHelper implements LambdaFunctionHelper {
         } catch (final Exception e) {
             closeExceptions.push(e);
         }
+        for (final PDDocument sectionPdf : this.sectionPdfs) {
+            try {
+                sectionPdf.close();
+            } catch (final Exception e) {
+                closeExceptions.push(e);
+            }
+        }
         if (!closeExceptions.isEmpty()) {
             final RuntimeException closeException = new RuntimeException(closeExceptions.pop());
             closeExceptions.forEach(closeException::addSuppressed);
@@ -4,6 +4,14 @@ import java.io.Closeable;
 import java.io.IOException;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSName;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDPage;
 import org.apache.pdfbox.pdmodel.PDPageContentStream;
@@ -36,6 +44,15 @@ class PDPageHelperModel implements Closeable {
     protected static final PDFont TITLE_FONT = PDType1Font.HELVETICA_BOLD;
     protected static final PDFont SUBTITLE_FONT = PDType1Font.HELVETICA_OBLIQUE;
     protected static final PDBorderStyleDictionary INVISIBLE_BORDER;
+    /**
+     * The only entries of a Standard 14 font's dictionary; such fonts are fully identified by them
+     */
+    private static final Set<COSName> STANDARD_FONT_KEYS = Set.of(COSName.TYPE, COSName.SUBTYPE, COSName.BASE_FONT, COSName.ENCODING);
+    /**
+     * Width of each string already measured, per font; every line is measured to fit its column, to size its block and again to place it, so only the first
+     * measurement walks the font's glyph metrics. Holds one render's text and fonts, and is cleared by {@link #clearTextSpaceUnitsCache()} when it finishes
+     */
+    private static final Map<PDFont, Map<String, Float>> TEXT_SPACE_UNITS_CACHE = new ConcurrentHashMap<>();
 
     static {
         INVISIBLE_BORDER = new PDBorderStyleDictionary();
@@ -48,28 +65,134 @@ class PDPageHelperModel implements Closeable {
     protected final @NotNull Location location = new Location(0.0f, 0.0f);
     protected final float bodyContentStartY;
     protected int currentColumn = 1;
+    private PDFont font = null;
 
     protected
-    PDPageHelperModel (final @NotNull PDDocument pdf, final @NotNull PDPage page, final @NotNull String title, final @NotNull LocalDate subtitle, final int pageNumber) throws IOException {
+    PDPageHelperModel (final @NotNull PDDocument pdf, final @NotNull PDPage page, final @NotNull String title) throws IOException {
         super();
         this.pdf = requireNonNull(pdf);
         this.page = requireNonNull(page);
         this.pdf.addPage(this.page);
         this.contents = new PDPageContentStream(this.pdf, this.page);
         this.addTitle(requireNonNull(title));
-        this.addSubtitle(requireNonNull(subtitle).format(DISPLAY_DATE_FORMATTER));
         this.addTopLine();
         this.bodyContentStartY = this.location.y - THREE_HALF_LINE_SPACING;
         this.addBottomLine();
         this.addColumnLines();
-        this.addPageNumber(pageNumber);
         this.initBody();
     }
 
+    /**
+     * Measures on a cache miss while holding the font's monitor, since the shared Standard 14 font singletons cache glyph widths in plain HashMaps
+     */
     protected static
     float getTextSpaceUnits (final @NotNull PDFont font, final @NotNull String text) throws IOException {
-        // https://javadoc.io/static/org.apache.pdfbox/pdfbox/2.0.30/org/apache/pdfbox/pdmodel/font/PDFont.html#getStringWidth-java.lang.String-
-        return font.getStringWidth(text) / TEXT_SPACE_UNITS;
+        final Map<String, Float> fontTextSpaceUnits = TEXT_SPACE_UNITS_CACHE.computeIfAbsent(font, ignored -> new ConcurrentHashMap<>());
+        final Float cachedTextSpaceUnits = fontTextSpaceUnits.get(text);
+        if (cachedTextSpaceUnits != null) {
+            return cachedTextSpaceUnits;
+        }
+        final float textSpaceUnits;
+        synchronized (font) {
+            // https://javadoc.io/static/org.apache.pdfbox/pdfbox/2.0.30/org/apache/pdfbox/pdmodel/font/PDFont.html#getStringWidth-java.lang.String-
+            textSpaceUnits = font.getStringWidth(text) / TEXT_SPACE_UNITS;
+        }
+        fontTextSpaceUnits.put(text, textSpaceUnits);
+        return textSpaceUnits;
+    }
+
+    /**
+     * Drops every measured width, so member text and fonts of a finished render are not kept across warm invocations
+     */
+    public static
+    void clearTextSpaceUnitsCache () {
+        TEXT_SPACE_UNITS_CACHE.clear();
+    }
+
+    /**
+     * Stamps every page of a finished document with the date it was generated, so pages laid out on earlier runs and cached read as part of this one
+     */
+    public static
+    void addSubtitles (final @NotNull PDDocument pdf, final @NotNull LocalDate subtitle) throws IOException {
+        final String subtitleText = subtitle.format(DISPLAY_DATE_FORMATTER);
+        final float subtitleWidth = getTextWidth(SUBTITLE_FONT, SUBTITLE_FONT_SIZE, subtitleText);
+        for (final PDPage page : pdf.getPages()) {
+            try (final PDPageContentStream contents = new PDPageContentStream(pdf, page, PDPageContentStream.AppendMode.APPEND, true, true)) {
+                contents.setFont(SUBTITLE_FONT, SUBTITLE_FONT_SIZE);
+                contents.beginText();
+                contents.newLineAtOffset(page.getMediaBox()
+                                             .getWidth() / 2.0f - subtitleWidth / 2.0f, page.getMediaBox()
+                                                                                            .getHeight() - TOP_BOTTOM_MARGIN - STANDARD_LINE_SPACING);
+                synchronized (SUBTITLE_FONT) {
+                    contents.showText(subtitleText);
+                }
+                contents.endText();
+            }
+        }
+    }
+
+    /**
+     * Stamps every page of a finished document with its page number, so pages laid out in separate documents and merged are numbered in their final order
+     */
+    public static
+    void addPageNumbers (final @NotNull PDDocument pdf) throws IOException {
+        int pageNumber = 0;
+        for (final PDPage page : pdf.getPages()) {
+            final String pageNum = "%d".formatted(++pageNumber);
+            final float pageNumWidth = getTextWidth(STANDARD_FONT, SUBTITLE_FONT_SIZE, pageNum);
+            try (final PDPageContentStream contents = new PDPageContentStream(pdf, page, PDPageContentStream.AppendMode.APPEND, true, true)) {
+                contents.setFont(STANDARD_FONT, SUBTITLE_FONT_SIZE);
+                contents.beginText();
+                contents.newLineAtOffset(page.getMediaBox()
+                                             .getWidth() / 2.0f - pageNumWidth / 2.0f, TOP_BOTTOM_MARGIN - TOP_BOTTOM_MARGIN / 2.0f);
+                synchronized (STANDARD_FONT) {
+                    contents.showText(pageNum);
+                }
+                contents.endText();
+            }
+        }
+    }
+
+    /**
+     * Points every page of a finished document at one dictionary per distinct Standard 14 font, and pages using the same fonts under the same names at one
+     * shared resource dictionary
+     * <p>
+     * Merging gives each section its own copy of every font, and each page carries its own resource dictionary; once nothing references the copies, the
+     * writer leaves them out
+     */
+    public static
+    void shareResources (final @NotNull PDDocument pdf) {
+        final Map<String, COSDictionary> fonts = new HashMap<>();
+        final Map<Map<COSName, COSBase>, COSDictionary> resources = new HashMap<>();
+        for (final PDPage page : pdf.getPages()) {
+            final COSDictionary pageResources = page.getCOSObject()
+                                                    .getCOSDictionary(COSName.RESOURCES);
+            if (pageResources == null) {
+                continue;
+            }
+            final COSDictionary pageFonts = pageResources.getCOSDictionary(COSName.FONT);
+            if (pageFonts == null) {
+                continue;
+            }
+            final Map<COSName, COSBase> pageFontMap = new LinkedHashMap<>();
+            for (final COSName fontName : pageFonts.keySet()) {
+                final COSBase font = pageFonts.getDictionaryObject(fontName);
+                if (font instanceof COSDictionary fontDictionary && STANDARD_FONT_KEYS.containsAll(fontDictionary.keySet()) &&
+                    fontDictionary.getDictionaryObject(COSName.ENCODING) instanceof COSName encoding)
+                {
+                    final String fontKey = "%s/%s/%s".formatted(fontDictionary.getNameAsString(COSName.SUBTYPE), fontDictionary.getNameAsString(COSName.BASE_FONT),
+                                                                encoding.getName());
+                    pageFontMap.put(fontName, fonts.computeIfAbsent(fontKey, ignored -> fontDictionary));
+                } else {
+                    pageFontMap.put(fontName, pageFonts.getItem(fontName));
+                }
+            }
+            pageFontMap.forEach(pageFonts::setItem);
+            if (pageResources.size() == 1) {
+                page.getCOSObject()
+                    .setItem(COSName.RESOURCES, resources.computeIfAbsent(Map.copyOf(pageFontMap), ignored -> pageResources));
+            }
+        }
     }
 
     protected static
@@ -123,7 +246,7 @@ class PDPageHelperModel implements Closeable {
     protected final
     void addTitle (final @NotNull String title) throws IOException {
         final float titleWidth = getTextWidth(TITLE_FONT, TITLE_FONT_SIZE, title);
-        this.contents.setFont(TITLE_FONT, TITLE_FONT_SIZE);
+        this.setFont(TITLE_FONT, TITLE_FONT_SIZE);
         this.location.x = this.centerX() - titleWidth / 2.0f;
         this.location.y = this.height() - TOP_BOTTOM_MARGIN;
         this.addColumnAgnosticText(title);
@@ -140,8 +263,25 @@ class PDPageHelperModel implements Closeable {
                         .getHeight();
     }
 
+    protected final
+    void setFont (final @NotNull PDFont font, final float fontSize) throws IOException {
+        this.contents.setFont(font, fontSize);
+        this.font = font;
+    }
+
+    /**
+     * PDFBox's Standard 14 fonts are shared singletons that cache encodings in plain HashMaps, and pages may be laid out concurrently, so showing text holds
+     * the current font's monitor
+     */
     protected final
     void addColumnAgnosticText (final @NotNull String line) throws IOException {
+        synchronized (requireNonNull(this.font)) {
+            this.showColumnAgnosticText(line);
+        }
+    }
+
+    private
+    void showColumnAgnosticText (final @NotNull String line) throws IOException {
         this.contents.beginText();
         this.contents.newLineAtOffset(this.location.x, this.location.y);
 
@@ -165,15 +305,6 @@ class PDPageHelperModel implements Closeable {
         this.contents.endText();
     }
 
-    protected final
-    void addSubtitle (final @NotNull String subtitle) throws IOException {
-        final float subtitleWidth = PDPageHelperModel.getTextWidth(SUBTITLE_FONT, SUBTITLE_FONT_SIZE, subtitle);
-        this.contents.setFont(SUBTITLE_FONT, SUBTITLE_FONT_SIZE);
-        this.location.x = this.centerX() - subtitleWidth / 2.0f;
-        this.location.y = this.height() - TOP_BOTTOM_MARGIN - STANDARD_LINE_SPACING;
-        this.addColumnAgnosticText(subtitle);
-    }
-
     protected final
     void addTopLine () throws IOException {
         this.location.x = LEFT_RIGHT_MARGIN;
@@ -192,16 +323,6 @@ class PDPageHelperModel implements Closeable {
         this.contents.stroke();
     }
 
-    protected final
-    void addPageNumber (final int pageNumber) throws IOException {
-        this.contents.setFont(STANDARD_FONT, SUBTITLE_FONT_SIZE);
-        final String pageNum = "%d".formatted(pageNumber);
-        final float pageNumWidth = getTextWidth(STANDARD_FONT, SUBTITLE_FONT_SIZE, pageNum);
-        this.location.x = this.centerX() - pageNumWidth / 2.0f;
-        this.location.y = TOP_BOTTOM_MARGIN - TOP_BOTTOM_MARGIN / 2.0f;
-        this.addColumnAgnosticText(pageNum);
-    }
-
     protected final
     void initBody () {
         this.location.x = LEFT_RIGHT_MARGIN;
@@ -253,7 +374,7 @@ class PDPageHelperModel implements Closeable {
     protected final
     void addColumnCenteredText (final @NotNull String line, final @NotNull PDFont font, final float defaultFontSize) throws IOException {
         final float fontSize = this.getColumnFittedFontSize(line, font, defaultFontSize);
-        this.contents.setFont(font, fontSize);
+        this.setFont(font, fontSize);
         final float columnCenterX = (this.currentColumn == 1 || this.currentColumn == this.maxColumns())
                 ? (this.columnWidth() - HALF_LINE_SPACING) / 2.0f
                 : (this.columnWidth() - STANDARD_LINE_SPACING) / 2.0f;
@@ -264,7 +385,7 @@ class PDPageHelperModel implements Closeable {
     protected final
     void addColumnRightJustifiedText (final @NotNull String line, final @NotNull PDFont font, final float defaultFontSize) throws IOException {
         final float fontSize = this.getColumnFittedFontSize(line, font, defaultFontSize);
-        this.contents.setFont(font, fontSize);
+        this.setFont(font, fontSize);
         final float columnRightX = (this.currentColumn == 1 || this.currentColumn == this.maxColumns())
                 ? this.columnWidth() - HALF_LINE_SPACING
                 : this.columnWidth() - STANDARD_LINE_SPACING;
@@ -0,0 +1,179 @@
+package org.familydirectory.assets.lambda.function.stream.IO;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jetbrains.annotations.NotNull;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchUploadException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+/**
+ * In-memory S3 holding objects and multipart uploads the way the service does: parts become an object only on completion, in part number order, and every part
+ * but the last must be at least 5 MiB
+ */
+final
+class FakeS3Client implements S3Client {
+    static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+    final Map<String, StoredObject> objects = new ConcurrentHashMap<>();
+    final Map<String, Upload> uploads = new ConcurrentHashMap<>();
+    final List<String> calls = Collections.synchronizedList(new ArrayList<>());
+    volatile int failPartNumber = 0;
+
+    private static
+    byte[] read (final @NotNull RequestBody requestBody) {
+        try (final InputStream in = requestBody.contentStreamProvider()
+                                               .newStream())
+        {
+            return in.readAllBytes();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public
+    PutObjectResponse putObject (final PutObjectRequest putObjectRequest, final RequestBody requestBody) {
+        this.calls.add("PutObject");
+        this.objects.put(putObjectRequest.key(), new StoredObject(read(requestBody), putObjectRequest.contentType(), putObjectRequest.metadata()));
+        return PutObjectResponse.builder()
+                                .build();
+    }
+
+    @Override
+    public
+    CreateMultipartUploadResponse createMultipartUpload (final CreateMultipartUploadRequest createMultipartUploadRequest) {
+        this.calls.add("CreateMultipartUpload");
+        final String uploadId = UUID.randomUUID()
+                                    .toString();
+        this.uploads.put(uploadId, new Upload(createMultipartUploadRequest.key(), createMultipartUploadRequest.contentType(), createMultipartUploadRequest.metadata(),
+                                              new ConcurrentHashMap<>()));
+        return CreateMultipartUploadResponse.builder()
+                                            .uploadId(uploadId)
+                                            .build();
+    }
+
+    @Override
+    public
+    UploadPartResponse uploadPart (final UploadPartRequest uploadPartRequest, final RequestBody requestBody) {
+        this.calls.add("UploadPart");
+        final Upload upload = this.getUpload(uploadPartRequest.uploadId());
+        if (uploadPartRequest.partNumber() == this.failPartNumber) {
+            throw S3Exception.builder()
+                             .statusCode(500)
+                             .message("InternalError")
+                             .build();
+        }
+        final byte[] part = read(requestBody);
+        if (part.length != uploadPartRequest.contentLength()) {
+            throw new IllegalStateException("part %d is %d bytes, declared %d".formatted(uploadPartRequest.partNumber(), part.length,
+                                                                                         uploadPartRequest.contentLength()));
+        }
+        upload.parts()
+              .put(uploadPartRequest.partNumber(), part);
+        return UploadPartResponse.builder()
+                                 .eTag("\"%d\"".formatted(uploadPartRequest.partNumber()))
+                                 .build();
+    }
+
+    @Override
+    public
+    CompleteMultipartUploadResponse completeMultipartUpload (final CompleteMultipartUploadRequest completeMultipartUploadRequest) {
+        this.calls.add("CompleteMultipartUpload");
+        final Upload upload = this.getUpload(completeMultipartUploadRequest.uploadId());
+        final List<CompletedPart> completedParts = completeMultipartUploadRequest.multipartUpload()
+                                                                                 .parts();
+        final ByteArrayOutputStream object = new ByteArrayOutputStream();
+        for (int i = 0; i < completedParts.size(); ++i) {
+            final CompletedPart completedPart = completedParts.get(i);
+            if (completedPart.partNumber() != i + 1 || !"\"%d\"".formatted(i + 1)
+                                                             .equals(completedPart.eTag()))
+            {
+                throw new IllegalStateException("part %d listed out of order or with a wrong ETag".formatted(completedPart.partNumber()));
+            }
+            final byte[] part = upload.parts()
+                                      .get(completedPart.partNumber());
+            if (i < completedParts.size() - 1 && part.length < MIN_PART_SIZE) {
+                throw new IllegalStateException("EntityTooSmall: part %d is %d bytes".formatted(completedPart.partNumber(), part.length));
+            }
+            object.writeBytes(part);
+        }
+        this.uploads.remove(completeMultipartUploadRequest.uploadId());
+        this.objects.put(upload.key(), new StoredObject(object.toByteArray(), upload.contentType(), upload.metadata()));
+        return CompleteMultipartUploadResponse.builder()
+                                              .build();
+    }
+
+    @Override
+    public
+    AbortMultipartUploadResponse abortMultipartUpload (final AbortMultipartUploadRequest abortMultipartUploadRequest) {
+        this.calls.add("AbortMultipartUpload");
+        this.getUpload(abortMultipartUploadRequest.uploadId());
+        this.uploads.remove(abortMultipartUploadRequest.uploadId());
+        return AbortMultipartUploadResponse.builder()
+                                           .build();
+    }
+
+    private @NotNull
+    Upload getUpload (final String uploadId) {
+        final Upload upload = this.uploads.get(uploadId);
+        if (upload == null) {
+            throw NoSuchUploadException.builder()
+                                       .statusCode(404)
+                                       .build();
+        }
+        return upload;
+    }
+
+    /**
+     * Parts uploaded so far to the only upload in progress, in part number order
+     */
+    @NotNull
+    List<Integer> uploadedPartSizes () {
+        final Upload upload = this.uploads.values()
+                                          .iterator()
+                                          .next();
+        return new TreeMap<>(upload.parts()).values()
+                                             .stream()
+                                             .map(part -> part.length)
+                                             .toList();
+    }
+
+    @Override
+    public
+    String serviceName () {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public
+    void close () {
+    }
+
+    record StoredObject(byte[] bytes, String contentType, Map<String, String> metadata) {
+    }
+
+    record Upload(String key, String contentType, Map<String, String> metadata, Map<Integer, byte[]> parts) {
+    }
+}
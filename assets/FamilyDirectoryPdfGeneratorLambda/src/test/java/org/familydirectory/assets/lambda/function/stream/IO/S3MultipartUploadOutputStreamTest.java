@@ -0,0 +1,148 @@
+package org.familydirectory.assets.lambda.function.stream.IO;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+import static org.familydirectory.assets.lambda.function.stream.IO.S3MultipartUploadOutputStream.PART_SIZE;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public
+class S3MultipartUploadOutputStreamTest {
+    private static final String BUCKET = "bucket";
+    private static final String KEY = "FamilyDirectory.zip";
+    private static final String CONTENT_TYPE = "application/zip";
+    private static final Map<String, String> METADATA = Map.of("content-hash", "0123456789abcdef");
+
+    private static
+    byte[] bytes (final int length) {
+        final byte[] bytes = new byte[length];
+        new Random(length).nextBytes(bytes);
+        return bytes;
+    }
+
+    private static @NotNull
+    S3MultipartUploadOutputStream open (final @NotNull FakeS3Client s3Client) {
+        return new S3MultipartUploadOutputStream(s3Client, BUCKET, KEY, CONTENT_TYPE, METADATA);
+    }
+
+    /**
+     * Writes {@code bytes} in chunks that never line up with {@link S3MultipartUploadOutputStream#PART_SIZE}, with single bytes in between
+     */
+    private static
+    void writeUnaligned (final @NotNull S3MultipartUploadOutputStream out, final byte @NotNull [] bytes) throws IOException {
+        final int chunk = 1024 * 1024 - 7;
+        int off = 0;
+        while (off < bytes.length) {
+            out.write(bytes[off++]);
+            final int len = Math.min(chunk, bytes.length - off);
+            out.write(bytes, off, len);
+            off += len;
+        }
+    }
+
+    private static
+    void assertStored (final @NotNull FakeS3Client s3Client, final byte @NotNull [] expected) {
+        final FakeS3Client.StoredObject object = s3Client.objects.get(KEY);
+        assertArrayEquals(expected, object.bytes());
+        assertEquals(CONTENT_TYPE, object.contentType());
+        assertEquals(METADATA, object.metadata());
+        assertTrue(s3Client.uploads.isEmpty());
+    }
+
+    @Test
+    public
+    void testSmallObjectIsPut () throws IOException {
+        final FakeS3Client s3Client = new FakeS3Client();
+        final byte[] expected = bytes(PART_SIZE - 1);
+        try (final S3MultipartUploadOutputStream out = open(s3Client)) {
+            writeUnaligned(out, expected);
+        }
+        assertStored(s3Client, expected);
+        assertEquals(List.of("PutObject"), s3Client.calls);
+    }
+
+    @Test
+    public
+    void testEmptyObjectIsPut () throws IOException {
+        final FakeS3Client s3Client = new FakeS3Client();
+        open(s3Client).close();
+        assertStored(s3Client, new byte[0]);
+        assertEquals(List.of("PutObject"), s3Client.calls);
+    }
+
+    @Test
+    public
+    void testExactlyOnePart () throws IOException {
+        final FakeS3Client s3Client = new FakeS3Client();
+        final byte[] expected = bytes(PART_SIZE);
+        try (final S3MultipartUploadOutputStream out = open(s3Client)) {
+            out.write(expected);
+        }
+        assertStored(s3Client, expected);
+        assertEquals(List.of("CreateMultipartUpload", "UploadPart", "CompleteMultipartUpload"), s3Client.calls);
+    }
+
+    @Test
+    public
+    void testPartBoundary () throws IOException {
+        final FakeS3Client s3Client = new FakeS3Client();
+        final byte[] expected = bytes(2 * PART_SIZE + 1);
+        try (final S3MultipartUploadOutputStream out = open(s3Client)) {
+            writeUnaligned(out, expected);
+            assertEquals(List.of(PART_SIZE), s3Client.uploadedPartSizes()
+                                                     .subList(0, 1));
+        }
+        assertStored(s3Client, expected);
+        assertEquals(List.of("CreateMultipartUpload", "UploadPart", "UploadPart", "UploadPart", "CompleteMultipartUpload"), s3Client.calls);
+    }
+
+    @Test
+    public
+    void testAbort () throws IOException {
+        final FakeS3Client s3Client = new FakeS3Client();
+        final S3MultipartUploadOutputStream out = open(s3Client);
+        writeUnaligned(out, bytes(PART_SIZE + 5));
+        out.abort();
+        out.close();
+        assertThrows(IOException.class, () -> out.write(0));
+        assertTrue(s3Client.objects.isEmpty());
+        assertTrue(s3Client.uploads.isEmpty());
+        // the part in flight may be canceled before it is sent
+        assertEquals("CreateMultipartUpload", s3Client.calls.getFirst());
+        assertEquals("AbortMultipartUpload", s3Client.calls.getLast());
+    }
+
+    @Test
+    public
+    void testAbortBeforeAnyPart () throws IOException {
+        final FakeS3Client s3Client = new FakeS3Client();
+        final S3MultipartUploadOutputStream out = open(s3Client);
+        out.write(bytes(5));
+        out.abort();
+        out.close();
+        assertTrue(s3Client.objects.isEmpty());
+        assertTrue(s3Client.calls.isEmpty());
+    }
+
+    @Test
+    public
+    void testFailedPartAbortsUpload () {
+        final FakeS3Client s3Client = new FakeS3Client();
+        s3Client.failPartNumber = 2;
+        final S3MultipartUploadOutputStream out = open(s3Client);
+        assertThrows(IOException.class, () -> {
+            try (out) {
+                writeUnaligned(out, bytes(3 * PART_SIZE));
+            }
+        });
+        assertTrue(s3Client.objects.isEmpty());
+        assertTrue(s3Client.uploads.isEmpty());
+        assertEquals("AbortMultipartUpload", s3Client.calls.getLast());
+    }
+}
@@ -0,0 +1,123 @@
+package org.familydirectory.assets.lambda.function.stream.helper.models;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.multipdf.PDFMergerUtility;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+import static org.familydirectory.assets.lambda.function.stream.helper.models.PDPageHelperModel.LEFT_RIGHT_MARGIN;
+import static org.familydirectory.assets.lambda.function.stream.helper.models.PDPageHelperModel.STANDARD_FONT;
+import static org.familydirectory.assets.lambda.function.stream.helper.models.PDPageHelperModel.STANDARD_FONT_SIZE;
+import static org.familydirectory.assets.lambda.function.stream.helper.models.PDPageHelperModel.STANDARD_LINE_SPACING;
+import static org.familydirectory.assets.lambda.function.stream.helper.models.PDPageHelperModel.TITLE_FONT;
+import static org.familydirectory.assets.lambda.function.stream.helper.models.PDPageHelperModel.TITLE_FONT_SIZE;
+import static org.familydirectory.assets.lambda.function.stream.helper.models.PDPageHelperModel.TOP_BOTTOM_MARGIN;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public
+class PDPageHelperModelTest {
+    private static final int SECTIONS = 8;
+    private static final int PAGES_PER_SECTION = 4;
+    private static final LocalDate DATE = LocalDate.of(2026, 1, 1);
+    /**
+     * HELVETICA, HELVETICA_BOLD and HELVETICA_OBLIQUE
+     */
+    private static final int STANDARD_FONTS_USED = 3;
+
+    /**
+     * Lays out {@link #SECTIONS} sections separately and merges them, stamping dates and page numbers as the generator does
+     */
+    private static
+    void buildDirectory (final @NotNull PDDocument directory, final @NotNull List<PDDocument> sections) throws IOException {
+        final PDFMergerUtility merger = new PDFMergerUtility();
+        for (int s = 0; s < SECTIONS; ++s) {
+            final PDDocument section = new PDDocument();
+            sections.add(section);
+            for (int p = 0; p < PAGES_PER_SECTION; ++p) {
+                final PDPage page = new PDPage(PDRectangle.LETTER);
+                section.addPage(page);
+                try (final PDPageContentStream contents = new PDPageContentStream(section, page)) {
+                    contents.beginText();
+                    contents.setFont(TITLE_FONT, TITLE_FONT_SIZE);
+                    contents.newLineAtOffset(LEFT_RIGHT_MARGIN, page.getMediaBox()
+                                                                    .getHeight() - TOP_BOTTOM_MARGIN);
+                    contents.showText("TEST FAMILY DIRECTORY");
+                    contents.setFont(STANDARD_FONT, STANDARD_FONT_SIZE);
+                    contents.newLineAtOffset(0.0f, -STANDARD_LINE_SPACING);
+                    contents.showText("Section %d, Member %d".formatted(s, p));
+                    contents.endText();
+                }
+            }
+            merger.appendDocument(directory, section);
+        }
+        PDPageHelperModel.addSubtitles(directory, DATE);
+        PDPageHelperModel.addPageNumbers(directory);
+    }
+
+    private static
+    byte[] save (final @NotNull PDDocument pdf) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        pdf.save(out);
+        return out.toByteArray();
+    }
+
+    private static
+    String text (final byte @NotNull [] pdf) throws IOException {
+        try (final PDDocument document = PDDocument.load(pdf)) {
+            return new PDFTextStripper().getText(document);
+        }
+    }
+
+    private static
+    int distinctFonts (final @NotNull PDDocument pdf) {
+        final Set<COSBase> fonts = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (final PDPage page : pdf.getPages()) {
+            final COSDictionary pageFonts = page.getCOSObject()
+                                                .getCOSDictionary(COSName.RESOURCES)
+                                                .getCOSDictionary(COSName.FONT);
+            for (final COSName fontName : pageFonts.keySet()) {
+                fonts.add(pageFonts.getDictionaryObject(fontName));
+            }
+        }
+        return fonts.size();
+    }
+
+    @Test
+    public
+    void testShareResourcesShrinksBundle () throws IOException {
+        final List<PDDocument> sections = new ArrayList<>();
+        try (final PDDocument unshared = new PDDocument(); final PDDocument shared = new PDDocument()) {
+            buildDirectory(unshared, sections);
+            buildDirectory(shared, sections);
+            assertTrue(distinctFonts(shared) > STANDARD_FONTS_USED);
+
+            PDPageHelperModel.shareResources(shared);
+            assertEquals(STANDARD_FONTS_USED, distinctFonts(shared));
+
+            final byte[] unsharedBytes = save(unshared);
+            final byte[] sharedBytes = save(shared);
+            assertTrue(sharedBytes.length < unsharedBytes.length, "shared %d bytes, unshared %d bytes".formatted(sharedBytes.length, unsharedBytes.length));
+            assertEquals(SECTIONS * PAGES_PER_SECTION, shared.getNumberOfPages());
+            assertEquals(text(unsharedBytes), text(sharedBytes));
+        } finally {
+            for (final PDDocument section : sections) {
+                section.close();
+            }
+        }
+    }
+}
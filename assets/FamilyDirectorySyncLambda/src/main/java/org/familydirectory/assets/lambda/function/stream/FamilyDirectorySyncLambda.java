@@ -19,6 +19,7 @@ import java.util.stream.Collectors;
 import org.familydirectory.assets.ddb.enums.DdbTable;
 import org.familydirectory.assets.ddb.enums.member.MemberTableParameter;
 import org.familydirectory.assets.ddb.enums.sync.SyncTableParameter;
+import org.familydirectory.assets.ddb.utils.DdbUtils;
 import org.familydirectory.assets.lambda.function.stream.helper.SyncHelper;
 import org.familydirectory.assets.lambda.function.utility.LambdaUtils;
 import org.jetbrains.annotations.NotNull;
@@ -107,9 +108,10 @@ class FamilyDirectorySyncLambda implements RequestHandler<DynamodbEvent, Void> {
                 transactionItems.add(TransactWriteItem.builder().update(latestTokenUpdate).build());
             }
 
-            // create thisToken
+            // create thisToken, appended to the SyncLog index
             final Map<String, AttributeValue> thisTokenMap = Map.of(
                 SyncTableParameter.ID.jsonFieldName(), AttributeValue.fromS(thisToken.toString()),
+                SyncTableParameter.LOG.jsonFieldName(), AttributeValue.fromS(DdbUtils.SYNC_LOG_PARTITION),
                 SyncTableParameter.MEMBERS.jsonFieldName(), AttributeValue.fromSs(updatedMembers.stream().map(UUID::toString).toList())
             );
             final Put thisTokenPut = Put.builder()
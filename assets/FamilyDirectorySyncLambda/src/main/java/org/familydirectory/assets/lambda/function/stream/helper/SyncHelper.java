@@ -6,6 +6,7 @@ import java.time.temporal.TemporalAmount;
 import org.familydirectory.assets.ddb.utils.DdbUtils;
 import org.familydirectory.assets.lambda.function.helper.LambdaFunctionHelper;
 import org.familydirectory.assets.lambda.function.utility.LambdaUtils;
+import org.familydirectory.assets.lambda.function.utility.SdkClientRegistry;
 import org.jetbrains.annotations.NotNull;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import static java.lang.Long.parseLong;
@@ -18,7 +19,7 @@ class SyncHelper implements LambdaFunctionHelper {
     public static final TemporalAmount SYNC_TOKEN_TTL = ofDays(parseLong(requireNonNull(getenv(LambdaUtils.EnvVar.SYNC_TOKEN_DURATION_DAYS.name()))));
     public static final String LATEST = DdbUtils.SYNC_TOKEN_LATEST.toString();
 
-    private final @NotNull DynamoDbClient dynamoDbClient = DynamoDbClient.create();
+    private final @NotNull DynamoDbClient dynamoDbClient = SdkClientRegistry.getSdkClient(DynamoDbClient.class);
     private final @NotNull LambdaLogger logger;
 
     public
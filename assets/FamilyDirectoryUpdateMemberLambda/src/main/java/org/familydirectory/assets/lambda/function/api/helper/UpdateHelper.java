@@ -5,34 +5,33 @@ import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Predicate;
 import org.familydirectory.assets.ddb.enums.DdbTable;
-import org.familydirectory.assets.ddb.enums.cognito.CognitoTableParameter;
 import org.familydirectory.assets.ddb.enums.family.FamilyTableParameter;
 import org.familydirectory.assets.ddb.enums.member.MemberTableParameter;
+import org.familydirectory.assets.ddb.enums.outbox.OutboxTask;
 import org.familydirectory.assets.ddb.member.Member;
 import org.familydirectory.assets.ddb.models.member.MemberRecord;
 import org.familydirectory.assets.ddb.utils.DdbUtils;
 import org.familydirectory.assets.lambda.function.api.models.UpdateEvent;
 import org.familydirectory.assets.lambda.function.utility.LambdaUtils;
 import org.jetbrains.annotations.NotNull;
-import software.amazon.awscdk.services.dynamodb.GlobalSecondaryIndexProps;
-import software.amazon.awssdk.services.cognitoidentityprovider.CognitoIdentityProviderClient;
-import software.amazon.awssdk.services.cognitoidentityprovider.model.AdminDeleteUserRequest;
-import software.amazon.awssdk.services.cognitoidentityprovider.model.AttributeType;
-import software.amazon.awssdk.services.cognitoidentityprovider.model.ListUsersRequest;
-import software.amazon.awssdk.services.cognitoidentityprovider.model.ListUsersResponse;
-import software.amazon.awssdk.services.cognitoidentityprovider.model.UserType;
+import org.jetbrains.annotations.Nullable;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
-import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
-import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
-import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
-import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.CancellationReason;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+import software.amazon.awssdk.services.dynamodb.model.Update;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
 import static com.amazonaws.services.lambda.runtime.logging.LogLevel.DEBUG;
 import static com.amazonaws.services.lambda.runtime.logging.LogLevel.INFO;
 import static com.amazonaws.services.lambda.runtime.logging.LogLevel.WARN;
@@ -40,7 +39,6 @@ import static java.lang.System.getenv;
 import static java.util.Collections.singletonMap;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
-import static java.util.Objects.requireNonNull;
 import static org.apache.http.HttpStatus.SC_BAD_REQUEST;
 import static org.apache.http.HttpStatus.SC_CONFLICT;
 import static org.apache.http.HttpStatus.SC_FORBIDDEN;
@@ -49,9 +47,7 @@ import static org.apache.http.HttpStatus.SC_OK;
 
 public final
 class UpdateHelper extends ApiHelper {
-    private static final @NotNull String USER_POOL_ID = requireNonNull(getenv(LambdaUtils.EnvVar.COGNITO_USER_POOL_ID.name()));
     private final @NotNull ObjectMapper objectMapper = new ObjectMapper();
-    private final @NotNull CognitoIdentityProviderClient cognitoClient = CognitoIdentityProviderClient.create();
 
     public
     UpdateHelper (final @NotNull LambdaLogger logger, final @NotNull APIGatewayProxyRequestEvent requestEvent) {
@@ -80,41 +76,23 @@ class UpdateHelper extends ApiHelper {
 
         final MemberRecord ddbMemberRecord = MemberRecord.convertDdbMap(ddbMemberMap);
 
-        boolean shouldDeleteCognito = false;
         final String updateMemberEmail = updateEvent.member()
                                                     .getEmail();
-        if (nonNull(updateMemberEmail) && !updateMemberEmail.equals(ddbMemberRecord.member().getEmail())) {
-            final GlobalSecondaryIndexProps emailGsiProps = requireNonNull(MemberTableParameter.EMAIL.gsiProps());
-            final var emailGsiPK = requireNonNull(emailGsiProps.getPartitionKey());
-            final QueryRequest emailRequest = QueryRequest.builder()
-                                                          .tableName(DdbTable.MEMBER.name())
-                                                          .indexName(emailGsiProps.getIndexName())
-                                                          .keyConditionExpression("%s = :email".formatted(emailGsiPK.getName()))
-                                                          .expressionAttributeValues(singletonMap(":email", AttributeValue.fromS(updateMemberEmail)))
-                                                          .limit(1)
-                                                          .build();
-            final QueryResponse emailResponse = this.dynamoDbClient.query(emailRequest);
-            if (!emailResponse.items()
-                              .isEmpty())
-            {
-                final String emailResponseMemberId = emailResponse.items()
-                                                                  .getFirst()
-                                                                  .get(MemberTableParameter.ID.jsonFieldName())
-                                                                  .s();
-                this.logger.log("<MEMBER,`%s`> Requested Update For <MEMBER,`%s`>, but <MEMBER,`%s`> Already Claims <EMAIL,`%s`>".formatted(caller.caller().id().toString(), updateEvent.id(), emailResponseMemberId,
-                                                                                                                                            updateMemberEmail), WARN);
-                throw new ResponseException(new APIGatewayProxyResponseEvent().withStatusCode(SC_CONFLICT)
-                                                                              .withBody("EMAIL Already Registered With Another Member"));
-            }
-            shouldDeleteCognito = true;
-        }
+        final boolean shouldDeleteCognito = nonNull(updateMemberEmail) && !updateMemberEmail.equals(ddbMemberRecord.member().getEmail());
 
         final boolean ddbMemberIsSuperAdult = ddbMemberRecord.member().getAge() >= DdbUtils.AGE_OF_SUPER_MAJORITY;
-        return new EventWrapper(updateEvent, ddbMemberRecord, ddbMemberIsSuperAdult, shouldDeleteCognito);
+        final String ddbMemberEtag = Optional.ofNullable(ddbMemberMap.get(MemberTableParameter.ETAG.jsonFieldName()))
+                                             .map(AttributeValue::s)
+                                             .orElse(null);
+        return new EventWrapper(updateEvent, ddbMemberRecord, ddbMemberEtag, ddbMemberIsSuperAdult, shouldDeleteCognito);
     }
 
+    /**
+     * Only attributes that differ from the stored Member are written, on condition that the stored ETAG is still the one read by
+     * {@link #getUpdateEvent(Caller)}, so a concurrent update fails with {@link ConditionalCheckFailedException} instead of being overwritten
+     */
     public @NotNull
-    PutItemRequest getPutRequest (final @NotNull Caller caller, final @NotNull EventWrapper eventWrapper) throws ResponseException {
+    UpdateItemRequest getUpdateRequest (final @NotNull Caller caller, final @NotNull EventWrapper eventWrapper) throws ResponseException {
         if (caller.isAdmin()) {
             this.logger.log("ADMIN <MEMBER,`%s`> update <MEMBER,`%s`>".formatted(caller.caller().id().toString(), eventWrapper.updateEvent().id()), INFO);
         } else if (caller.caller().id().toString().equals(eventWrapper.updateEvent().id())) {
@@ -147,91 +125,153 @@ class UpdateHelper extends ApiHelper {
             eventWrapper.ddbMemberRecord().familyId()
         ));
 
+        final Map<String, AttributeValue> ddbItem = Member.retrieveDdbMap(eventWrapper.ddbMemberRecord());
+
         this.logger.log(Member.convertDdbMap(item)
                               .toString(), DEBUG);
 
-        return PutItemRequest.builder()
-                             .tableName(DdbTable.MEMBER.name())
-                             .item(item)
-                             .build();
-    }
+        final Map<String, String> expressionAttributeNames = new HashMap<>();
+        final Map<String, AttributeValue> expressionAttributeValues = new HashMap<>();
+        final List<String> setActions = new ArrayList<>();
+        final List<String> removeActions = new ArrayList<>();
+        for (final MemberTableParameter param : MemberTableParameter.values()) {
+            switch (param) {
+                case ID, FAMILY_ID -> {
+                }
+                default -> {
+                    final String name = param.jsonFieldName();
+                    final AttributeValue value = item.get(name);
+                    if (isNull(value)) {
+                        if (ddbItem.containsKey(name)) {
+                            expressionAttributeNames.put("#%s".formatted(name), name);
+                            removeActions.add("#%s".formatted(name));
+                        }
+                    } else if (!value.equals(ddbItem.get(name))) {
+                        expressionAttributeNames.put("#%s".formatted(name), name);
+                        expressionAttributeValues.put(":%s".formatted(name), value);
+                        setActions.add("#%s = :%s".formatted(name, name));
+                    }
+                }
+            }
+        }
 
-    public
-    void deleteCognitoAccountAndNotify(final String ddbMemberId, final String newEmail) {
-        final var notifyEmailAddresses = new HashSet<String>();
-        notifyEmailAddresses.add(newEmail);
-        final GlobalSecondaryIndexProps cognitoGsiProps = requireNonNull(CognitoTableParameter.MEMBER.gsiProps());
-        final var cognitoGsiPK = requireNonNull(cognitoGsiProps.getPartitionKey());
-        final QueryRequest cognitoMemberQueryRequest = QueryRequest.builder()
-                                                                   .tableName(DdbTable.COGNITO.name())
-                                                                   .indexName(cognitoGsiProps.getIndexName())
-                                                                   .keyConditionExpression("#memberId = :memberId")
-                                                                   .expressionAttributeNames(singletonMap("#memberId", cognitoGsiPK.getName()))
-                                                                   .expressionAttributeValues(singletonMap(":memberId", AttributeValue.fromS(ddbMemberId)))
-                                                                   .limit(1)
-                                                                   .build();
-        final QueryResponse cognitoMemberQueryResponse = this.dynamoDbClient.query(cognitoMemberQueryRequest);
-        if (!cognitoMemberQueryResponse.items()
-                                       .isEmpty())
-        {
-            final String ddbMemberCognitoSub = Optional.ofNullable(cognitoMemberQueryResponse.items().getFirst().get(CognitoTableParameter.ID.jsonFieldName()))
-                                                       .map(AttributeValue::s)
-                                                       .filter(Predicate.not(String::isBlank))
-                                                       .orElseThrow();
-
-            this.dynamoDbClient.deleteItem(DeleteItemRequest.builder()
-                                                            .tableName(DdbTable.COGNITO.name())
-                                                            .key(singletonMap(CognitoTableParameter.ID.jsonFieldName(), AttributeValue.fromS(ddbMemberCognitoSub)))
-                                                            .build());
-            this.logger.log("COGNITO Table Entry Deleted for <MEMBER,`%s`>: <COGNITO_SUB,`%s`>".formatted(ddbMemberId, ddbMemberCognitoSub), INFO);
-
-            final ListUsersRequest listUsersRequest = ListUsersRequest.builder()
-                                                                      .filter("sub = \"%s\"".formatted(ddbMemberCognitoSub))
-                                                                      .limit(1)
-                                                                      .userPoolId(USER_POOL_ID)
-                                                                      .build();
-            final UserType ddbMemberCognitoUser = Optional.ofNullable(this.cognitoClient.listUsers(listUsersRequest))
-                                                          .filter(ListUsersResponse::hasUsers)
-                                                          .map(ListUsersResponse::users)
-                                                          .map(List::getFirst)
-                                                          .orElseThrow();
-            final String ddbMemberCognitoUsername = Optional.of(ddbMemberCognitoUser)
-                                                            .map(UserType::username)
-                                                            .filter(Predicate.not(String::isBlank))
-                                                            .orElseThrow();
-            this.cognitoClient.adminDeleteUser(AdminDeleteUserRequest.builder()
-                                                                     .userPoolId(USER_POOL_ID)
-                                                                     .username(ddbMemberCognitoUsername)
-                                                                     .build());
-            this.logger.log("Cognito Account Deleted for <MEMBER,`%s`>: <USERNAME,`%s`>".formatted(ddbMemberId, ddbMemberCognitoUsername), INFO);
-
-            Optional.of(ddbMemberCognitoUser)
-                    .filter(UserType::hasAttributes)
-                    .map(UserType::attributes)
-                    .stream()
-                    .flatMap(List::stream)
-                    .filter(attr -> attr.name().equalsIgnoreCase("email"))
-                    .findFirst()
-                    .map(AttributeType::value)
-                    .filter(s -> s.contains("@"))
-                    .ifPresent(notifyEmailAddresses::add);
-            final String emailId = LambdaUtils.sendEmail(
-                notifyEmailAddresses.stream().toList(),
-                "Notice of Account Deletion",
-                "Your old account was deleted due to an email address change. Please sign up again with your new email."
-            );
-            this.logger.log("Sent Account Deletion Notice To <EMAIL's,`%s`>: <MESSAGE_ID,`%s`>".formatted(notifyEmailAddresses, emailId), INFO);
+        final String etagName = MemberTableParameter.ETAG.jsonFieldName();
+        expressionAttributeNames.put("#%s".formatted(etagName), etagName);
+        final String conditionExpression;
+        if (isNull(eventWrapper.ddbMemberEtag())) {
+            final String idName = MemberTableParameter.ID.jsonFieldName();
+            expressionAttributeNames.put("#%s".formatted(idName), idName);
+            conditionExpression = "attribute_exists(#%s) AND attribute_not_exists(#%s)".formatted(idName, etagName);
+        } else {
+            expressionAttributeValues.put(":ddbEtag", AttributeValue.fromS(eventWrapper.ddbMemberEtag()));
+            conditionExpression = "#%s = :ddbEtag".formatted(etagName);
         }
+
+        // LAST_MODIFIED is always written, so there is always a SET action; ETAG is only written when the content, and so the fingerprint, changes
+        final String updateExpression = removeActions.isEmpty()
+                ? "SET %s".formatted(String.join(", ", setActions))
+                : "SET %s REMOVE %s".formatted(String.join(", ", setActions), String.join(", ", removeActions));
+
+        return UpdateItemRequest.builder()
+                                .tableName(DdbTable.MEMBER.name())
+                                .key(singletonMap(MemberTableParameter.ID.jsonFieldName(), AttributeValue.fromS(eventWrapper.updateEvent().id())))
+                                .updateExpression(updateExpression)
+                                .conditionExpression(conditionExpression)
+                                .expressionAttributeNames(expressionAttributeNames)
+                                .expressionAttributeValues(expressionAttributeValues)
+                                .build();
     }
 
-    @Override
+    /**
+     * Writes {@code updateItemRequest}; when the EMAIL changes, it is written in one transaction with the claim of the new address and the release of the old
+     * one, so a Member can never be stored with an address another Member holds
+     * <p>
+     * Side effects of the update (deleting the Member's Cognito account after an EMAIL change, redeploying the Amplify app after a ROOT update) are enqueued in
+     * {@link DdbTable#OUTBOX} by the same transaction, and executed by the Outbox stream lambda after the update commits
+     */
     public
-    void close () {
-        super.close();
-        this.cognitoClient.close();
+    void executeUpdate (final @NotNull Caller caller, final @NotNull EventWrapper eventWrapper, final @NotNull UpdateItemRequest updateItemRequest) throws ResponseException {
+        final String memberId = eventWrapper.updateEvent()
+                                            .id();
+        final String newEmail = eventWrapper.updateEvent()
+                                            .member()
+                                            .getEmail();
+        final String oldEmail = eventWrapper.ddbMemberRecord()
+                                            .member()
+                                            .getEmail();
+        // ETAG repeats whenever content reverts, LAST_MODIFIED is new on every write
+        final String writeId = eventWrapper.updateEvent()
+                                           .member()
+                                           .getLastModified()
+                                           .toString();
+        final String callerId = caller.caller()
+                                      .id()
+                                      .toString();
+
+        final List<TransactWriteItem> sideTransactionItems = new ArrayList<>();
+        if (!Objects.equals(newEmail, oldEmail)) {
+            if (nonNull(newEmail)) {
+                sideTransactionItems.add(DdbUtils.claimEmail(newEmail, memberId));
+            }
+            if (nonNull(oldEmail)) {
+                sideTransactionItems.add(DdbUtils.releaseEmail(oldEmail, memberId));
+            }
+        }
+        if (eventWrapper.shouldDeleteCognito()) {
+            sideTransactionItems.add(DdbUtils.enqueueOutboxTask(OutboxTask.DELETE_ACCOUNT_EMAIL_CHANGED, memberId, writeId, newEmail, callerId));
+        }
+        if (memberId.equals(getenv(LambdaUtils.EnvVar.ROOT_ID.name()))) {
+            sideTransactionItems.add(DdbUtils.enqueueOutboxTask(OutboxTask.DEPLOY_ROOT_UPDATED, memberId, writeId, null, callerId));
+        }
+
+        if (sideTransactionItems.isEmpty()) {
+            try {
+                this.dynamoDbClient.updateItem(updateItemRequest);
+            } catch (final ConditionalCheckFailedException e) {
+                this.logger.log("<MEMBER,`%s`> update <MEMBER,`%s`> lost to a concurrent update".formatted(callerId, memberId), WARN);
+                throw new ResponseException(new APIGatewayProxyResponseEvent().withStatusCode(SC_CONFLICT));
+            }
+            return;
+        }
+
+        final List<TransactWriteItem> transactionItems = new ArrayList<>();
+        transactionItems.add(TransactWriteItem.builder()
+                                              .update(Update.builder()
+                                                            .tableName(updateItemRequest.tableName())
+                                                            .key(updateItemRequest.key())
+                                                            .updateExpression(updateItemRequest.updateExpression())
+                                                            .conditionExpression(updateItemRequest.conditionExpression())
+                                                            .expressionAttributeNames(updateItemRequest.expressionAttributeNames())
+                                                            .expressionAttributeValues(updateItemRequest.expressionAttributeValues())
+                                                            .build())
+                                              .build());
+        transactionItems.addAll(sideTransactionItems);
+        final TransactWriteItemsRequest transaction = TransactWriteItemsRequest.builder()
+                                                                               .transactItems(transactionItems)
+                                                                               .build();
+        this.logger.log(transaction.toString(), DEBUG);
+        try {
+            this.dynamoDbClient.transactWriteItems(transaction);
+        } catch (final TransactionCanceledException e) {
+            if (DdbUtils.isEmailClaimConflict(transaction, e)) {
+                this.logger.log("<MEMBER,`%s`> Requested Update For <MEMBER,`%s`>, but <EMAIL,`%s`> Already Claimed By Another Member".formatted(callerId, memberId, newEmail),
+                                WARN);
+                throw new ResponseException(new APIGatewayProxyResponseEvent().withStatusCode(SC_CONFLICT)
+                                                                              .withBody("EMAIL Already Registered With Another Member"));
+            }
+            if (e.hasCancellationReasons() && e.cancellationReasons()
+                                                .stream()
+                                                .map(CancellationReason::code)
+                                                .anyMatch("ConditionalCheckFailed"::equals))
+            {
+                this.logger.log("<MEMBER,`%s`> update <MEMBER,`%s`> lost to a concurrent update".formatted(callerId, memberId), WARN);
+                throw new ResponseException(new APIGatewayProxyResponseEvent().withStatusCode(SC_CONFLICT));
+            }
+            throw e;
+        }
     }
 
     public
-    record EventWrapper(@NotNull UpdateEvent updateEvent, @NotNull MemberRecord ddbMemberRecord, boolean ddbMemberIsSuperAdult, boolean shouldDeleteCognito) {
+    record EventWrapper(@NotNull UpdateEvent updateEvent, @NotNull MemberRecord ddbMemberRecord, @Nullable String ddbMemberEtag, boolean ddbMemberIsSuperAdult, boolean shouldDeleteCognito) {
     }
 }
@@ -2,8 +2,10 @@ package org.familydirectory.assets.ddb.enums;
 
 import java.util.List;
 import org.familydirectory.assets.ddb.enums.cognito.CognitoTableParameter;
+import org.familydirectory.assets.ddb.enums.email.EmailTableParameter;
 import org.familydirectory.assets.ddb.enums.family.FamilyTableParameter;
 import org.familydirectory.assets.ddb.enums.member.MemberTableParameter;
+import org.familydirectory.assets.ddb.enums.outbox.OutboxTableParameter;
 import org.familydirectory.assets.ddb.enums.sync.SyncTableParameter;
 import org.familydirectory.assets.ddb.models.DdbTableParameter;
 import org.jetbrains.annotations.NotNull;
@@ -12,8 +14,10 @@ import org.jetbrains.annotations.Nullable;
 public
 enum DdbTable {
     COGNITO("CognitoTable", List.of(CognitoTableParameter.values()), false, null),
+    EMAIL("EmailTable", List.of(EmailTableParameter.values()), false, null),
     FAMILY("FamilyTable", List.of(FamilyTableParameter.values()), false, null),
     MEMBER("MemberTable", List.of(MemberTableParameter.values()), true, null),
+    OUTBOX("OutboxTable", List.of(OutboxTableParameter.values()), true, OutboxTableParameter.TTL.jsonFieldName()),
     SYNC("SyncTable", List.of(SyncTableParameter.values()), false, SyncTableParameter.TTL.jsonFieldName());
 
     @NotNull
@@ -0,0 +1,59 @@
+package org.familydirectory.assets.ddb.enums.email;
+
+import org.familydirectory.assets.ddb.enums.DdbType;
+import org.familydirectory.assets.ddb.models.DdbTableParameter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import software.amazon.awscdk.services.dynamodb.GlobalSecondaryIndexProps;
+
+/**
+ * One item per claimed Member EMAIL, keyed by the address itself, so uniqueness is enforced by conditional writes in the same transaction as the Member
+ */
+public
+enum EmailTableParameter implements DdbTableParameter {
+    ID(DdbType.STR, DdbTableParameter.PK.getName(), null),
+    MEMBER(DdbType.STR, "member", null);
+
+    @NotNull
+    private final DdbType ddbType;
+
+    @NotNull
+    private final String jsonFieldName;
+
+    @Nullable
+    private final GlobalSecondaryIndexProps gsiProps;
+
+    EmailTableParameter (final @NotNull DdbType ddbType, final @NotNull String jsonFieldName, final @Nullable GlobalSecondaryIndexProps gsiProps) {
+        this.ddbType = ddbType;
+        this.jsonFieldName = jsonFieldName;
+        this.gsiProps = gsiProps;
+    }
+
+    @Override
+    @NotNull
+    public final
+    DdbType ddbType () {
+        return this.ddbType;
+    }
+
+    @Override
+    @NotNull
+    public final
+    String jsonFieldName () {
+        return this.jsonFieldName;
+    }
+
+    @Override
+    @NotNull
+    public
+    String toString () {
+        return this.jsonFieldName();
+    }
+
+    @Override
+    @Nullable
+    public final
+    GlobalSecondaryIndexProps gsiProps () {
+        return this.gsiProps;
+    }
+}
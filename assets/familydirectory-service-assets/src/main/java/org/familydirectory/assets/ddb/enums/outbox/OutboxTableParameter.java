@@ -0,0 +1,73 @@
+package org.familydirectory.assets.ddb.enums.outbox;
+
+import org.familydirectory.assets.ddb.enums.DdbType;
+import org.familydirectory.assets.ddb.models.DdbTableParameter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import software.amazon.awscdk.services.dynamodb.GlobalSecondaryIndexProps;
+
+/**
+ * One item per side effect of a Member write, put in the same transaction as the write and executed by the Outbox stream lambda
+ * <p>
+ * {@link #ID} is the idempotency key: {@link org.familydirectory.assets.ddb.utils.DdbUtils#enqueueOutboxTask} derives it from the task, the Member and the
+ * write, so a repeated write cannot enqueue its side effect twice. {@link #NOTIFY} records the addresses to notify once an account is deleted, so a retry can
+ * still send the notice after the account is gone
+ */
+public
+enum OutboxTableParameter implements DdbTableParameter {
+    ID(DdbType.STR, DdbTableParameter.PK.getName(), null),
+    TASK(DdbType.STR, "task", null),
+    MEMBER(DdbType.STR, "member", null),
+    EMAIL(DdbType.STR, "email", null),
+    CALLER(DdbType.STR, "caller", null),
+    ATTEMPTS(DdbType.NUM, "attempts", null),
+    ERROR(DdbType.STR, "error", null),
+    NOTIFY(DdbType.STR_SET, "notify", null),
+    NEXT_ATTEMPT(DdbType.STR, "nextAttempt", null),
+    DEFERRED(DdbType.STR, "deferred", null),
+    COMPLETED(DdbType.STR, "completed", null),
+    TTL(DdbType.NUM, "ttl", null);
+
+    @NotNull
+    private final DdbType ddbType;
+
+    @NotNull
+    private final String jsonFieldName;
+
+    @Nullable
+    private final GlobalSecondaryIndexProps gsiProps;
+
+    OutboxTableParameter (final @NotNull DdbType ddbType, final @NotNull String jsonFieldName, final @Nullable GlobalSecondaryIndexProps gsiProps) {
+        this.ddbType = ddbType;
+        this.jsonFieldName = jsonFieldName;
+        this.gsiProps = gsiProps;
+    }
+
+    @Override
+    @NotNull
+    public final
+    DdbType ddbType () {
+        return this.ddbType;
+    }
+
+    @Override
+    @NotNull
+    public final
+    String jsonFieldName () {
+        return this.jsonFieldName;
+    }
+
+    @Override
+    @NotNull
+    public
+    String toString () {
+        return this.jsonFieldName();
+    }
+
+    @Override
+    @Nullable
+    public final
+    GlobalSecondaryIndexProps gsiProps () {
+        return this.gsiProps;
+    }
+}
@@ -0,0 +1,20 @@
+package org.familydirectory.assets.ddb.enums.outbox;
+
+/**
+ * Side effects of Member writes that are executed asynchronously from {@link org.familydirectory.assets.ddb.enums.DdbTable#OUTBOX}
+ */
+public
+enum OutboxTask {
+    /**
+     * Delete the Cognito account of a Member whose EMAIL changed, notifying the old and new addresses
+     */
+    DELETE_ACCOUNT_EMAIL_CHANGED,
+    /**
+     * Delete the Cognito account of a deleted Member, notifying its address
+     */
+    DELETE_ACCOUNT_MEMBER_DELETED,
+    /**
+     * Redeploy the Amplify app after the ROOT Member changed
+     */
+    DEPLOY_ROOT_UPDATED
+}
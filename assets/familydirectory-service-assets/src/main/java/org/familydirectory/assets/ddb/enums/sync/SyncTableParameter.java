@@ -1,25 +1,46 @@
 package org.familydirectory.assets.ddb.enums.sync;
 
+import java.util.List;
 import org.familydirectory.assets.ddb.enums.DdbType;
 import org.familydirectory.assets.ddb.models.DdbTableParameter;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import software.amazon.awscdk.services.dynamodb.Attribute;
 import software.amazon.awscdk.services.dynamodb.GlobalSecondaryIndexProps;
+import static software.amazon.awscdk.services.dynamodb.AttributeType.STRING;
+import static software.amazon.awscdk.services.dynamodb.ProjectionType.INCLUDE;
 
 public
 enum SyncTableParameter implements DdbTableParameter {
-    ID(DdbType.STR, DdbTableParameter.PK.getName()),
-    NEXT(DdbType.STR, "next"),
-    MEMBERS(DdbType.STR_SET, "members"),
-    TTL(DdbType.NUM, "ttl");
+    ID(DdbType.STR, DdbTableParameter.PK.getName(), null),
+    NEXT(DdbType.STR, "next", null),
+    MEMBERS(DdbType.STR_SET, "members", null),
+    TTL(DdbType.NUM, "ttl", null),
+    /**
+     * Every token item carries the constant {@link org.familydirectory.assets.ddb.utils.DdbUtils#SYNC_LOG_PARTITION}, so the SyncLog index orders the whole log by
+     * (UUIDv7) id and a single Query can read everything after a given token
+     */
+    LOG(DdbType.STR, "log", GlobalSecondaryIndexProps.builder()
+                                                     .indexName("SyncLog")
+                                                     .partitionKey(Attribute.builder()
+                                                                            .name("log")
+                                                                            .type(STRING)
+                                                                            .build())
+                                                     .sortKey(DdbTableParameter.PK)
+                                                     .projectionType(INCLUDE)
+                                                     .nonKeyAttributes(List.of("members", "next"))
+                                                     .build());
 
     @NotNull private final DdbType ddbType;
     @NotNull
     private final String jsonFieldName;
+    @Nullable
+    private final GlobalSecondaryIndexProps gsiProps;
 
-    SyncTableParameter (final @NotNull DdbType ddbType, final @NotNull String jsonFieldName) {
+    SyncTableParameter (final @NotNull DdbType ddbType, final @NotNull String jsonFieldName, final @Nullable GlobalSecondaryIndexProps gsiProps) {
         this.ddbType = ddbType;
         this.jsonFieldName = jsonFieldName;
+        this.gsiProps = gsiProps;
     }
 
     @Override
@@ -44,6 +65,6 @@ enum SyncTableParameter implements DdbTableParameter {
     @Override
     public final @Nullable
     GlobalSecondaryIndexProps gsiProps () {
-        return null;
+        return this.gsiProps;
     }
 }
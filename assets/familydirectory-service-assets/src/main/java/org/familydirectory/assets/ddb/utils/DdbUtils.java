@@ -6,15 +6,33 @@ import com.google.i18n.phonenumbers.PhoneNumberUtil;
 import com.google.i18n.phonenumbers.Phonenumber;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import org.apache.commons.validator.routines.EmailValidator;
+import org.familydirectory.assets.ddb.enums.DdbTable;
+import org.familydirectory.assets.ddb.enums.email.EmailTableParameter;
+import org.familydirectory.assets.ddb.enums.outbox.OutboxTableParameter;
+import org.familydirectory.assets.ddb.enums.outbox.OutboxTask;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.CancellationReason;
+import software.amazon.awssdk.services.dynamodb.model.Delete;
+import software.amazon.awssdk.services.dynamodb.model.Put;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
 import static com.google.i18n.phonenumbers.PhoneNumberUtil.PhoneNumberFormat.INTERNATIONAL;
 import static java.time.Clock.systemUTC;
 import static java.time.LocalDate.now;
 import static java.time.Period.between;
 import static java.time.format.DateTimeFormatter.ofPattern;
+import static java.util.Collections.singletonMap;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNull;
 import static java.util.Optional.ofNullable;
 
 public
@@ -34,6 +52,111 @@ enum DdbUtils {
     public static final Number DDB_STREAM_BATCH_WINDOW_SECONDS = 60;
     public static final long SYNC_TOKEN_DURATION_DAYS = 90;
     public static final UUID SYNC_TOKEN_LATEST = UUIDUtil.nilUUID();
+    public static final String SYNC_LOG_PARTITION = "SYNC";
+    public static final int DDB_SCAN_TOTAL_SEGMENTS = 4;
+    // https://docs.aws.amazon.com/amazondynamodb/latest/APIReference/API_Scan.html#DDB-Scan-request-TotalSegments
+    public static final int DDB_SCAN_MAX_TOTAL_SEGMENTS = 1000000;
+    // https://docs.aws.amazon.com/amazondynamodb/latest/APIReference/API_BatchGetItem.html
+    public static final int DDB_BATCH_GET_MAX_KEYS = 100;
+    /**
+     * BatchGetItem calls per chunk of keys before keys DynamoDB keeps returning as UnprocessedKeys are treated as a failure
+     */
+    public static final int DDB_BATCH_GET_MAX_ATTEMPTS = 8;
+    public static final long DDB_BATCH_GET_RETRY_BASE_MILLIS = 50L;
+    public static final long DDB_BATCH_GET_RETRY_MAX_MILLIS = 2000L;
+    // https://docs.aws.amazon.com/amazondynamodb/latest/APIReference/API_BatchWriteItem.html
+    public static final int DDB_BATCH_WRITE_MAX_ITEMS = 25;
+    public static final int OUTBOX_MAX_ATTEMPTS = 5;
+    /**
+     * Delay before the second attempt of an OUTBOX item, doubling after each further failure up to {@link #OUTBOX_RETRY_MAX_SECONDS}
+     */
+    public static final long OUTBOX_RETRY_BASE_SECONDS = 15;
+    public static final long OUTBOX_RETRY_MAX_SECONDS = 300;
+    public static final long OUTBOX_RETENTION_DAYS = 14;
+
+    /**
+     * Claims {@code email} for {@code memberId} in {@link DdbTable#EMAIL}; the transaction is canceled if another Member already holds it
+     *
+     * @see #isEmailClaimConflict(TransactWriteItemsRequest, TransactionCanceledException)
+     */
+    public static @NotNull
+    TransactWriteItem claimEmail (final @NotNull String email, final @NotNull String memberId) {
+        return TransactWriteItem.builder()
+                                .put(Put.builder()
+                                        .tableName(DdbTable.EMAIL.name())
+                                        .item(Map.of(EmailTableParameter.ID.jsonFieldName(), AttributeValue.fromS(requireNonNull(email)), EmailTableParameter.MEMBER.jsonFieldName(),
+                                                     AttributeValue.fromS(requireNonNull(memberId))))
+                                        .conditionExpression("attribute_not_exists(#id) OR #member = :member")
+                                        .expressionAttributeNames(Map.of("#id", EmailTableParameter.ID.jsonFieldName(), "#member", EmailTableParameter.MEMBER.jsonFieldName()))
+                                        .expressionAttributeValues(singletonMap(":member", AttributeValue.fromS(memberId)))
+                                        .build())
+                                .build();
+    }
+
+    /**
+     * Releases {@code email} if {@code memberId} holds it; an address that was never claimed is released as a no-op, one held by another Member cancels the
+     * transaction
+     */
+    public static @NotNull
+    TransactWriteItem releaseEmail (final @NotNull String email, final @NotNull String memberId) {
+        return TransactWriteItem.builder()
+                                .delete(Delete.builder()
+                                              .tableName(DdbTable.EMAIL.name())
+                                              .key(singletonMap(EmailTableParameter.ID.jsonFieldName(), AttributeValue.fromS(requireNonNull(email))))
+                                              .conditionExpression("attribute_not_exists(#id) OR #member = :member")
+                                              .expressionAttributeNames(Map.of("#id", EmailTableParameter.ID.jsonFieldName(), "#member", EmailTableParameter.MEMBER.jsonFieldName()))
+                                              .expressionAttributeValues(singletonMap(":member", AttributeValue.fromS(requireNonNull(memberId))))
+                                              .build())
+                                .build();
+    }
+
+    /**
+     * Enqueues {@code task} for {@code memberId} in {@link DdbTable#OUTBOX}; {@code writeId} distinguishes writes to the same Member (e.g. the LAST_MODIFIED they write),
+     * and an item already enqueued for the same task, Member and write cancels the transaction
+     */
+    public static @NotNull
+    TransactWriteItem enqueueOutboxTask (final @NotNull OutboxTask task, final @NotNull String memberId, final @Nullable String writeId, final @Nullable String email,
+                                         final @NotNull String callerId)
+    {
+        final String id = isNull(writeId)
+                ? "%s#%s".formatted(task.name(), requireNonNull(memberId))
+                : "%s#%s#%s".formatted(task.name(), requireNonNull(memberId), writeId);
+        final Map<String, AttributeValue> item = new HashMap<>();
+        item.put(OutboxTableParameter.ID.jsonFieldName(), AttributeValue.fromS(id));
+        item.put(OutboxTableParameter.TASK.jsonFieldName(), AttributeValue.fromS(task.name()));
+        item.put(OutboxTableParameter.MEMBER.jsonFieldName(), AttributeValue.fromS(memberId));
+        item.put(OutboxTableParameter.CALLER.jsonFieldName(), AttributeValue.fromS(requireNonNull(callerId)));
+        item.put(OutboxTableParameter.ATTEMPTS.jsonFieldName(), AttributeValue.fromN("0"));
+        ofNullable(email).ifPresent(s -> item.put(OutboxTableParameter.EMAIL.jsonFieldName(), AttributeValue.fromS(s)));
+        return TransactWriteItem.builder()
+                                .put(Put.builder()
+                                        .tableName(DdbTable.OUTBOX.name())
+                                        .item(item)
+                                        .conditionExpression("attribute_not_exists(#id)")
+                                        .expressionAttributeNames(singletonMap("#id", OutboxTableParameter.ID.jsonFieldName()))
+                                        .build())
+                                .build();
+    }
+
+    /**
+     * @return whether {@code e} was caused by a {@link #claimEmail(String, String)} in {@code request} finding its address held by another Member
+     */
+    public static
+    boolean isEmailClaimConflict (final @NotNull TransactWriteItemsRequest request, final @NotNull TransactionCanceledException e) {
+        final List<TransactWriteItem> transactItems = request.transactItems();
+        final List<CancellationReason> cancellationReasons = e.cancellationReasons();
+        for (int i = 0; i < transactItems.size() && i < cancellationReasons.size(); ++i) {
+            final Put put = transactItems.get(i)
+                                         .put();
+            if (nonNull(put) && DdbTable.EMAIL.name()
+                                              .equals(put.tableName()) && "ConditionalCheckFailed".equals(cancellationReasons.get(i)
+                                                                                                                             .code()))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
 
     public static @NotNull
     String normalizePhoneNumber (final @NotNull String uncheckedPhoneNumber) {
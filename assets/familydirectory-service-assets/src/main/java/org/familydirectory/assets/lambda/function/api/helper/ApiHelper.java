@@ -3,32 +3,42 @@ package org.familydirectory.assets.lambda.function.api.helper;
 import com.amazonaws.services.lambda.runtime.LambdaLogger;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.fasterxml.uuid.impl.UUIDUtil;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.function.Predicate;
 import org.familydirectory.assets.ddb.enums.DdbTable;
 import org.familydirectory.assets.ddb.enums.cognito.CognitoTableParameter;
+import org.familydirectory.assets.ddb.enums.sync.SyncTableParameter;
 import org.familydirectory.assets.ddb.models.member.MemberRecord;
+import org.familydirectory.assets.ddb.utils.DdbUtils;
 import org.familydirectory.assets.lambda.function.helper.LambdaFunctionHelper;
 import org.familydirectory.assets.lambda.function.utility.LambdaUtils;
+import org.familydirectory.assets.lambda.function.utility.SdkClientRegistry;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
 import static com.amazonaws.services.lambda.runtime.logging.LogLevel.ERROR;
 import static com.amazonaws.services.lambda.runtime.logging.LogLevel.INFO;
+import static com.amazonaws.services.lambda.runtime.logging.LogLevel.WARN;
+import static com.fasterxml.uuid.UUIDType.TIME_BASED_EPOCH;
 import static java.util.Collections.singletonMap;
 import static java.util.Objects.requireNonNull;
 import static org.apache.http.HttpStatus.SC_UNAUTHORIZED;
 
 public abstract
 class ApiHelper implements LambdaFunctionHelper {
-    protected final @NotNull DynamoDbClient dynamoDbClient = DynamoDbClient.create();
+    protected final @NotNull DynamoDbClient dynamoDbClient = SdkClientRegistry.getSdkClient(DynamoDbClient.class);
     protected final @NotNull LambdaLogger logger;
     protected final @NotNull APIGatewayProxyRequestEvent requestEvent;
 
     protected Caller caller = null;
+    protected UUID latestSyncToken = null;
 
     public
     ApiHelper (final @NotNull LambdaLogger logger, final @NotNull APIGatewayProxyRequestEvent requestEvent) {
@@ -43,6 +53,7 @@ class ApiHelper implements LambdaFunctionHelper {
         if (this.caller != null) {
             return this.caller;
         }
+        final String callerSub;
         final MemberRecord caller;
         final boolean isCallerAdmin;
         try {
@@ -51,15 +62,22 @@ class ApiHelper implements LambdaFunctionHelper {
             final Map<String, Object> callerClaims = ((Map<String, Object>) ((Map<String, Object>) requireNonNull(this.getRequestEvent()).getRequestContext()
                                                                                                                                          .getAuthorizer()
                                                                                                                                          .get("jwt")).get("claims"));
-            final String callerSub = Optional.of(callerClaims)
-                                             .map(map -> map.get("sub"))
-                                             .map(Object::toString)
-                                             .filter(Predicate.not(String::isBlank))
-                                             .orElseThrow(NullPointerException::new);
+            callerSub = Optional.of(callerClaims)
+                                .map(map -> map.get("sub"))
+                                .map(Object::toString)
+                                .filter(Predicate.not(String::isBlank))
+                                .orElseThrow(NullPointerException::new);
 
             this.getLogger()
                 .log("<COGNITO_SUB,`%s`> Invoked".formatted(callerSub), INFO);
 
+            final Caller cachedCaller = this.getCachedCaller(callerSub);
+            if (cachedCaller != null) {
+                this.getLogger()
+                    .log("<MEMBER,`%s`> Authenticated (cached)".formatted(cachedCaller.caller().id()), INFO);
+                return this.caller = cachedCaller;
+            }
+
             final Map<String, AttributeValue> callerCognito = requireNonNull(this.getDdbItem(callerSub, DdbTable.COGNITO));
             isCallerAdmin = Optional.ofNullable(callerCognito.get(CognitoTableParameter.IS_ADMIN.jsonFieldName()))
                                     .map(AttributeValue::bool)
@@ -78,9 +96,70 @@ class ApiHelper implements LambdaFunctionHelper {
         this.getLogger()
             .log("<MEMBER,`%s`> Authenticated".formatted(caller.id()), INFO);
         this.caller = new Caller(caller, isCallerAdmin);
+        this.cacheCaller(callerSub, this.caller);
         return this.caller;
     }
 
+    /**
+     * @return LATEST token of the SYNC table, memoized for the rest of this invocation
+     */
+    @NotNull
+    public
+    UUID getLatestSyncToken () {
+        if (this.latestSyncToken != null) {
+            return this.latestSyncToken;
+        }
+        return this.latestSyncToken = Optional.ofNullable(this.getDdbItem(DdbUtils.SYNC_TOKEN_LATEST.toString(), DdbTable.SYNC))
+                                              .map(map -> map.get(SyncTableParameter.NEXT.jsonFieldName()))
+                                              .map(AttributeValue::s)
+                                              .map(UUID::fromString)
+                                              .filter(token -> TIME_BASED_EPOCH.equals(UUIDUtil.typeOf(token)))
+                                              .orElseThrow();
+    }
+
+    /**
+     * @return Caller previously resolved for this Cognito sub in this container, if it is still valid
+     *
+     * @see CallerCache
+     */
+    @Nullable
+    protected final
+    Caller getCachedCaller (final @NotNull String sub) {
+        final UUID syncToken = this.getCacheSyncToken();
+        return syncToken == null
+            ? null
+            : CallerCache.get(sub, syncToken);
+    }
+
+    /**
+     * @see CallerCache
+     */
+    protected final
+    void cacheCaller (final @NotNull String sub, final @NotNull Caller caller) {
+        final UUID syncToken = this.getCacheSyncToken();
+        if (syncToken != null) {
+            CallerCache.put(sub, syncToken, caller);
+        }
+    }
+
+    /**
+     * Without a valid SYNC LATEST token (e.g. before the first sync) nothing is served from or written to a container-scoped cache, Callers included
+     */
+    @Nullable
+    protected final
+    UUID getCacheSyncToken () {
+        try {
+            return this.getLatestSyncToken();
+        } catch (final NoSuchElementException e) {
+            this.getLogger()
+                .log("No SYNC LATEST Token, Bypassing Cache", INFO);
+            return null;
+        } catch (final RuntimeException e) {
+            LambdaUtils.logTrace(this.getLogger(), e, WARN);
+            return null;
+        }
+    }
+
     public final @NotNull
     APIGatewayProxyRequestEvent getRequestEvent () {
         return this.requestEvent;
@@ -107,6 +186,9 @@ class ApiHelper implements LambdaFunctionHelper {
      */
     public final
     boolean isMemberAdmin (final @NotNull String memberId) {
+        if (this.caller != null && this.caller.caller().id().toString().equals(memberId)) {
+            return this.caller.isAdmin();
+        }
         final QueryRequest queryRequest = QueryRequest.builder()
                                                       .tableName(DdbTable.COGNITO.name())
                                                       .indexName(requireNonNull(CognitoTableParameter.MEMBER.gsiProps()).getIndexName())
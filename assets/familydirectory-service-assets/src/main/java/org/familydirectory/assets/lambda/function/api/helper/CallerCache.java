@@ -0,0 +1,63 @@
+package org.familydirectory.assets.lambda.function.api.helper;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import static java.time.Clock.systemUTC;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Container-scoped cache of resolved {@link ApiHelper.Caller}s, keyed by Cognito sub
+ * <p>
+ * An entry is only served while it is younger than {@link #TTL} and the SYNC table's LATEST token still matches the token it was resolved under, so any Member
+ * change that reaches the SYNC table invalidates every cached Caller early; Cognito-only changes (e.g. admin grants) are bounded by {@link #TTL}
+ */
+final
+class CallerCache {
+    static final Duration TTL = Duration.ofSeconds(60);
+    static final int MAX_ENTRIES = 256;
+
+    private static final Map<String, Entry> CACHE = new LinkedHashMap<>(MAX_ENTRIES, 0.75f, true);
+
+    private
+    CallerCache () {
+        super();
+    }
+
+    @Nullable
+    static synchronized
+    ApiHelper.Caller get (final @NotNull String sub, final @NotNull UUID syncToken) {
+        final Entry entry = CACHE.get(requireNonNull(sub));
+        if (entry == null) {
+            return null;
+        }
+        if (!entry.syncToken().equals(syncToken) || !Instant.now(systemUTC()).isBefore(entry.expiresAt())) {
+            CACHE.remove(sub);
+            return null;
+        }
+        return entry.caller();
+    }
+
+    static synchronized
+    void put (final @NotNull String sub, final @NotNull UUID syncToken, final @NotNull ApiHelper.Caller caller) {
+        CACHE.put(requireNonNull(sub), new Entry(caller, syncToken, Instant.now(systemUTC()).plus(TTL)));
+        final var eldest = CACHE.keySet().iterator();
+        while (CACHE.size() > MAX_ENTRIES && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+        }
+    }
+
+    private
+    record Entry(@NotNull ApiHelper.Caller caller, @NotNull UUID syncToken, @NotNull Instant expiresAt) {
+        Entry {
+            requireNonNull(caller);
+            requireNonNull(syncToken);
+            requireNonNull(expiresAt);
+        }
+    }
+}
@@ -1,25 +1,45 @@
 package org.familydirectory.assets.lambda.function.helper;
 
 import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Predicate;
 import org.familydirectory.assets.ddb.enums.DdbTable;
 import org.familydirectory.assets.ddb.enums.member.MemberTableParameter;
 import org.familydirectory.assets.ddb.models.DdbTableParameter;
+import org.familydirectory.assets.ddb.utils.DdbUtils;
 import org.familydirectory.assets.lambda.function.utility.LambdaUtils;
+import org.familydirectory.assets.lambda.function.utility.SdkClientRegistry;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
 import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
 import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
 import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
 import software.amazon.awssdk.utils.SdkAutoCloseable;
 import static java.lang.System.getenv;
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonMap;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
 import static java.util.Objects.requireNonNull;
 import static java.util.Optional.ofNullable;
 
@@ -58,6 +78,73 @@ interface LambdaFunctionHelper extends SdkAutoCloseable {
                 : response.item();
     }
 
+    /**
+     * Reads every key of every table in {@code primaryKeys} with BatchGetItem, {@link DdbUtils#DDB_BATCH_GET_MAX_KEYS} keys per call, retrying UnprocessedKeys
+     * with jittered exponential backoff
+     *
+     * @return each table's found items keyed by primary key; keys without an item are absent
+     * @throws IllegalStateException when keys are still unprocessed after {@link DdbUtils#DDB_BATCH_GET_MAX_ATTEMPTS} calls
+     */
+    @NotNull
+    @Unmodifiable
+    default
+    Map<DdbTable, Map<String, Map<String, AttributeValue>>> batchGetDdbItems (final @NotNull Map<DdbTable, Set<String>> primaryKeys) {
+        final Map<DdbTable, Map<String, Map<String, AttributeValue>>> items = new EnumMap<>(DdbTable.class);
+        final List<Map.Entry<DdbTable, String>> keys = new ArrayList<>();
+        primaryKeys.forEach((ddbTable, tableKeys) -> {
+            items.put(ddbTable, new HashMap<>());
+            tableKeys.forEach(key -> keys.add(Map.entry(ddbTable, key)));
+        });
+        for (int from = 0; from < keys.size(); from += DdbUtils.DDB_BATCH_GET_MAX_KEYS) {
+            final Map<String, List<Map<String, AttributeValue>>> requestKeys = new HashMap<>();
+            for (final Map.Entry<DdbTable, String> key : keys.subList(from, Math.min(from + DdbUtils.DDB_BATCH_GET_MAX_KEYS, keys.size()))) {
+                requestKeys.computeIfAbsent(key.getKey()
+                                               .name(), tableName -> new ArrayList<>())
+                           .add(singletonMap(DdbTableParameter.PK.getName(), AttributeValue.fromS(key.getValue())));
+            }
+            final Map<String, KeysAndAttributes> requestItems = new HashMap<>();
+            requestKeys.forEach((tableName, tableKeys) -> requestItems.put(tableName, KeysAndAttributes.builder()
+                                                                                                       .keys(tableKeys)
+                                                                                                       .build()));
+            Map<String, KeysAndAttributes> unprocessedKeys = requestItems;
+            for (int attempt = 0; !unprocessedKeys.isEmpty(); ++attempt) {
+                if (attempt == DdbUtils.DDB_BATCH_GET_MAX_ATTEMPTS) {
+                    throw new IllegalStateException("BatchGetItem Left Keys of %s Unprocessed After %d Attempts".formatted(unprocessedKeys.keySet(), attempt));
+                }
+                if (attempt > 0) {
+                    backOffBatchGet(attempt);
+                }
+                final BatchGetItemResponse response = this.getDynamoDbClient()
+                                                          .batchGetItem(BatchGetItemRequest.builder()
+                                                                                           .requestItems(unprocessedKeys)
+                                                                                           .build());
+                response.responses()
+                        .forEach((tableName, tableItems) -> tableItems.forEach(item -> items.get(DdbTable.valueOf(tableName))
+                                                                                            .put(item.get(DdbTableParameter.PK.getName())
+                                                                                                     .s(), item)));
+                unprocessedKeys = response.unprocessedKeys();
+            }
+        }
+        items.replaceAll((ddbTable, tableItems) -> unmodifiableMap(tableItems));
+        return unmodifiableMap(items);
+    }
+
+    /**
+     * Sleeps a random time up to an exponentially growing, capped bound, so throttled callers retrying UnprocessedKeys spread out instead of retrying in step
+     */
+    private static
+    void backOffBatchGet (final int attempt) {
+        final long maxMillis = Math.min(DdbUtils.DDB_BATCH_GET_RETRY_MAX_MILLIS, DdbUtils.DDB_BATCH_GET_RETRY_BASE_MILLIS << attempt);
+        try {
+            Thread.sleep(ThreadLocalRandom.current()
+                                          .nextLong(maxMillis + 1L));
+        } catch (final InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
     @Nullable
     default
     List<Map<String, AttributeValue>> queryGsi (final @NotNull Map.Entry<String, String> attribute, final @NotNull String indexName, final @NotNull DdbTable ddbTable) {
@@ -74,13 +161,86 @@ interface LambdaFunctionHelper extends SdkAutoCloseable {
                        .orElse(null);
     }
 
+    /**
+     * Scans every table in {@code ddbTables} with {@link #getDdbScanTotalSegments()} parallel segments each, all segments of all tables running concurrently on virtual threads
+     *
+     * @return every item of each table, keyed by table
+     */
+    @NotNull
+    @Unmodifiable
+    default
+    Map<DdbTable, List<Map<String, AttributeValue>>> scanDdb (final @NotNull Set<DdbTable> ddbTables) {
+        final int totalSegments = this.getDdbScanTotalSegments();
+        final Map<DdbTable, List<Future<List<Map<String, AttributeValue>>>>> segmentFutures = new EnumMap<>(DdbTable.class);
+        try (final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (final DdbTable ddbTable : ddbTables) {
+                final List<Future<List<Map<String, AttributeValue>>>> futures = new ArrayList<>(totalSegments);
+                for (int segment = 0; segment < totalSegments; ++segment) {
+                    final int thisSegment = segment;
+                    futures.add(executor.submit(() -> this.scanDdbSegment(ddbTable, thisSegment, totalSegments)));
+                }
+                segmentFutures.put(ddbTable, futures);
+            }
+            final Map<DdbTable, List<Map<String, AttributeValue>>> items = new EnumMap<>(DdbTable.class);
+            for (final Map.Entry<DdbTable, List<Future<List<Map<String, AttributeValue>>>>> entry : segmentFutures.entrySet()) {
+                final List<Map<String, AttributeValue>> tableItems = new ArrayList<>();
+                for (final Future<List<Map<String, AttributeValue>>> future : entry.getValue()) {
+                    tableItems.addAll(future.get());
+                }
+                items.put(entry.getKey(), unmodifiableList(tableItems));
+            }
+            return unmodifiableMap(items);
+        } catch (final ExecutionException e) {
+            throw (e.getCause() instanceof RuntimeException cause)
+                    ? cause
+                    : new IllegalStateException(e.getCause());
+        } catch (final InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @NotNull
+    private
+    List<Map<String, AttributeValue>> scanDdbSegment (final @NotNull DdbTable ddbTable, final int segment, final int totalSegments) {
+        final List<Map<String, AttributeValue>> items = new ArrayList<>();
+        Map<String, AttributeValue> lastEvaluatedKey = emptyMap();
+        do {
+            final ScanRequest.Builder scanRequestBuilder = ScanRequest.builder()
+                                                                      .tableName(ddbTable.name())
+                                                                      .segment(segment)
+                                                                      .totalSegments(totalSegments);
+            if (!lastEvaluatedKey.isEmpty()) {
+                scanRequestBuilder.exclusiveStartKey(lastEvaluatedKey);
+            }
+            final ScanResponse scanResponse = this.getDynamoDbClient()
+                                                  .scan(scanRequestBuilder.build());
+            items.addAll(scanResponse.items());
+            lastEvaluatedKey = scanResponse.lastEvaluatedKey();
+        } while (!lastEvaluatedKey.isEmpty());
+        return items;
+    }
+
+    /**
+     * @see LambdaUtils.EnvVar#DDB_SCAN_TOTAL_SEGMENTS
+     */
+    default
+    int getDdbScanTotalSegments () {
+        return ofNullable(getenv(LambdaUtils.EnvVar.DDB_SCAN_TOTAL_SEGMENTS.name())).map(Integer::parseInt)
+                                                                                    .filter(totalSegments -> totalSegments > 0)
+                                                                                    .map(totalSegments -> Math.min(totalSegments, DdbUtils.DDB_SCAN_MAX_TOTAL_SEGMENTS))
+                                                                                    .orElse(DdbUtils.DDB_SCAN_TOTAL_SEGMENTS);
+    }
+
     @NotNull
     DynamoDbClient getDynamoDbClient ();
 
+    /**
+     * SDK clients come from {@link SdkClientRegistry} and outlive the helper, so there is nothing to close by default
+     */
     @Override
     default
     void close () {
-        this.getDynamoDbClient()
-            .close();
     }
 }
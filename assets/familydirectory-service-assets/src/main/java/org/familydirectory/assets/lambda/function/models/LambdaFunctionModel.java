@@ -62,4 +62,12 @@ interface LambdaFunctionModel {
     Number memorySize () {
         return 512;
     }
+
+    /**
+     * @return heap each PDFBox document may use before spilling to scratch files in /tmp, or null to keep documents entirely in memory
+     */
+    default @Nullable
+    Number pdfMaxMainMemoryMegabytes () {
+        return null;
+    }
 }
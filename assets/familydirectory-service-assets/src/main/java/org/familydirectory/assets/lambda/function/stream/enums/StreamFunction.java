@@ -12,9 +12,14 @@ import static java.util.Objects.requireNonNull;
 
 public
 enum StreamFunction implements LambdaFunctionModel {
-    PDF_GENERATOR("PdfGenerator", singletonList(DdbTable.MEMBER), Map.of(DdbTable.MEMBER, singletonList("dynamodb:GetItem"), DdbTable.FAMILY, singletonList("dynamodb:GetItem")),
-                  singletonList("s3:PutObject")),
-    SYNC("Sync", singletonList(DdbTable.MEMBER), Map.of(DdbTable.SYNC, List.of("dynamodb:GetItem", "dynamodb:PutItem", "dynamodb:UpdateItem")), null);
+    PDF_GENERATOR("PdfGenerator", singletonList(DdbTable.MEMBER),
+                  Map.of(DdbTable.MEMBER, singletonList("dynamodb:Scan"), DdbTable.FAMILY, singletonList("dynamodb:Scan"), DdbTable.SYNC, singletonList("dynamodb:GetItem")), null, null,
+                  List.of("s3:GetObject", "s3:PutObject", "s3:AbortMultipartUpload"), null),
+    SYNC("Sync", singletonList(DdbTable.MEMBER), Map.of(DdbTable.SYNC, List.of("dynamodb:GetItem", "dynamodb:PutItem", "dynamodb:UpdateItem")), null, null, null, null),
+    OUTBOX("Outbox", singletonList(DdbTable.OUTBOX),
+           Map.of(DdbTable.OUTBOX, List.of("dynamodb:GetItem", "dynamodb:UpdateItem"), DdbTable.COGNITO, List.of("dynamodb:DeleteItem", "dynamodb:Query"), DdbTable.MEMBER,
+                  singletonList("dynamodb:GetItem")), List.of("cognito-idp:AdminDeleteUser", "cognito-idp:ListUsers"), List.of("ses:SendEmail", "ses:SendRawEmail"), null,
+           List.of("amplify:GetApp", "amplify:StartJob", "amplify:UpdateApp"));
 
     @NotNull
     private final String functionName;
@@ -23,15 +28,25 @@ enum StreamFunction implements LambdaFunctionModel {
     @Nullable
     private final Map<DdbTable, List<String>> ddbActions;
     @Nullable
+    private final List<String> cognitoActions;
+    @Nullable
+    private final List<String> sesActions;
+    @Nullable
     private final List<String> sssActions;
+    @Nullable
+    private final List<String> amplifyActions;
 
     StreamFunction (final @NotNull String functionName, final @NotNull List<DdbTable> streamEventSources, final @Nullable Map<DdbTable, List<String>> ddbActions,
-                    final @Nullable List<String> sssActions)
+                    final @Nullable List<String> cognitoActions, final @Nullable List<String> sesActions, final @Nullable List<String> sssActions,
+                    final @Nullable List<String> amplifyActions)
     {
         this.functionName = "FamilyDirectory%sLambda".formatted(requireNonNull(functionName));
         this.streamEventSources = requireNonNull(streamEventSources);
         this.ddbActions = ddbActions;
+        this.cognitoActions = cognitoActions;
+        this.sesActions = sesActions;
         this.sssActions = sssActions;
+        this.amplifyActions = amplifyActions;
     }
 
     @Override
@@ -46,12 +61,30 @@ enum StreamFunction implements LambdaFunctionModel {
         return this.ddbActions;
     }
 
+    @Override
+    public @Nullable
+    List<String> cognitoActions () {
+        return this.cognitoActions;
+    }
+
+    @Override
+    public @Nullable
+    List<String> sesActions () {
+        return this.sesActions;
+    }
+
     @Override
     public @Nullable
     List<String> sssActions () {
         return this.sssActions;
     }
 
+    @Override
+    public @Nullable
+    List<String> amplifyActions () {
+        return this.amplifyActions;
+    }
+
     @Override
     public @NotNull
     String functionName () {
@@ -64,6 +97,15 @@ enum StreamFunction implements LambdaFunctionModel {
         return DdbUtils.DDB_STREAM_BATCH_WINDOW_SECONDS;
     }
 
+    @Override
+    public @Nullable
+    Number pdfMaxMainMemoryMegabytes () {
+        return switch (this) {
+            case PDF_GENERATOR -> 64;
+            case SYNC, OUTBOX -> null;
+        };
+    }
+
     public @NotNull
     List<DdbTable> streamEventSources () {
         return this.streamEventSources;
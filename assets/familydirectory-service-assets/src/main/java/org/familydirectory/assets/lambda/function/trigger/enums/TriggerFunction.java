@@ -11,8 +11,8 @@ import static java.util.Objects.requireNonNull;
 
 public
 enum TriggerFunction implements LambdaFunctionModel {
-    PRE_SIGN_UP("PreSignUp", Map.of(DdbTable.MEMBER, singletonList("dynamodb:Query"), DdbTable.COGNITO, singletonList("dynamodb:Query")), null, null),
-    POST_CONFIRMATION("PostConfirmation", Map.of(DdbTable.MEMBER, singletonList("dynamodb:Query"), DdbTable.COGNITO, List.of("dynamodb:GetItem", "dynamodb:PutItem")),
+    PRE_SIGN_UP("PreSignUp", Map.of(DdbTable.EMAIL, singletonList("dynamodb:GetItem"), DdbTable.COGNITO, singletonList("dynamodb:Query")), null, null),
+    POST_CONFIRMATION("PostConfirmation", Map.of(DdbTable.EMAIL, singletonList("dynamodb:GetItem"), DdbTable.COGNITO, List.of("dynamodb:GetItem", "dynamodb:PutItem")),
                       singletonList("cognito-idp:AdminDisableUser"), List.of("ses:SendEmail", "ses:SendRawEmail"));
 
     @NotNull
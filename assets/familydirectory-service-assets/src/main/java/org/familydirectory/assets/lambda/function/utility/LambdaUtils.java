@@ -22,9 +22,18 @@ import static java.util.Optional.ofNullable;
 public
 enum LambdaUtils {
     ;
+    /**
+     * Key prefix in the PDF bucket under which rendered directory sections are cached by content digest
+     */
+    public static final String S3_PDF_SECTION_KEY_PREFIX = "sections/";
 
     public static @NotNull
     String sendEmail (final @NotNull List<String> addresses, final @NotNull String subject, final @NotNull String body) {
+        return sendEmail(SdkClientRegistry.getSdkClient(SesV2Client.class), addresses, subject, body);
+    }
+
+    public static @NotNull
+    String sendEmail (final @NotNull SesV2Client sesClient, final @NotNull List<String> addresses, final @NotNull String subject, final @NotNull String body) {
         final Message message = Message.builder()
                                        .subject(Content.builder()
                                                        .data(subject)
@@ -35,18 +44,16 @@ enum LambdaUtils {
                                                               .build())
                                                  .build())
                                        .build();
-        try (final SesV2Client sesClient = SesV2Client.create()) {
-            return sesClient.sendEmail(SendEmailRequest.builder()
-                                                       .destination(Destination.builder()
-                                                                               .toAddresses(addresses)
-                                                                               .build())
-                                                       .content(EmailContent.builder()
-                                                                            .simple(message)
-                                                                            .build())
-                                                       .fromEmailAddress("no-reply@%s".formatted(getenv(EnvVar.HOSTED_ZONE_NAME.name())))
-                                                       .build())
-                            .messageId();
-        }
+        return sesClient.sendEmail(SendEmailRequest.builder()
+                                                   .destination(Destination.builder()
+                                                                           .toAddresses(addresses)
+                                                                           .build())
+                                                   .content(EmailContent.builder()
+                                                                        .simple(message)
+                                                                        .build())
+                                                   .fromEmailAddress("no-reply@%s".formatted(getenv(EnvVar.HOSTED_ZONE_NAME.name())))
+                                                   .build())
+                        .messageId();
     }
 
     public static
@@ -68,6 +75,8 @@ enum LambdaUtils {
         S3_PDF_BUCKET_NAME,
         AMPLIFY_APP_ID,
         AMPLIFY_BRANCH_NAME,
-        SYNC_TOKEN_DURATION_DAYS
+        SYNC_TOKEN_DURATION_DAYS,
+        DDB_SCAN_TOTAL_SEGMENTS,
+        PDF_MAX_MAIN_MEMORY_MEGABYTES
     }
 }
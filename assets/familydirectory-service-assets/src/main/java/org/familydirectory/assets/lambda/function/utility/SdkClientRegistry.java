@@ -0,0 +1,107 @@
+package org.familydirectory.assets.lambda.function.utility;
+
+import java.lang.reflect.InvocationTargetException;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jetbrains.annotations.NotNull;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.EnvironmentVariableCredentialsProvider;
+import software.amazon.awssdk.awscore.client.builder.AwsClientBuilder;
+import software.amazon.awssdk.core.SdkClient;
+import software.amazon.awssdk.core.SdkSystemSetting;
+import software.amazon.awssdk.core.client.builder.SdkSyncClientBuilder;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient;
+import software.amazon.awssdk.regions.Region;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Container-scoped SDK clients shared by every invocation of a lambda
+ * <p>
+ * Each client is built once, on first use, on one shared {@link UrlConnectionHttpClient}, so kept-alive connections and resolved credentials carry over
+ * between warm invocations. Region and credentials are read straight from the variables the Lambda runtime sets instead of probing the default provider chains.
+ * Clients live as long as the container and must not be closed by their users
+ */
+@ThreadSafe
+public final
+class SdkClientRegistry {
+    private static final Duration CONNECTION_TIMEOUT = Duration.ofSeconds(2);
+    private static final Duration SOCKET_TIMEOUT = Duration.ofSeconds(30);
+    @NotNull
+    private static final ConcurrentHashMap<Class<? extends SdkClient>, SdkClient> CLIENTS = new ConcurrentHashMap<>();
+
+    private
+    SdkClientRegistry () {
+        super();
+    }
+
+    @NotNull
+    public static
+    <T extends SdkClient> T getSdkClient (final @NotNull Class<T> clazz) {
+        return requireNonNull(clazz.cast(CLIENTS.computeIfAbsent(requireNonNull(clazz), SdkClientRegistry::newSdkClient)));
+    }
+
+    /**
+     * For clients the registry cannot build itself, e.g. presigners
+     */
+    @NotNull
+    public static
+    Region getRegion () {
+        return Shared.REGION;
+    }
+
+    /**
+     * For clients the registry cannot build itself, e.g. presigners
+     */
+    @NotNull
+    public static
+    AwsCredentialsProvider getCredentialsProvider () {
+        return Shared.CREDENTIALS_PROVIDER;
+    }
+
+    @NotNull
+    private static
+    SdkClient newSdkClient (final @NotNull Class<? extends SdkClient> clazz) {
+        final Object builder;
+        try {
+            builder = clazz.getMethod("builder")
+                           .invoke(null);
+        } catch (final NoSuchMethodException e) {
+            throw new IllegalArgumentException("%s Has No Method: builder".formatted(clazz.getName()), e);
+        } catch (final InvocationTargetException | IllegalAccessException e) {
+            throw new IllegalStateException("SdkClientRegistry Failed", e);
+        }
+        if (!(builder instanceof final AwsClientBuilder<?, ?> awsClientBuilder) || !(builder instanceof final SdkSyncClientBuilder<?, ?> syncClientBuilder)) {
+            throw new IllegalArgumentException("%s Is Not A Synchronous AWS Client".formatted(clazz.getName()));
+        }
+        syncClientBuilder.httpClient(Shared.HTTP_CLIENT);
+        awsClientBuilder.region(Shared.REGION);
+        awsClientBuilder.credentialsProvider(Shared.CREDENTIALS_PROVIDER);
+        return clazz.cast(awsClientBuilder.build());
+    }
+
+    /**
+     * Initialized on first use only, so merely loading the registry (e.g. from CDK code) reads no Lambda environment
+     */
+    private static final
+    class Shared {
+        /**
+         * HttpURLConnection keeps connections alive and pools them per host by default
+         */
+        @NotNull
+        static final SdkHttpClient HTTP_CLIENT = UrlConnectionHttpClient.builder()
+                                                                        .connectionTimeout(CONNECTION_TIMEOUT)
+                                                                        .socketTimeout(SOCKET_TIMEOUT)
+                                                                        .build();
+        @NotNull
+        static final Region REGION = Region.of(SdkSystemSetting.AWS_REGION.getStringValueOrThrow());
+        @NotNull
+        static final AwsCredentialsProvider CREDENTIALS_PROVIDER = EnvironmentVariableCredentialsProvider.create();
+
+        private
+        Shared () {
+            super();
+        }
+    }
+}